@@ -0,0 +1,134 @@
+package ssafy.i13e206;
+
+import java.util.ArrayList;
+import java.util.List;
+import ssafy.i13e206.interview.dto.ExpressionDto;
+import ssafy.i13e206.interview.dto.SegmentDto;
+import ssafy.i13e206.interview.entity.Question;
+
+/**
+ * 벤치마크 공용 한국어 입력 데이터. 실제 서비스에서 오가는 길이와 구성(이력서 요약, 답변 전사본, LLM 응답)을 흉내 냅니다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String ENTERPRISE_NAME = "현대오토에버";
+    public static final String POSITION = "SW플랫폼/모빌리티 백엔드 개발";
+    public static final String TASK = "차량 데이터 수집 플랫폼의 API 서버 설계 및 운영, 대용량 트래픽 처리와 장애 대응";
+
+    public static final String OCR_CONTEXT = """
+            [이력서]
+            SW플랫폼/모빌리티 1 지망 도메인 Backend 개발
+            삼성 청년 SW 아카데미 13기 수료 (Java 전공반)
+            팀 프로젝트에서 Spring Boot 기반 API 서버를 구축하고 Redis 캐시와 Kafka 비동기 처리를 도입해 응답 시간을 절반으로 줄임
+            JPA N+1 문제를 fetch join과 배치 사이즈 조정으로 해결하고, 슬로우 쿼리를 인덱스 재설계로 개선
+            정보처리기사, SQLD 취득 / 알고리즘 스터디 1년 운영
+            [포트폴리오]
+            AI 모의면접 서비스: 이력서와 포트폴리오를 바탕으로 GPT가 질문을 생성하고, 답변 영상을 STT로 분석해 피드백 제공
+            역할: 백엔드 리드, 인프라(EC2, Docker, Jenkins) 구성, WebSocket(STOMP) 기반 실시간 알림 구현
+            성과: 동시 접속 300명 부하 테스트 통과, 평균 응답 시간 180ms
+            [자기소개서]
+            저는 문제를 끝까지 파고드는 개발자입니다. 서비스 장애가 발생했을 때 로그와 메트릭을 근거로 원인을 좁혀 가며
+            팀원들과 재발 방지책을 문서화했고, 이 경험을 통해 안정적인 서비스 운영의 중요성을 배웠습니다.
+            """;
+
+    public static final String TRANSCRIPT = """
+            네, 저는 팀 프로젝트에서 백엔드 리드를 맡아 AI 모의면접 서비스를 개발했습니다. 처음에는 질문 생성 API가 평균 8초 정도 걸려서
+            사용자 이탈이 많았는데요, 원인을 분석해 보니 외부 LLM 호출을 동기적으로 기다리면서 톰캣 스레드가 모두 묶이는 문제가 있었습니다.
+            그래서 호출을 비동기로 바꾸고, 자주 조회되는 면접 세트 정보는 Redis에 캐시했으며, 영상 분석처럼 오래 걸리는 작업은 Kafka로 분리했습니다.
+            그 결과 동시 접속 300명 부하 테스트에서도 에러 없이 평균 응답 시간을 180밀리초 수준으로 유지할 수 있었습니다.
+            이 과정에서 모니터링 지표를 먼저 세우고 개선하는 습관이 생겼고, 입사 후에도 차량 데이터 플랫폼의 안정성을 높이는 데 기여하고 싶습니다.
+            """;
+
+    public static final String MAIN_QUESTION = "지원하신 모빌리티 도메인 백엔드 직무에서 대용량 트래픽을 처리했던 경험을 구체적으로 말씀해 주세요.";
+
+    public static final String QUESTION_JSON = """
+            {
+              "questions": [
+                {
+                  "id": "q1",
+                  "type": "competency",
+                  "question": "지원하신 모빌리티 도메인 백엔드 직무에서 대용량 트래픽을 처리했던 경험을 구체적으로 말씀해 주세요.",
+                  "intent": "실무 문제 해결 능력과 기술적 깊이를 확인하기 위함",
+                  "category": "기술",
+                  "difficulty": "hard",
+                  "rationale": "이력서의 Spring Boot 기반 API 서버 구축 경험 {Redis 캐시, Kafka 비동기 처리}을 근거로 함",
+                  "relatedSources": ["resume", "portfolio"],
+                  "followUps": [
+                    {"id": "q1_f1", "question": "병목 지점은 어떻게 찾으셨나요?", "intent": "분석 능력", "rationale": "성능 개선 서술", "relatedSources": ["resume"]},
+                    {"id": "q1_f2", "question": "장애가 발생했을 때 어떻게 대응하셨나요?", "intent": "위기 대응", "rationale": "운영 경험", "relatedSources": ["portfolio"]}
+                  ]
+                }
+              ]
+            }""";
+
+    public static final String MODEL_ANSWER_JSON = """
+            {
+              "modelAnswer": "저는 팀 프로젝트에서 Spring Boot 기반 API 서버를 구축하며 초당 수천 건의 요청을 처리해야 했습니다. 먼저 병목 구간을 APM으로 측정하고, 조회가 잦은 데이터는 Redis에 캐시했으며, 무거운 후처리는 Kafka로 분리해 응답 시간을 절반 이하로 줄였습니다.",
+              "feedbackSources": [
+                {"sourceType": "resume", "citedContent": "SW플랫폼/모빌리티 1 지망 도메인 Backend 개발"},
+                {"sourceType": "portfolio", "citedContent": "팀 프로젝트에서 Spring Boot 기반 API 서버를 구축하고"}
+              ]
+            }""";
+
+    private static final String[] QUESTION_TEXTS = {
+            "간단하게 자기소개 부탁드립니다.",
+            "우리 회사에 지원하신 동기가 무엇인가요?",
+            "프로젝트에서 맡으신 역할과 가장 어려웠던 기술적 문제는 무엇이었나요?",
+            "Redis 캐시를 도입하면서 데이터 정합성은 어떻게 보장하셨나요?",
+            "Kafka를 선택한 이유와 다른 메시지 큐와 비교했을 때의 장단점을 설명해 주세요.",
+            "팀원과 의견이 충돌했던 경험과 이를 해결한 방법을 말씀해 주세요.",
+            "JPA N+1 문제를 어떻게 발견하고 해결하셨나요?",
+            "입사 후 5년 뒤 본인의 모습은 어떨 것이라고 생각하시나요?",
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    public static String fenced(String json) {
+        return "```json\n" + json + "\n```";
+    }
+
+    /**
+     * 주질문마다 꼬리질문 하나가 붙은 질문 이력 (questionNumber 역순으로 섞어 정렬 비용까지 포함)
+     */
+    public static List<Question> previousQuestions(int count) {
+        List<Question> questions = new ArrayList<>();
+        Question parent = null;
+        for (int i = count; i >= 1; i--) {
+            boolean followUp = i % 2 == 0;
+            Question question = Question.builder()
+                    .questionUuid("question-" + i)
+                    .questionNumber(i)
+                    .question(QUESTION_TEXTS[i % QUESTION_TEXTS.length])
+                    .purpose("역량 확인")
+                    .suggestedAnswer("")
+                    .parent(followUp ? parent : null)
+                    .build();
+            if (!followUp) {
+                parent = question;
+            }
+            questions.add(question);
+        }
+        return questions;
+    }
+
+    // STT 구간 분석 결과 (문장 단위, 3초 간격)
+    public static List<SegmentDto> segments(int count) {
+        List<SegmentDto> segments = new ArrayList<>();
+        String[] sentences = TRANSCRIPT.strip().split("(?<=[.요다])\\s+");
+        for (int i = 0; i < count; i++) {
+            segments.add(new SegmentDto(i * 3.0f, i * 3.0f + 2.8f, sentences[i % sentences.length], i % 3 == 0 ? "경험 제시" : "근거 설명"));
+        }
+        return segments;
+    }
+
+    // 1초 단위 표정 분석 결과
+    public static List<ExpressionDto> expressions(int seconds) {
+        String[] labels = {"neutral", "happy", "neutral", "surprised", "neutral", "sad"};
+        List<ExpressionDto> expressions = new ArrayList<>();
+        for (int second = 0; second < seconds; second++) {
+            expressions.add(new ExpressionDto(second, labels[(second * 7) % labels.length]));
+        }
+        return expressions;
+    }
+}
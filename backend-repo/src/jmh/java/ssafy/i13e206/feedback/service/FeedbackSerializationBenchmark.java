@@ -0,0 +1,106 @@
+package ssafy.i13e206.feedback.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import ssafy.i13e206.BenchmarkFixtures;
+import ssafy.i13e206.interview.dto.ExpressionDto;
+import ssafy.i13e206.interview.dto.SegmentDto;
+
+/**
+ * Feedback 엔티티의 segment/expression 타임라인 읽기/쓰기 비용. 기존 JSON 컬럼과 FeedbackTimelineCodec 바이너리 비교.
+ * 저장 크기는 Setup에서 한 번 출력합니다. read*Binary는 지연 디코딩이 실제로 일어나도록 전체 원소를 순회합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedbackSerializationBenchmark {
+
+    // 답변 영상 길이(초)
+    @Param({"60", "180"})
+    public int answerSeconds;
+
+    private static final TypeReference<List<SegmentDto>> SEGMENT_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<ExpressionDto>> EXPRESSION_LIST = new TypeReference<>() {};
+
+    private ObjectMapper objectMapper;
+    private List<SegmentDto> segments;
+    private List<ExpressionDto> expressions;
+    private String segmentJson;
+    private String expressionJson;
+    private byte[] segmentBin;
+    private byte[] expressionBin;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        // Spring Boot와 같이 parameter-names 모듈 등록 (SegmentDto는 기본 생성자가 없음)
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        segments = BenchmarkFixtures.segments(answerSeconds / 3);
+        expressions = BenchmarkFixtures.expressions(answerSeconds);
+        segmentJson = objectMapper.writeValueAsString(segments);
+        expressionJson = objectMapper.writeValueAsString(expressions);
+        segmentBin = FeedbackTimelineCodec.encodeSegments(segments);
+        expressionBin = FeedbackTimelineCodec.encodeExpressions(expressions);
+
+        System.out.printf("%n[answerSeconds=%d] expression: JSON %d bytes -> binary %d bytes, segment: JSON %d bytes -> binary %d bytes%n",
+                answerSeconds,
+                expressionJson.getBytes(StandardCharsets.UTF_8).length, expressionBin.length,
+                segmentJson.getBytes(StandardCharsets.UTF_8).length, segmentBin.length);
+    }
+
+    @Benchmark
+    public List<SegmentDto> readSegments() throws JsonProcessingException {
+        return objectMapper.readValue(segmentJson, SEGMENT_LIST);
+    }
+
+    @Benchmark
+    public List<ExpressionDto> readExpressions() throws JsonProcessingException {
+        return objectMapper.readValue(expressionJson, EXPRESSION_LIST);
+    }
+
+    @Benchmark
+    public String writeSegments() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(segments);
+    }
+
+    @Benchmark
+    public String writeExpressions() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(expressions);
+    }
+
+    @Benchmark
+    public void readSegmentsBinary(Blackhole blackhole) {
+        for (SegmentDto segment : FeedbackTimelineCodec.decodeSegments(segmentBin)) {
+            blackhole.consume(segment);
+        }
+    }
+
+    @Benchmark
+    public void readExpressionsBinary(Blackhole blackhole) {
+        for (ExpressionDto expression : FeedbackTimelineCodec.decodeExpressions(expressionBin)) {
+            blackhole.consume(expression);
+        }
+    }
+
+    @Benchmark
+    public byte[] writeSegmentsBinary() {
+        return FeedbackTimelineCodec.encodeSegments(segments);
+    }
+
+    @Benchmark
+    public byte[] writeExpressionsBinary() {
+        return FeedbackTimelineCodec.encodeExpressions(expressions);
+    }
+}
@@ -0,0 +1,282 @@
+package ssafy.i13e206.gpt.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import ssafy.i13e206.gpt.dto.GmsRecording;
+
+/**
+ * GMS chat completions 대역 서버. GmsRecorder로 기록한 응답을 지정한 지연 시간 분포로 재생합니다.
+ * 실제 GMS 없이 면접 흐름 전체를 수백 명 규모로 부하 테스트할 때 spring.ai.openai.base-url을 이 서버로 돌립니다.
+ *
+ * <pre>
+ * ./gradlew gmsReplay --args="--dir=gms-recordings --port=18080 --latency=lognormal --latency-median-ms=4000"
+ * spring.ai.openai.base-url=http://localhost:18080
+ * gms.replay.enabled=true   (요청에 X-Llm-Operation 헤더를 붙여 operation별로 기록을 고르게 함)
+ * </pre>
+ *
+ * 옵션 (--key=value)
+ * - dir: 기록 파일 디렉터리 (기본 gms-recordings)
+ * - port: 기본 18080
+ * - latency: recorded(기록된 지연 × latency-scale) | fixed(latency-ms) | uniform(latency-min-ms~latency-max-ms)
+ *            | lognormal(중앙값 latency-median-ms, 표준편차 latency-sigma) (기본 recorded)
+ * - ttft-ratio: 스트리밍 응답에서 첫 청크까지 걸리는 시간의 비율 (기본 0.2)
+ * - chunk-chars: 스트리밍 청크 하나의 글자 수 (기본 8)
+ * - error-rate: 503으로 응답할 확률 (재시도/서킷 브레이커 확인용, 기본 0)
+ */
+public final class GmsReplayServer {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final RecordingIndex index;
+    private final LatencyModel latency;
+    private final double ttftRatio;
+    private final int chunkChars;
+    private final double errorRate;
+    private final AtomicLong served = new AtomicLong();
+
+    private GmsReplayServer(RecordingIndex index, LatencyModel latency, double ttftRatio, int chunkChars, double errorRate) {
+        this.index = index;
+        this.latency = latency;
+        this.ttftRatio = ttftRatio;
+        this.chunkChars = chunkChars;
+        this.errorRate = errorRate;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseArgs(args);
+        int port = Integer.parseInt(options.getOrDefault("port", "18080"));
+        RecordingIndex index = RecordingIndex.load(Path.of(options.getOrDefault("dir", "gms-recordings")));
+
+        GmsReplayServer replay = new GmsReplayServer(
+                index,
+                LatencyModel.from(options),
+                Double.parseDouble(options.getOrDefault("ttft-ratio", "0.2")),
+                Integer.parseInt(options.getOrDefault("chunk-chars", "8")),
+                Double.parseDouble(options.getOrDefault("error-rate", "0")));
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/", replay::handle);
+        // 응답 지연을 sleep으로 흉내 내므로 동시 요청 수만큼 스레드가 필요
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        System.out.printf("GMS 대역 서버 시작: port=%d, 기록 %d건 %s%n", port, index.size(), index.summary());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod()) || !exchange.getRequestURI().getPath().endsWith("/chat/completions")) {
+                respond(exchange, 404, "{\"error\":\"not found\"}");
+                return;
+            }
+
+            JsonNode request;
+            try (InputStream body = exchange.getRequestBody()) {
+                request = MAPPER.readTree(body);
+            }
+            boolean stream = request.path("stream").asBoolean(false);
+            String prompt = lastUserMessage(request);
+            String operation = exchange.getRequestHeaders().getFirst(GmsRecording.OPERATION_HEADER);
+
+            GmsRecording recording = index.find(prompt, operation);
+            if (recording == null) {
+                respond(exchange, 404, "{\"error\":\"no recording for operation " + operation + "\"}");
+                return;
+            }
+
+            long totalMs = latency.sample(recording);
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                sleep(totalMs * ttftRatio);
+                respond(exchange, 503, "{\"error\":\"injected failure\"}");
+                return;
+            }
+
+            if (stream) {
+                streamContent(exchange, recording.content(), totalMs);
+            } else {
+                sleep(totalMs);
+                respond(exchange, 200, MAPPER.writeValueAsString(completion(recording.content())));
+            }
+            long count = served.incrementAndGet();
+            if (count % 100 == 0) {
+                System.out.printf("재생 %d건%n", count);
+            }
+        } catch (Exception e) {
+            System.err.println("재생 실패: " + e);
+        }
+    }
+
+    // 첫 청크까지 ttft-ratio만큼 기다린 뒤 나머지 시간 동안 chunk-chars 단위로 나눠 보낸다
+    private void streamContent(HttpExchange exchange, String content, long totalMs) throws IOException {
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < content.length(); i += chunkChars) {
+            chunks.add(content.substring(i, Math.min(content.length(), i + chunkChars)));
+        }
+        double firstTokenMs = totalMs * ttftRatio;
+        double perChunkMs = chunks.isEmpty() ? 0 : (totalMs - firstTokenMs) / chunks.size();
+
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=UTF-8");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        sleep(firstTokenMs);
+        for (String chunk : chunks) {
+            ObjectNode delta = MAPPER.createObjectNode();
+            delta.putArray("choices").addObject().put("index", 0).putObject("delta").put("content", chunk);
+            writeEvent(out, MAPPER.writeValueAsString(delta));
+            sleep(perChunkMs);
+        }
+        writeEvent(out, "[DONE]");
+    }
+
+    private static ObjectNode completion(String content) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("object", "chat.completion");
+        ObjectNode choice = root.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+        return root;
+    }
+
+    private static String lastUserMessage(JsonNode request) {
+        String prompt = "";
+        for (JsonNode message : request.path("messages")) {
+            if ("user".equals(message.path("role").asText())) {
+                prompt = message.path("content").asText("");
+            }
+        }
+        return prompt;
+    }
+
+    private static void writeEvent(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(double millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep((long) millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * 같은 프롬프트의 기록이 있으면 그대로, 없으면 같은 operation의 기록 중 무작위로 하나를 고릅니다.
+     * (부하 테스트 중에는 면접 데이터가 매번 달라 프롬프트가 정확히 일치하는 경우가 드묾)
+     */
+    private static final class RecordingIndex {
+        private final Map<String, GmsRecording> byPromptHash = new HashMap<>();
+        private final Map<String, List<GmsRecording>> byOperation = new HashMap<>();
+        private final List<GmsRecording> all = new ArrayList<>();
+
+        static RecordingIndex load(Path dir) throws IOException {
+            RecordingIndex index = new RecordingIndex();
+            if (!Files.isDirectory(dir)) {
+                System.err.println("기록 디렉터리가 없습니다: " + dir.toAbsolutePath());
+                return index;
+            }
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.filter(path -> path.toString().endsWith(".json")).toList()) {
+                    index.add(MAPPER.readValue(file.toFile(), GmsRecording.class));
+                }
+            }
+            return index;
+        }
+
+        void add(GmsRecording recording) {
+            byPromptHash.put(recording.promptHash(), recording);
+            byOperation.computeIfAbsent(recording.operation(), key -> new ArrayList<>()).add(recording);
+            all.add(recording);
+        }
+
+        GmsRecording find(String prompt, String operation) {
+            GmsRecording exact = byPromptHash.get(GmsRecording.hash(prompt));
+            if (exact != null) {
+                return exact;
+            }
+            List<GmsRecording> candidates = operation == null ? all : byOperation.getOrDefault(operation, List.of());
+            if (candidates.isEmpty()) {
+                return null;
+            }
+            return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        }
+
+        int size() {
+            return all.size();
+        }
+
+        Map<String, Integer> summary() {
+            Map<String, Integer> counts = new HashMap<>();
+            byOperation.forEach((operation, recordings) -> counts.put(operation, recordings.size()));
+            return counts;
+        }
+    }
+
+    private interface LatencyModel {
+        long sample(GmsRecording recording);
+
+        static LatencyModel from(Map<String, String> options) {
+            String type = options.getOrDefault("latency", "recorded");
+            return switch (type) {
+                case "fixed" -> {
+                    long fixedMs = Long.parseLong(options.getOrDefault("latency-ms", "3000"));
+                    yield recording -> fixedMs;
+                }
+                case "uniform" -> {
+                    long minMs = Long.parseLong(options.getOrDefault("latency-min-ms", "1000"));
+                    long maxMs = Long.parseLong(options.getOrDefault("latency-max-ms", "8000"));
+                    yield recording -> ThreadLocalRandom.current().nextLong(minMs, maxMs + 1);
+                }
+                case "lognormal" -> {
+                    double medianMs = Double.parseDouble(options.getOrDefault("latency-median-ms", "4000"));
+                    double sigma = Double.parseDouble(options.getOrDefault("latency-sigma", "0.5"));
+                    yield recording -> (long) (medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+                }
+                case "recorded" -> {
+                    double scale = Double.parseDouble(options.getOrDefault("latency-scale", "1.0"));
+                    yield recording -> (long) (recording.latencyMs() * scale);
+                }
+                default -> throw new IllegalArgumentException("알 수 없는 latency 옵션: " + type);
+            };
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package ssafy.i13e206.gpt.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ssafy.i13e206.BenchmarkFixtures;
+import ssafy.i13e206.interview.entity.Question;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+
+/**
+ * GMS 호출의 CPU 구간: 프롬프트 조립(GmsPrompts), 이전 질문 컨텍스트, LLM 응답 파싱(GmsResponseParser).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GmsPromptBenchmark {
+
+    // 면접 진행 정도 (질문 이력 길이)
+    @Param({"2", "16"})
+    public int historySize;
+
+    private GmsResponseParser parser;
+    private List<Question> previousQuestions;
+    private String previousQuestionsContext;
+    private String jobContext;
+    private String questionResponse;
+    private String modelAnswerResponse;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        parser = new GmsResponseParser(new LlmJsonExtractor(objectMapper));
+
+        previousQuestions = BenchmarkFixtures.previousQuestions(historySize);
+        previousQuestionsContext = GmsPrompts.buildPreviousQuestionsContext(previousQuestions);
+        jobContext = GmsPrompts.buildJobContext(BenchmarkFixtures.ENTERPRISE_NAME, BenchmarkFixtures.POSITION);
+        questionResponse = BenchmarkFixtures.fenced(BenchmarkFixtures.QUESTION_JSON);
+        modelAnswerResponse = BenchmarkFixtures.fenced(BenchmarkFixtures.MODEL_ANSWER_JSON);
+    }
+
+    @Benchmark
+    public String buildPreviousQuestionsContext() {
+        return GmsPrompts.buildPreviousQuestionsContext(previousQuestions);
+    }
+
+    @Benchmark
+    public String createInterviewPrompt() {
+        return GmsPrompts.createInterviewPromptWithExclusions(InterviewType.JOB, BenchmarkFixtures.ENTERPRISE_NAME,
+                BenchmarkFixtures.POSITION, BenchmarkFixtures.TASK, BenchmarkFixtures.OCR_CONTEXT, previousQuestionsContext);
+    }
+
+    @Benchmark
+    public String createModelAnswerPrompt() {
+        return GmsPrompts.createModelAnswerPrompt(BenchmarkFixtures.MAIN_QUESTION, BenchmarkFixtures.TRANSCRIPT,
+                jobContext, BenchmarkFixtures.OCR_CONTEXT);
+    }
+
+    @Benchmark
+    public Object parseAiResponse() {
+        return parser.parseQuestions(questionResponse, "interview-set-1");
+    }
+
+    @Benchmark
+    public Object parseModelAnswer() {
+        return parser.parseModelAnswer(modelAnswerResponse);
+    }
+}
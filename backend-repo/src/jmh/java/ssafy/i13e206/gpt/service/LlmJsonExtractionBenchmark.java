@@ -0,0 +1,225 @@
+package ssafy.i13e206.gpt.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ssafy.i13e206.BenchmarkFixtures;
+import ssafy.i13e206.feedback.dto.FeedbackSourceDto;
+import ssafy.i13e206.feedback.dto.ModelAnswerResult;
+import ssafy.i13e206.gpt.constant.LlmOperation;
+import ssafy.i13e206.interview.dto.InterviewQuestionResponseDto;
+
+/**
+ * LLM 응답 JSON 파싱: 기존 GmsDirectService의 parseAiResponse/parseModelAnswer(매 호출 정규식 컴파일 + 문자열 잘라내기
+ * + readTree 후 노드 순회)와 현재 GmsResponseParser(LlmJsonExtractor로 첫 객체를 바로 DTO 바인딩 + 기본값 채우기)를 비교합니다.
+ * 두 쪽 모두 같은 DTO를 끝까지 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LlmJsonExtractionBenchmark {
+
+    @Param({"fenced", "prose"})
+    public String wrapping;
+
+    private LegacyParser legacyParser;
+    private GmsResponseParser parser;
+    private String questionResponse;
+    private String modelAnswerResponse;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        legacyParser = new LegacyParser(objectMapper, new LlmMetrics(new SimpleMeterRegistry()));
+        parser = new GmsResponseParser(new LlmJsonExtractor(objectMapper));
+        questionResponse = wrap(BenchmarkFixtures.QUESTION_JSON);
+        modelAnswerResponse = wrap(BenchmarkFixtures.MODEL_ANSWER_JSON);
+    }
+
+    private String wrap(String json) {
+        if ("fenced".equals(wrapping)) {
+            return BenchmarkFixtures.fenced(json);
+        }
+        return "요청하신 질문을 아래와 같이 생성했습니다.\n" + json + "\n위 질문은 지원자의 이력서를 바탕으로 작성되었습니다.";
+    }
+
+    @Benchmark
+    public Object questionLegacy() {
+        return legacyParser.parseAiResponse(questionResponse, "interview-set-1", LlmOperation.QUESTION);
+    }
+
+    @Benchmark
+    public Object questionStreaming() {
+        return parser.parseQuestions(questionResponse, "interview-set-1");
+    }
+
+    @Benchmark
+    public Object modelAnswerLegacy() {
+        return legacyParser.parseModelAnswer(modelAnswerResponse, LlmOperation.MODEL_ANSWER);
+    }
+
+    @Benchmark
+    public Object modelAnswerStreaming() {
+        return parser.parseModelAnswer(modelAnswerResponse);
+    }
+
+    /**
+     * LlmJsonExtractor 도입 전 GmsDirectService의 파싱 메서드 (본문 그대로)
+     */
+    static final class LegacyParser {
+
+        private static final Logger log = LoggerFactory.getLogger(LegacyParser.class);
+
+        private final ObjectMapper objectMapper;
+        private final LlmMetrics llmMetrics;
+
+        LegacyParser(ObjectMapper objectMapper, LlmMetrics llmMetrics) {
+            this.objectMapper = objectMapper;
+            this.llmMetrics = llmMetrics;
+        }
+
+        InterviewQuestionResponseDto parseAiResponse(String aiResponse, String interviewSetUuid, LlmOperation operation) {
+            try {
+                String cleanedJson = extractJsonBlock(aiResponse);
+                JsonNode root = objectMapper.readTree(cleanedJson);
+                JsonNode questionsNode = root.path("questions");
+
+                if (questionsNode.isArray() && !questionsNode.isEmpty()) {
+                    JsonNode qNode = questionsNode.get(0);
+                    InterviewQuestionResponseDto.Question question = parseQuestionNode(qNode, "q_new");
+
+                    List<InterviewQuestionResponseDto.Question.FollowUp> followUps = new ArrayList<>();
+                    JsonNode followUpsNode = qNode.path("followUps").isMissingNode() ? qNode.path("follow_up") : qNode.path("followUps");
+                    if (followUpsNode.isArray()) {
+                        int fidx = 1;
+                        for (JsonNode fNode : followUpsNode) {
+                            followUps.add(parseFollowUpNode(fNode, question.getId() + "_f" + fidx++));
+                        }
+                    }
+                    question.setFollowUps(followUps);
+
+                    return InterviewQuestionResponseDto.builder()
+                            .interviewSetUuid(interviewSetUuid)
+                            .questions(List.of(question))
+                            .build();
+                }
+            } catch (Exception e) {
+                log.warn("AI 응답 JSON 파싱 실패: {}", e.getMessage());
+            }
+            llmMetrics.recordParseFailure(operation);
+            return createDefaultQuestionResponse(interviewSetUuid);
+        }
+
+        private InterviewQuestionResponseDto.Question parseQuestionNode(JsonNode qNode, String defaultId) {
+            return InterviewQuestionResponseDto.Question.builder()
+                    .id(getTextOrDefault(qNode, "id", defaultId))
+                    .type(getTextOrDefault(qNode, "type", "general"))
+                    .question(getTextOrDefault(qNode, "question", ""))
+                    .intent(getTextOrDefault(qNode, "intent", ""))
+                    .category(getTextOrDefault(qNode, "category", "일반"))
+                    .difficulty(getTextOrDefault(qNode, "difficulty", "medium"))
+                    .rationale(getTextOrDefault(qNode, "rationale", ""))
+                    .relatedSources(extractStringArrayVariant(qNode, "relatedSources", "related_sources"))
+                    .build();
+        }
+
+        private InterviewQuestionResponseDto.Question.FollowUp parseFollowUpNode(JsonNode fNode, String defaultId) {
+            return InterviewQuestionResponseDto.Question.FollowUp.builder()
+                    .id(getTextOrDefault(fNode, "id", defaultId))
+                    .question(getTextOrDefault(fNode, "question", ""))
+                    .intent(getTextOrDefault(fNode, "intent", ""))
+                    .rationale(getTextOrDefault(fNode, "rationale", ""))
+                    .relatedSources(extractStringArrayVariant(fNode, "relatedSources", "related_sources"))
+                    .build();
+        }
+
+        private InterviewQuestionResponseDto createDefaultQuestionResponse(String interviewSetUuid) {
+            InterviewQuestionResponseDto.Question question = InterviewQuestionResponseDto.Question.builder()
+                    .id("q_default")
+                    .question("AI 질문 생성에 실패했습니다. 이력서에서 가장 강조하고 싶은 경험은 무엇인가요?")
+                    .followUps(Collections.emptyList())
+                    .build();
+            return InterviewQuestionResponseDto.builder()
+                    .interviewSetUuid(interviewSetUuid)
+                    .questions(List.of(question))
+                    .build();
+        }
+
+        private String extractJsonBlock(String raw) {
+            if (raw == null) return "{}";
+            Pattern fenced = Pattern.compile("```(?:json)?\\s*(\\{[\\s\\S]*?\\})\\s*```", Pattern.CASE_INSENSITIVE);
+            Matcher m = fenced.matcher(raw);
+            if (m.find()) return m.group(1);
+            int first = raw.indexOf('{');
+            int last = raw.lastIndexOf('}');
+            return (first != -1 && last != -1 && last > first) ? raw.substring(first, last + 1) : "{}";
+        }
+
+        private String getTextOrDefault(JsonNode node, String field, String defaultValue) {
+            return node.path(field).asText(defaultValue);
+        }
+
+        private List<String> extractStringArrayVariant(JsonNode node, String camelCase, String snakeCase) {
+            JsonNode arrNode = node.path(camelCase).isMissingNode() ? node.path(snakeCase) : node.path(camelCase);
+            List<String> result = new ArrayList<>();
+            if (arrNode.isArray()) {
+                for (JsonNode element : arrNode) {
+                    result.add(element.asText());
+                }
+            }
+            return result;
+        }
+
+        ModelAnswerResult parseModelAnswer(String aiResponse, LlmOperation operation) {
+            try {
+                String cleanedJson = extractJsonBlock(aiResponse);
+                JsonNode root = objectMapper.readTree(cleanedJson);
+
+                String answer = root.path("modelAnswer").asText("").trim();
+
+                List<FeedbackSourceDto> sources = new ArrayList<>();
+                JsonNode sourcesNode = root.path("feedbackSources");
+
+                if (sourcesNode.isArray()) {
+                    for (JsonNode sourceNode : sourcesNode) {
+                        String type = sourceNode.path("sourceType").asText();
+                        String cited = sourceNode.path("citedContent").asText();
+
+                        // (선택) 화이트리스트 필터링
+                        if (!type.isEmpty() && !cited.isEmpty()) {
+                            sources.add(new FeedbackSourceDto(type, cited));
+                        }
+                    }
+                }
+
+                return ModelAnswerResult.builder()
+                        .modelAnswer(answer)
+                        .feedbackSources(sources)   // ✅ DTO 리스트
+                        .build();
+            } catch (Exception e) {
+                log.warn("모범답안 JSON 파싱 실패: {}", e.getMessage());
+                llmMetrics.recordParseFailure(operation);
+                return ModelAnswerResult.builder()
+                        .modelAnswer("모범 답안 생성에 실패했습니다.")
+                        .feedbackSources(Collections.emptyList())
+                        .build();
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package ssafy.i13e206.kafka.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import ssafy.i13e206.feedback.dto.AnalysisResultRequest;
+import ssafy.i13e206.feedback.service.AnalysisResultBatchService;
+
+/**
+ * 분석 결과 토픽(analysis-result-topic)의 소비 방식 비교 (임베디드 브로커).
+ * 두 모드 모두 컨테이너가 KafkaConsumerService의 실제 리스너 메서드를 호출합니다. (JSON 역직렬화, 세션 키, 작업 풀, ack 포함)
+ * - batch: consumeAnalysisResults. poll한 묶음을 차례로 처리하고 묶음이 다 끝나야 다음 poll
+ * - keyed: consumeAnalysisResult. 세션 순서를 지키며 workers개 스레드로 처리하고 완료 순서대로 ack (asyncAcks, 운영과 같은 max.poll.records)
+ * AnalysisResultBatchService.process만 sleep으로 바꿔 끼우며, slowPercent%의 레코드는 느린 처리(SLOW_MS)입니다.
+ * records건을 발행해서 모두 처리될 때까지의 시간을 잽니다. 세션 순서 위반(같은 세션의 뒤 레코드가 먼저 처리된 경우) 수는 TearDown에서 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class AnalysisResultConsumerBenchmark {
+
+    private static final int PARTITIONS = 3;
+
+    @Param({"batch", "keyed"})
+    public String mode;
+
+    @Param({"0", "5"})
+    public int slowPercent;
+
+    @Param("200")
+    public int records;
+
+    // 동시에 면접 중인 세션 수 (recordingId의 '~' 앞부분)
+    @Param("20")
+    public int sessions;
+
+    // 동시에 처리하는 레코드 수 (키 모드의 analysis-result.keyed.workers)
+    @Param("8")
+    public int workers;
+
+    // 키 모드의 analysis-result.keyed.max-in-flight (max.poll.records 기본값)
+    @Param("64")
+    public int maxInFlight;
+
+    private static final long FAST_MS = 20;
+    private static final long SLOW_MS = 400;
+
+    private final AtomicInteger topicSequence = new AtomicInteger();
+
+    private EmbeddedKafkaKraftBroker broker;
+    private KafkaProducer<String, String> producer;
+
+    private String topic;
+    private KafkaMessageListenerContainer<String, String> container;
+    private KafkaConsumerService consumerService;
+    private CountDownLatch processed;
+    private Map<String, AtomicInteger> dispatchedBySession;
+    private Map<String, Integer> sequenceByRecordingId;
+    private Map<String, AtomicInteger> processedBySession;
+    private AtomicInteger orderViolations;
+
+    @Setup(Level.Trial)
+    public void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS);
+        broker.afterPropertiesSet();
+
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.LINGER_MS_CONFIG, 0);
+        producer = new KafkaProducer<>(producerProps);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBroker() {
+        producer.close();
+        broker.destroy();
+    }
+
+    /**
+     * 측정마다 새 토픽/그룹으로 컨테이너를 띄우고 파티션 할당까지 기다립니다. (그룹 합류 시간은 측정에서 제외)
+     */
+    @Setup(Level.Invocation)
+    public void startConsumer() {
+        topic = "analysis-result-bench-" + topicSequence.incrementAndGet();
+        broker.addTopics(new NewTopic(topic, PARTITIONS, (short) 1));
+
+        processed = new CountDownLatch(records);
+        dispatchedBySession = new ConcurrentHashMap<>();
+        sequenceByRecordingId = new ConcurrentHashMap<>();
+        processedBySession = new ConcurrentHashMap<>();
+        orderViolations = new AtomicInteger();
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps(topic + "-group", "false", broker);
+        consumerProps.put("key.deserializer", StringDeserializer.class);
+        consumerProps.put("value.deserializer", StringDeserializer.class);
+        if ("keyed".equals(mode)) {
+            consumerProps.put("max.poll.records", maxInFlight);
+        } else {
+            // consumeAnalysisResults의 기본 설정
+            consumerProps.put("max.poll.records", 20);
+            consumerProps.put("fetch.max.wait.ms", 200);
+            consumerProps.put("fetch.min.bytes", 65536);
+        }
+        DefaultKafkaConsumerFactory<String, String> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerProps);
+
+        consumerService = new KafkaConsumerService(new ObjectMapper(), new SimulatedBatchService(), null,
+                workers, maxInFlight, workers, maxInFlight);
+
+        ContainerProperties containerProperties = new ContainerProperties(topic);
+        if ("keyed".equals(mode)) {
+            containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+            containerProperties.setAsyncAcks(true);
+            containerProperties.setMessageListener((AcknowledgingMessageListener<String, String>) (record, acknowledgment) -> {
+                dispatch(record.key());
+                try {
+                    consumerService.consumeAnalysisResult(record.value(), acknowledgment);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        } else {
+            containerProperties.setMessageListener((BatchMessageListener<String, String>) batch -> {
+                batch.forEach(record -> dispatch(record.key()));
+                consumerService.consumeAnalysisResults(batch.stream().map(ConsumerRecord::value).toList());
+            });
+        }
+
+        container = new KafkaMessageListenerContainer<>(consumerFactory, containerProperties);
+        container.start();
+        ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopConsumer() throws InterruptedException {
+        // 남은 ack까지 끝낸 뒤에 컨테이너를 멈춘다 (멈춘 뒤의 ack는 거부됨)
+        consumerService.shutdown();
+        container.stop();
+        if (orderViolations.get() > 0) {
+            System.out.printf("%n[%s] 세션 순서 위반 %d건%n", mode, orderViolations.get());
+        }
+    }
+
+    @Benchmark
+    public void drain() throws InterruptedException {
+        for (int i = 0; i < records; i++) {
+            // 분석 서버 발행과 같이 세션과 무관하게 파티션에 흩어짐. 키는 순서 검사용 recordingId
+            String recordingId = "session-" + (i % sessions) + "~" + (i / sessions);
+            String message = "{\"recordingId\":\"" + recordingId + "\",\"transcript\":\"답변 " + i + "\"}";
+            producer.send(new ProducerRecord<>(topic, recordingId, message));
+        }
+        producer.flush();
+        if (!processed.await(5, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("처리 대기 시간 초과: 남은 레코드 " + processed.getCount());
+        }
+    }
+
+    // 컨테이너가 리스너에 넘긴 순서대로 세션 내 순번을 매긴다
+    private void dispatch(String recordingId) {
+        String session = KafkaConsumerService.sessionKey(recordingId);
+        int sequence = dispatchedBySession.computeIfAbsent(session, s -> new AtomicInteger()).incrementAndGet();
+        sequenceByRecordingId.put(recordingId, sequence);
+    }
+
+    private void handle(String recordingId) {
+        String session = KafkaConsumerService.sessionKey(recordingId);
+        int sequence = sequenceByRecordingId.get(recordingId);
+        int previous = processedBySession.computeIfAbsent(session, s -> new AtomicInteger()).getAndSet(sequence);
+        if (previous != sequence - 1) {
+            orderViolations.incrementAndGet();
+        }
+        // recordingId별로 고정된 지연 (모드 간 같은 작업량)
+        boolean slow = Math.floorMod(recordingId.hashCode(), 100) < slowPercent;
+        try {
+            Thread.sleep(slow ? SLOW_MS : FAST_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        processed.countDown();
+    }
+
+    // 저장/전송/발행 대신 지연만 흉내 내는 처리. processBatch도 이 process를 거친다
+    private class SimulatedBatchService extends AnalysisResultBatchService {
+
+        SimulatedBatchService() {
+            super(null, null, null);
+        }
+
+        @Override
+        public void process(AnalysisResultRequest request) {
+            handle(request.recordingId());
+        }
+    }
+}
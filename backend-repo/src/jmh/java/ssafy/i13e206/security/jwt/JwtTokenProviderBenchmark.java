@@ -0,0 +1,44 @@
+package ssafy.i13e206.security.jwt;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 모든 인증 요청이 JwtAuthenticationFilter에서 거치는 토큰 검증 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString("i13e206-benchmark-secret-key-for-hs256-signing!!".getBytes());
+        jwtTokenProvider = new JwtTokenProvider(secret);
+        accessToken = jwtTokenProvider.generateAccessToken(new UsernamePasswordAuthenticationToken(
+                "면접자-user-uuid", "", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Object getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+}
@@ -1,18 +1,25 @@
 package ssafy.i13e206;
 
+import java.util.Map;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import ssafy.i13e206.global.config.s3.AwsS3Properties;
 
 @SpringBootApplication
 @EnableConfigurationProperties(AwsS3Properties.class)
 @EnableJpaAuditing
 @EnableAsync
+@EnableScheduling
 public class I13e206Application {
 	public static void main(String[] args) {
-		SpringApplication.run(I13e206Application.class, args);
+		SpringApplication application = new SpringApplication(I13e206Application.class);
+		// 요청 스레드가 LLM 응답을 기다리는 동안 커넥션을 붙잡지 않도록 OSIV를 끈다 (서비스 트랜잭션 안에서만 커넥션 사용)
+		// 지연 로딩 연관관계는 서비스 트랜잭션 안에서 읽어야 함 (테스트는 main을 거치지 않으므로 트랜잭션 없이 서비스를 호출해 확인)
+		application.setDefaultProperties(Map.of("spring.jpa.open-in-view", "false"));
+		application.run(args);
 	}	
 }
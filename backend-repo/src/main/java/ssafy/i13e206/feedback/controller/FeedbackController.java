@@ -6,19 +6,48 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import ssafy.i13e206.feedback.dto.ExpressionWindowResponseDto;
 import ssafy.i13e206.feedback.dto.FeedBackResultByAnswerAttemptId;
 import ssafy.i13e206.feedback.dto.FeedbackRequestDto;
 import ssafy.i13e206.feedback.dto.PtFeedbackResponseDto;
 import ssafy.i13e206.feedback.dto.PtQuestionFeedbackDto;
+import ssafy.i13e206.feedback.dto.TranscriptSearchResultDto;
 import ssafy.i13e206.feedback.service.FeedbackService;
+import ssafy.i13e206.feedback.service.TranscriptSearchService;
 import ssafy.i13e206.global.dto.ApiResponse;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/feedback")
 @RequiredArgsConstructor
 public class FeedbackController {
 
     private final FeedbackService feedbackService;
+    private final TranscriptSearchService transcriptSearchService;
+
+    /**
+     * 내 답변(STT 전체/구간)과 모범답안에서 검색어가 나온 답변을 점수순으로 조회하는 API
+     * @param q 검색어 (2글자 이상)
+     * @param size 최대 답변 수 (기본 20, 최대 50)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<?>> searchTranscripts(@RequestParam String q,
+                                                            @RequestParam(defaultValue = "20") int size,
+                                                            @AuthenticationPrincipal UserDetails userDetails) {
+        String query = q.strip();
+        if (query.length() < 2 || query.length() > 100 || size < 1 || size > 50) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), "검색어는 2~100글자, size는 1~50이어야 합니다."));
+        }
+        try {
+            List<TranscriptSearchResultDto> results = transcriptSearchService.search(userDetails.getUsername(), query, size);
+            return ResponseEntity.ok(ApiResponse.success("답변 검색에 성공했습니다.", results));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부 오류가 발생했습니다."));
+        }
+    }
 
     @PostMapping("/pt")
     public ResponseEntity<ApiResponse<PtFeedbackResponseDto>> getPtInterviewFeedbackForQuestion(@RequestBody FeedbackRequestDto request) {
@@ -58,4 +87,32 @@ public class FeedbackController {
                     .body(ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부 오류가 발생했습니다."));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 답변 시도의 표정 분포를 창 단위로 조회하는 API
+     * @param answerAttemptId 조회할 답변 시도 ID (녹화 ID)
+     * @param window 창 크기(초)
+     * @param from 시작 초 (기본 0)
+     * @param to 끝 초 (기본 마지막 표정 기록까지)
+     */
+    @GetMapping("/{answerAttemptId}/expressions")
+    public ResponseEntity<ApiResponse<?>> getExpressionWindows(@PathVariable String answerAttemptId,
+                                                               @RequestParam(defaultValue = "10") int window,
+                                                               @RequestParam(defaultValue = "0") int from,
+                                                               @RequestParam(required = false) Integer to) {
+        if (window < 1 || from < 0 || (to != null && to <= from)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), "window는 1 이상, from은 0 이상, to는 from보다 커야 합니다."));
+        }
+        try {
+            ExpressionWindowResponseDto windows = feedbackService.getExpressionWindows(answerAttemptId, window, from, to);
+            return ResponseEntity.ok(ApiResponse.success("표정 구간 집계 조회에 성공했습니다.", windows));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(HttpStatus.NOT_FOUND.value(), e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부 오류가 발생했습니다."));
+        }
+    }
+}
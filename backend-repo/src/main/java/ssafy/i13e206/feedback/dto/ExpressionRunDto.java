@@ -0,0 +1,10 @@
+package ssafy.i13e206.feedback.dto;
+
+/**
+ * 같은 표정이 우세했던 연속 창들을 합친 구간 [start, end)
+ */
+public record ExpressionRunDto(
+        String expression,
+        int start,
+        int end
+) {}
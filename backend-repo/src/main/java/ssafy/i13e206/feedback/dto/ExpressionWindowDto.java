@@ -0,0 +1,14 @@
+package ssafy.i13e206.feedback.dto;
+
+import java.util.Map;
+
+/**
+ * [start, end) 초 구간의 표정별 개수와 가장 많이 나온 표정 (기록이 없으면 dominant는 null)
+ */
+public record ExpressionWindowDto(
+        int start,
+        int end,
+        int total,
+        Map<String, Integer> counts,
+        String dominant
+) {}
@@ -0,0 +1,16 @@
+package ssafy.i13e206.feedback.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ExpressionWindowResponseDto {
+    private int windowSeconds;
+    private int from;
+    private int to; // 실제 집계한 끝 (창 개수 제한으로 요청보다 짧을 수 있음)
+    private int timelineEnd; // 마지막 표정 기록 다음 초
+    private List<ExpressionWindowDto> windows;
+    private List<ExpressionRunDto> runs;
+}
@@ -1,13 +1,17 @@
 package ssafy.i13e206.feedback.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class FeedbackSourceDto {
     @JsonProperty("sourceType")
     private final String sourceType;
@@ -0,0 +1,12 @@
+package ssafy.i13e206.feedback.dto;
+
+import java.util.List;
+
+/**
+ * 모범답안 생성 완료 WebSocket 메시지. 분석 결과(modelAnswer 없음)를 먼저 보낸 뒤 같은 recordingId로 전송됩니다.
+ */
+public record ModelAnswerReadyMessage(
+        String recordingId,
+        String modelAnswer,
+        List<FeedbackSourceDto> feedbackSources
+) {}
@@ -1,12 +1,16 @@
 package ssafy.i13e206.feedback.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class ModelAnswerResult {
     private String modelAnswer;
     private List<FeedbackSourceDto> feedbackSources;
@@ -0,0 +1,21 @@
+package ssafy.i13e206.feedback.dto;
+
+/**
+ * 모범답안이 비어 있는 Feedback의 JPQL 프로젝션. 일반 답변 시도와 PT 답변 시도 중 한쪽만 값이 있습니다.
+ */
+public record PendingModelAnswerRow(
+        String feedbackUuid,
+        String answerAttemptUuid,
+        Integer attemptNumber,
+        String ptAnswerAttemptUuid,
+        Integer ptAttemptNumber
+) {
+
+    // 분석 서버가 쓰는 recordingId 형식 (시도 UUID~0부터 시작하는 시도 순번)
+    public String recordingId() {
+        if (answerAttemptUuid != null) {
+            return answerAttemptUuid + "~" + (attemptNumber - 1);
+        }
+        return ptAnswerAttemptUuid + "~" + (ptAttemptNumber - 1);
+    }
+}
@@ -24,8 +24,8 @@ public class PtPresentationFeedbackDto {
     public static PtPresentationFeedbackDto of(
             PTAnswerAttempt attempt,
             Feedback feedback,
-            Function<String, List<SegmentDto>> segmentParser,
-            Function<String, List<ExpressionDto>> expressionParser
+            Function<Feedback, List<SegmentDto>> segmentReader,
+            Function<Feedback, List<ExpressionDto>> expressionReader
     ) {
         if (attempt == null) return null;
 
@@ -34,8 +34,8 @@ public class PtPresentationFeedbackDto {
                 .attemptNumber(attempt.getId().getAttemptNumber())
                 .feedbackUuid(feedback != null ? feedback.getFeedbackUuid() : null)
                 .transcript(feedback != null ? feedback.getTranscript() : null)
-                .segment(feedback != null ? segmentParser.apply(feedback.getSegment()) : Collections.emptyList())
-                .expression(feedback != null ? expressionParser.apply(feedback.getExpression()) : Collections.emptyList())
+                .segment(feedback != null ? segmentReader.apply(feedback) : Collections.emptyList())
+                .expression(feedback != null ? expressionReader.apply(feedback) : Collections.emptyList())
                 .build();
     }
 }
@@ -0,0 +1,13 @@
+package ssafy.i13e206.feedback.dto;
+
+import ssafy.i13e206.feedback.entity.enums.TranscriptSearchSource;
+
+/**
+ * 답변 안에서 검색어가 걸린 부분. SEGMENT는 영상 탐색용 시작/끝 초를 포함합니다.
+ */
+public record TranscriptSearchMatchDto(
+        TranscriptSearchSource sourceType,
+        String snippet,
+        Float startSecond,
+        Float endSecond
+) {}
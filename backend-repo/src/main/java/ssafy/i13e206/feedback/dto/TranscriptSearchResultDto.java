@@ -0,0 +1,18 @@
+package ssafy.i13e206.feedback.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TranscriptSearchResultDto {
+    private String feedbackUuid;
+    private String interviewUuid;
+    private String attemptUuid; // 일반 답변은 answerAttemptUuid, PT 답변은 ptAnswerAttemptUuid
+    private int attemptNumber;
+    private boolean pt;
+    private String question;
+    private double score; // 답변 안에서 가장 높은 일치 점수
+    private List<TranscriptSearchMatchDto> matches;
+}
@@ -0,0 +1,18 @@
+package ssafy.i13e206.feedback.dto;
+
+/**
+ * 전문 검색 네이티브 쿼리 결과 (점수 내림차순)
+ */
+public interface TranscriptSearchRow {
+    String getFeedbackUuid();
+    String getInterviewUuid();
+    String getAttemptUuid();
+    Integer getAttemptNumber();
+    Boolean getPt();
+    String getQuestion();
+    String getSourceType();
+    Float getStartSecond();
+    Float getEndSecond();
+    String getContent();
+    Double getScore();
+}
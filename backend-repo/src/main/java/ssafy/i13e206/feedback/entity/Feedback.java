@@ -51,6 +51,17 @@ public class Feedback {
     @Column(name = "expression", columnDefinition = "LONGTEXT")
     private String expression;
 
+    // FeedbackTimelineCodec 형식. 값이 있으면 segment/expression(JSON)보다 우선하며, 기존 JSON 행은 조회 시 이 컬럼으로 옮겨짐
+    @Column(name = "segment_bin", columnDefinition = "MEDIUMBLOB")
+    private byte[] segmentBin;
+
+    @Column(name = "expression_bin", columnDefinition = "MEDIUMBLOB")
+    private byte[] expressionBin;
+
+    // 표정 창 집계용 다중 해상도 요약 (ExpressionSummaryCodec)
+    @Column(name = "expression_summary_bin", columnDefinition = "BLOB")
+    private byte[] expressionSummaryBin;
+
     @Column(name = "model_answer", columnDefinition = "LONGTEXT")
     private String modelAnswer;
 
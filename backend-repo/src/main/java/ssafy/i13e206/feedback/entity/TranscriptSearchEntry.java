@@ -0,0 +1,66 @@
+package ssafy.i13e206.feedback.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import ssafy.i13e206.feedback.entity.enums.TranscriptSearchSource;
+
+/**
+ * 답변 검색용 문서. Feedback 하나당 전체 답변/모범답안/STT 구간마다 한 행이며,
+ * content에는 ngram 파서 FULLTEXT 인덱스가 걸립니다. (TranscriptSearchIndexInitializer)
+ * 조회 조건(사용자, 면접)과 화면 표시에 필요한 값은 조인 없이 쓰도록 복사해 둡니다.
+ */
+@Entity
+@Table(name = "transcript_search_entries", indexes = {
+        @Index(name = "idx_transcript_search_user", columnList = "user_uuid"),
+        @Index(name = "idx_transcript_search_feedback", columnList = "feedback_uuid"),
+        @Index(name = "idx_transcript_search_interview", columnList = "interview_uuid")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class TranscriptSearchEntry {
+
+    @Id
+    @GeneratedValue(generator = "uuid2")
+    @GenericGenerator(name = "uuid2", strategy = "uuid2")
+    @Column(name = "entry_uuid", length = 36)
+    private String entryUuid;
+
+    @Column(name = "feedback_uuid", length = 36, nullable = false)
+    private String feedbackUuid;
+
+    @Column(name = "user_uuid", length = 36, nullable = false)
+    private String userUuid;
+
+    @Column(name = "interview_uuid", length = 36, nullable = false)
+    private String interviewUuid;
+
+    // 일반 답변은 answer_attempt_uuid, PT 답변은 pt_answer_attempt_uuid
+    @Column(name = "attempt_uuid", length = 36, nullable = false)
+    private String attemptUuid;
+
+    @Column(name = "attempt_number", nullable = false)
+    private int attemptNumber;
+
+    @Column(name = "pt", nullable = false)
+    private boolean pt;
+
+    // 일반 답변은 질문, PT 답변은 PT 제목
+    @Column(name = "question", columnDefinition = "TEXT")
+    private String question;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", length = 20, nullable = false)
+    private TranscriptSearchSource sourceType;
+
+    @Column(name = "start_second")
+    private Float startSecond;
+
+    @Column(name = "end_second")
+    private Float endSecond;
+
+    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
+    private String content;
+}
@@ -0,0 +1,7 @@
+package ssafy.i13e206.feedback.entity.enums;
+
+public enum TranscriptSearchSource {
+    TRANSCRIPT,    // 답변 전체 STT 결과
+    MODEL_ANSWER,  // 모범답안
+    SEGMENT        // STT 구간 (영상 탐색용 시작/끝 초 포함)
+}
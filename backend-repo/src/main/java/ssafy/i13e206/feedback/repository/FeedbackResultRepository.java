@@ -1,11 +1,17 @@
 package ssafy.i13e206.feedback.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ssafy.i13e206.feedback.dto.PendingModelAnswerRow;
 import ssafy.i13e206.feedback.entity.Feedback;
 import ssafy.i13e206.interview.entity.AnswerAttempt;
 import ssafy.i13e206.interview.entity.PTAnswerAttempt;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,5 +28,17 @@ public interface FeedbackResultRepository extends JpaRepository<Feedback, String
     // PT 답변 시도에 딸린 피드백
     void deleteByPtAnswerAttempt(PTAnswerAttempt ptAnswerAttempt);
 
-
+    // 면접 생성 시각이 from~to인 면접의 모범답안 없는 피드백. after 이후부터 feedbackUuid 순
+    @Query("SELECT new ssafy.i13e206.feedback.dto.PendingModelAnswerRow(f.feedbackUuid, " +
+            "a.id.answerAttemptUuid, a.id.attemptNumber, p.id.ptAnswerAttemptUuid, p.id.attemptNumber) " +
+            "FROM Feedback f " +
+            "LEFT JOIN f.answerAttempt a LEFT JOIN a.question q LEFT JOIN q.interview qi " +
+            "LEFT JOIN f.ptAnswerAttempt p LEFT JOIN p.ptInterview pt LEFT JOIN pt.interview pi " +
+            "WHERE f.modelAnswer IS NULL AND f.feedbackUuid > :after " +
+            "AND COALESCE(qi.createdAt, pi.createdAt) BETWEEN :from AND :to " +
+            "ORDER BY f.feedbackUuid")
+    List<PendingModelAnswerRow> findPendingModelAnswers(@Param("after") String after,
+                                                        @Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to,
+                                                        Pageable pageable);
 }
\ No newline at end of file
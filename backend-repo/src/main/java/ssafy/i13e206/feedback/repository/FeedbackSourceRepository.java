@@ -1,5 +1,7 @@
 package ssafy.i13e206.feedback.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ssafy.i13e206.feedback.entity.Feedback;
 import ssafy.i13e206.feedback.entity.FeedbackSource;
@@ -7,4 +9,5 @@ import ssafy.i13e206.feedback.entity.FeedbackSource;
 public interface FeedbackSourceRepository extends JpaRepository<FeedbackSource, Long> {
     void deleteByFeedback(Feedback feedback);
 
+    List<FeedbackSource> findByFeedbackIn(Collection<Feedback> feedbacks);
 }
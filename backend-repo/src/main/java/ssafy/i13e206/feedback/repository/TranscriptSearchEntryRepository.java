@@ -0,0 +1,43 @@
+package ssafy.i13e206.feedback.repository;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ssafy.i13e206.feedback.dto.TranscriptSearchRow;
+import ssafy.i13e206.feedback.entity.TranscriptSearchEntry;
+
+public interface TranscriptSearchEntryRepository extends JpaRepository<TranscriptSearchEntry, String> {
+
+    // ngram FULLTEXT 인덱스(자연어 모드) 점수순. user_uuid 조건은 MATCH 결과를 거르는 데 사용
+    @Query(value = "SELECT e.feedback_uuid AS feedbackUuid, e.interview_uuid AS interviewUuid, " +
+            "e.attempt_uuid AS attemptUuid, e.attempt_number AS attemptNumber, e.pt AS pt, e.question AS question, " +
+            "e.source_type AS sourceType, e.start_second AS startSecond, e.end_second AS endSecond, e.content AS content, " +
+            "MATCH(e.content) AGAINST(:query IN NATURAL LANGUAGE MODE) AS score " +
+            "FROM transcript_search_entries e " +
+            "WHERE e.user_uuid = :userUuid AND MATCH(e.content) AGAINST(:query IN NATURAL LANGUAGE MODE) " +
+            "ORDER BY score DESC LIMIT :limit",
+            nativeQuery = true)
+    List<TranscriptSearchRow> search(@Param("userUuid") String userUuid, @Param("query") String query, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM TranscriptSearchEntry e WHERE e.feedbackUuid = :feedbackUuid")
+    void deleteByFeedbackUuid(@Param("feedbackUuid") String feedbackUuid);
+
+    @Modifying
+    @Query("DELETE FROM TranscriptSearchEntry e WHERE e.interviewUuid = :interviewUuid")
+    void deleteByInterviewUuid(@Param("interviewUuid") String interviewUuid);
+
+    @Modifying
+    @Query("DELETE FROM TranscriptSearchEntry e WHERE e.userUuid = :userUuid")
+    void deleteByUserUuid(@Param("userUuid") String userUuid);
+
+    // 검색 문서가 없는 기존 Feedback (기능 도입 전 저장분 색인용). 내용이 없어 문서가 안 생기는 행을 다시 읽지 않도록 after 이후부터
+    @Query(value = "SELECT f.feedback_uuid FROM feedback f " +
+            "WHERE f.feedback_uuid > :after " +
+            "AND NOT EXISTS (SELECT 1 FROM transcript_search_entries e WHERE e.feedback_uuid = f.feedback_uuid) " +
+            "ORDER BY f.feedback_uuid LIMIT :limit",
+            nativeQuery = true)
+    List<String> findUnindexedFeedbackUuids(@Param("after") String after, @Param("limit") int limit);
+}
@@ -0,0 +1,86 @@
+package ssafy.i13e206.feedback.service;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import ssafy.i13e206.feedback.dto.AnalysisResultRequest;
+import ssafy.i13e206.feedback.dto.ModelAnswerReadyMessage;
+import ssafy.i13e206.feedback.dto.ModelAnswerResult;
+import ssafy.i13e206.global.service.WebSocketService;
+import ssafy.i13e206.gpt.constant.LlmPriority;
+import ssafy.i13e206.gpt.service.GmsDirectService;
+import ssafy.i13e206.kafka.dto.ModelAnswerRequest;
+import ssafy.i13e206.kafka.service.KafkaProducerService;
+
+/**
+ * 분석 결과 처리를 두 단계로 나눕니다.
+ * 1. analysis-result-topic: Feedback 저장 후 바로 WebSocket으로 분석 결과(모범답안 없음)를 보내고 model-answer-topic에 생성 요청을 발행
+ * 2. model-answer-topic: 모범답안을 생성해 같은 Feedback에 저장하고 모범답안 완료 메시지를 전송
+ * 사용자가 분석 결과를 받기까지는 DB 저장 시간만 걸리고, 느린 LLM 호출은 별도 소비자 그룹에서 진행됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisResultBatchService {
+
+    private final AnalysisResultService analysisResultService;
+    private final WebSocketService webSocketService;
+    private final KafkaProducerService kafkaProducerService;
+
+    /**
+     * 배치 전체가 끝날 때까지 대기합니다. (리스너가 반환한 뒤에 오프셋이 커밋되도록)
+     * 한 건이 실패해도 나머지 건은 계속 처리합니다.
+     */
+    public void processBatch(List<AnalysisResultRequest> requests) {
+        long startTime = System.currentTimeMillis();
+        requests.forEach(this::process);
+        log.info("분석 결과 배치 처리 완료: size={}, 소요 시간: {}ms", requests.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 1단계: 분석 결과 저장과 전송. (실패는 로그만 남김)
+     * 저장 트랜잭션이 커밋된 뒤에 모범답안 생성 요청을 발행합니다.
+     */
+    public void process(AnalysisResultRequest request) {
+        long startTime = System.currentTimeMillis();
+        try {
+            String feedbackUuid = analysisResultService.saveAnalysisResult(request);
+            kafkaProducerService.sendModelAnswerRequest(request.recordingId(), feedbackUuid);
+
+            AnalysisResultRequest pendingResult = new AnalysisResultRequest(request.recordingId(), request.transcript(), request.analysisResult(), null);
+            webSocketService.sendAnalysisResult(pendingResult);
+            log.info("분석 결과 처리 완료: recordingId={}, 소요 시간: {}ms", request.recordingId(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("분석 결과 처리 실패: recordingId={}", request.recordingId(), e);
+        }
+    }
+
+    /**
+     * 2단계: 모범답안 생성과 전송. 생성이 끝날 때까지 대기합니다. (실패는 로그만 남김)
+     */
+    public void processModelAnswer(ModelAnswerRequest request) {
+        long startTime = System.currentTimeMillis();
+        try {
+            ModelAnswerResult modelAnswerResult = analysisResultService.prepareModelAnswer(request.feedbackUuid())
+                    .contextWrite(LlmPriority.BACKGROUND.asContext())
+                    .block();
+            if (modelAnswerResult == null) {
+                return;
+            }
+            if (GmsDirectService.isFallbackModelAnswer(modelAnswerResult)) {
+                // 기본 문구를 저장하면 이미 생성된 것으로 보고 다시 만들지 않으므로, 비워 둔 채 ModelAnswerReconcileService의 재요청에 맡김
+                log.warn("모범답안이 기본 응답이라 저장하지 않음: recordingId={}", request.recordingId());
+                return;
+            }
+            analysisResultService.saveModelAnswer(request.feedbackUuid(), modelAnswerResult);
+
+            webSocketService.sendModelAnswer(new ModelAnswerReadyMessage(request.recordingId(),
+                    modelAnswerResult.getModelAnswer(), modelAnswerResult.getFeedbackSources()));
+            log.info("모범답안 처리 완료: recordingId={}, 소요 시간: {}ms", request.recordingId(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("모범답안 처리 실패: recordingId={}", request.recordingId(), e);
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package ssafy.i13e206.feedback.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 import ssafy.i13e206.feedback.dto.AnalysisResultRequest;
+import ssafy.i13e206.feedback.dto.Expression;
 import ssafy.i13e206.feedback.dto.ModelAnswerResult;
+import ssafy.i13e206.feedback.dto.Segment;
 import ssafy.i13e206.feedback.entity.Feedback;
 import ssafy.i13e206.feedback.entity.FeedbackSource;
 import ssafy.i13e206.feedback.repository.FeedbackResultRepository;
@@ -19,7 +20,6 @@ import ssafy.i13e206.interview.repository.AnswerAttemptRepository;
 import ssafy.i13e206.interview.repository.PTAnswerAttemptRepository;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -32,10 +32,50 @@ public class AnalysisResultService {
     private final FeedbackResultRepository feedbackResultRepository;
     private final AnswerAttemptRepository answerAttemptRepository;
     private final PTAnswerAttemptRepository ptAnswerAttemptRepository;
-    private final ObjectMapper objectMapper;
     private final GmsDirectService gmsDirectService;
     private final FeedbackSourceRepository feedbackSourceRepository;
+    private final TranscriptSearchService transcriptSearchService;
+
+    /**
+     * 저장된 Feedback의 전사와 질문/PT 정보, 지원자 자료 컨텍스트를 트랜잭션 안에서 미리 읽고,
+     * 아직 구독되지 않은 모범답안 생성 요청을 돌려줍니다. 이미 모범답안이 있으면(재전달된 메시지) 빈 Mono를 돌려줍니다.
+     */
+    public Mono<ModelAnswerResult> prepareModelAnswer(String feedbackUuid) {
+        Feedback feedback = feedbackResultRepository.findById(feedbackUuid)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid feedbackUuid: " + feedbackUuid));
+        if (feedback.getModelAnswer() != null) {
+            log.info("모범답안 이미 생성됨: feedbackUuid={}", feedbackUuid);
+            return Mono.empty();
+        }
+
+        AnswerAttempt answerAttempt = feedback.getAnswerAttempt();
+        if (answerAttempt != null) {
+            String questionText = (answerAttempt.getQuestion() != null) ? answerAttempt.getQuestion().getQuestion() : null;
+            String enterpriseName = answerAttempt.getQuestion().getInterview().getEnterpriseName();
+            String position = answerAttempt.getQuestion().getInterview().getPosition();
+            InterviewSet interviewSet = answerAttempt.getQuestion().getInterview().getInterviewSet();
+
+            return gmsDirectService.generateModelAnswer(questionText, feedback.getTranscript(), enterpriseName, position, interviewSet);
+        }
+
+        PTAnswerAttempt ptAnswerAttempt = feedback.getPtAnswerAttempt();
+        if (ptAnswerAttempt != null) {
+            String ptTitle = ptAnswerAttempt.getPtInterview().getTitle();
+            String ptSituation = ptAnswerAttempt.getPtInterview().getSituation();
+            String enterpriseName = ptAnswerAttempt.getPtInterview().getInterview().getEnterpriseName();
+            String position = ptAnswerAttempt.getPtInterview().getInterview().getPosition();
+            InterviewSet interviewSet = ptAnswerAttempt.getPtInterview().getInterview().getInterviewSet();
+
+            return gmsDirectService.generatePtModelAnswer(ptTitle, ptSituation, feedback.getTranscript(), enterpriseName, position, interviewSet);
+        }
+
+        throw new IllegalArgumentException("Invalid feedbackUuid: " + feedbackUuid);
+    }
 
+    /**
+     * 분석 결과(전사, 표정/구간 타임라인)만 저장하고 저장한 Feedback의 UUID를 돌려줍니다.
+     * 모범답안은 model-answer-topic 소비 단계에서 saveModelAnswer로 채웁니다.
+     */
     @Transactional
     public String saveAnalysisResult(AnalysisResultRequest request) {
         String recordingId = request.recordingId();
@@ -46,13 +86,6 @@ public class AnalysisResultService {
         log.info("분석 결과 처리 시작: sessionId={}, attemptNumber={}", sessionId, attemptNumber);
 
         Feedback.FeedbackBuilder feedbackBuilder = Feedback.builder();
-        String questionText = null;
-        String enterpriseName = null;
-        String position = null;
-        String modelAnswer = null;
-        String ptTitle = null;
-        String ptSituation = null;
-        ModelAnswerResult modelAnswerResult = null;
 
         AnswerAttemptId attemptId = new AnswerAttemptId(sessionId, attemptNumber);
         Optional<AnswerAttempt> answerAttemptOptional = answerAttemptRepository.findById(attemptId);
@@ -61,14 +94,6 @@ public class AnalysisResultService {
             AnswerAttempt answerAttempt = answerAttemptOptional.get();
             answerAttempt.setStatus(AttemptStatus.COMPLETED);
             feedbackBuilder.answerAttempt(answerAttempt);
-
-            questionText = (answerAttempt.getQuestion() != null) ? answerAttempt.getQuestion().getQuestion() : null;
-            enterpriseName =  answerAttempt.getQuestion().getInterview().getEnterpriseName();
-            position = answerAttempt.getQuestion().getInterview().getPosition();
-            InterviewSet interviewSet = answerAttempt.getQuestion().getInterview().getInterviewSet();
-
-
-            modelAnswerResult = gmsDirectService.generateModelAnswer(questionText, request.transcript(), enterpriseName, position, interviewSet).block();
         } else {
             PTAnswerAttemptId ptAttemptId = new PTAnswerAttemptId(sessionId, attemptNumber);
             Optional<PTAnswerAttempt> ptAnswerAttemptOptional = ptAnswerAttemptRepository.findById(ptAttemptId);
@@ -77,45 +102,47 @@ public class AnalysisResultService {
                 PTAnswerAttempt ptAnswerAttempt = ptAnswerAttemptOptional.get();
                 ptAnswerAttempt.setStatus(AttemptStatus.COMPLETED);
                 feedbackBuilder.ptAnswerAttempt(ptAnswerAttempt);
-
-                ptTitle = ptAnswerAttempt.getPtInterview().getTitle();
-                ptSituation = ptAnswerAttempt.getPtInterview().getSituation();
-                enterpriseName = ptAnswerAttempt.getPtInterview().getInterview().getEnterpriseName();
-                position = ptAnswerAttempt.getPtInterview().getInterview().getPosition();
-                InterviewSet interviewSet = ptAnswerAttempt.getPtInterview().getInterview().getInterviewSet();
-
-                modelAnswerResult = gmsDirectService.generatePtModelAnswer(ptTitle, ptSituation, request.transcript(), enterpriseName, position, interviewSet).block();
             } else {
                 throw new IllegalArgumentException("Invalid recordingId: " + recordingId);
             }
         }
 
-        String segmentJson = null;
-        String expressionJson = null;
-        try {
-            if (request.analysisResult() != null) {
-                if (request.analysisResult().segments() != null) {
-                    segmentJson = objectMapper.writeValueAsString(request.analysisResult().segments());
-                }
-                if (request.analysisResult().expressions() != null) {
-                    expressionJson = objectMapper.writeValueAsString(request.analysisResult().expressions());
-                }
+        // 표정/구간 타임라인은 JSON 대신 열 단위 바이너리로 저장 (FeedbackTimelineCodec)
+        byte[] segmentBin = null;
+        byte[] expressionBin = null;
+        byte[] expressionSummaryBin = null;
+        if (request.analysisResult() != null) {
+            if (request.analysisResult().segments() != null) {
+                segmentBin = FeedbackTimelineCodec.encodeSegments(request.analysisResult().segments(),
+                        Segment::start, Segment::end, Segment::text, Segment::intent);
+            }
+            if (request.analysisResult().expressions() != null) {
+                expressionBin = FeedbackTimelineCodec.encodeExpressions(request.analysisResult().expressions(),
+                        Expression::second, Expression::expression, Expression::score);
+                expressionSummaryBin = ExpressionSummaryCodec.encode(request.analysisResult().expressions(),
+                        Expression::second, Expression::expression);
             }
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to process analysis result JSON", e);
         }
-        final ModelAnswerResult finalModelAnswerResult = modelAnswerResult;
-
-
         Feedback feedback = feedbackBuilder
                 .transcript(request.transcript())
-                .segment(segmentJson)
-                .expression(expressionJson)
-                .modelAnswer(Objects.requireNonNull(finalModelAnswerResult).getModelAnswer())
+                .segmentBin(segmentBin)
+                .expressionBin(expressionBin)
+                .expressionSummaryBin(expressionSummaryBin)
                 .build();
 
+        feedbackResultRepository.save(feedback);
+        transcriptSearchService.index(feedback);
+
+        return feedback.getFeedbackUuid();
+    }
+
+    @Transactional
+    public void saveModelAnswer(String feedbackUuid, ModelAnswerResult modelAnswerResult) {
+        Feedback feedback = feedbackResultRepository.findById(feedbackUuid)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid feedbackUuid: " + feedbackUuid));
+
         List<FeedbackSource> feedbackSourceEntities = Optional
-                .ofNullable(finalModelAnswerResult.getFeedbackSources())
+                .ofNullable(modelAnswerResult.getFeedbackSources())
                 .orElseGet(List::of)
                 .stream()
                 .peek(sourceDto ->
@@ -129,10 +156,12 @@ public class AnalysisResultService {
                         .build())
                 .toList();
 
-        feedback.setFeedbackSources(feedbackSourceEntities);
-
-        feedbackResultRepository.save(feedback);
+        feedback.setModelAnswer(modelAnswerResult.getModelAnswer());
+        // orphanRemoval 컬렉션이므로 교체하지 않고 내용만 바꿈
+        feedback.getFeedbackSources().clear();
+        feedback.getFeedbackSources().addAll(feedbackSourceEntities);
 
-        return finalModelAnswerResult.getModelAnswer();
+        // 모범답안 검색 문서 추가
+        transcriptSearchService.index(feedback);
     }
 }
@@ -0,0 +1,224 @@
+package ssafy.i13e206.feedback.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import ssafy.i13e206.interview.dto.ExpressionDto;
+
+/**
+ * 표정 타임라인의 다중 해상도 요약. 구간 크기(LEVELS)마다 [구간 × 라벨] 개수 표를 미리 계산해 두고,
+ * 창(window) 단위 집계는 창에 딱 맞는 가장 굵은 해상도의 구간을 더해서 구합니다.
+ *
+ * 형식: [X][버전][라벨 사전][끝 초][해상도 수] 해상도마다 [구간 초][구간 수][구간 × 라벨 개수(varint)]
+ * 0초 이전(음수) 초는 집계하지 않습니다.
+ */
+public final class ExpressionSummaryCodec {
+
+    // 미리 계산할 구간 크기(초). 작은 것부터
+    static final int[] LEVELS = {5, 15, 60};
+
+    private static final byte SUMMARY_FORMAT = 'X';
+    private static final byte VERSION = 1;
+
+    private ExpressionSummaryCodec() {
+    }
+
+    public static <T> byte[] encode(List<T> expressions, ToIntFunction<T> second, Function<T, String> label) {
+        Summary summary = summarize(expressions, second, label, LEVELS);
+        ByteBuffer buffer = ByteBuffer.allocate(estimateSize(summary));
+        buffer.put(SUMMARY_FORMAT).put(VERSION);
+        putVarint(buffer, summary.labels.length);
+        for (String value : summary.labels) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            putVarint(buffer, encoded.length);
+            buffer.put(encoded);
+        }
+        putVarint(buffer, summary.endSecond);
+        putVarint(buffer, summary.levels.size());
+        for (Level level : summary.levels) {
+            putVarint(buffer, level.bucketSeconds);
+            putVarint(buffer, level.bucketCount);
+            for (int count : level.counts) {
+                putVarint(buffer, count);
+            }
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    public static Summary decode(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != SUMMARY_FORMAT || bytes[1] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 표정 요약 형식입니다.");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 2);
+        String[] labels = new String[getVarint(buffer)];
+        for (int i = 0; i < labels.length; i++) {
+            int length = getVarint(buffer);
+            labels[i] = new String(bytes, buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        int endSecond = getVarint(buffer);
+        int levelCount = getVarint(buffer);
+        List<Level> levels = new ArrayList<>(levelCount);
+        for (int i = 0; i < levelCount; i++) {
+            int bucketSeconds = getVarint(buffer);
+            int bucketCount = getVarint(buffer);
+            int[] counts = new int[bucketCount * labels.length];
+            for (int j = 0; j < counts.length; j++) {
+                counts[j] = getVarint(buffer);
+            }
+            levels.add(new Level(bucketSeconds, bucketCount, counts));
+        }
+        return new Summary(labels, endSecond, levels);
+    }
+
+    /**
+     * 요약이 없는 행(기능 도입 전 저장분)은 타임라인에서 1초 해상도 요약을 만들어 같은 방식으로 집계합니다.
+     */
+    public static Summary fromTimeline(List<ExpressionDto> expressions) {
+        return summarize(expressions, ExpressionDto::second, ExpressionDto::expression, new int[]{1});
+    }
+
+    private static <T> Summary summarize(List<T> expressions, ToIntFunction<T> second, Function<T, String> label, int[] bucketSizes) {
+        Map<String, Integer> labelIds = new LinkedHashMap<>();
+        int endSecond = 0;
+        for (T expression : expressions) {
+            String value = label.apply(expression);
+            int at = second.applyAsInt(expression);
+            if (value == null || at < 0) {
+                continue;
+            }
+            labelIds.putIfAbsent(value, labelIds.size());
+            endSecond = Math.max(endSecond, at + 1);
+        }
+        String[] labels = labelIds.keySet().toArray(new String[0]);
+
+        List<Level> levels = new ArrayList<>(bucketSizes.length);
+        for (int bucketSeconds : bucketSizes) {
+            int bucketCount = (endSecond + bucketSeconds - 1) / bucketSeconds;
+            int[] counts = new int[bucketCount * labels.length];
+            for (T expression : expressions) {
+                String value = label.apply(expression);
+                int at = second.applyAsInt(expression);
+                if (value == null || at < 0) {
+                    continue;
+                }
+                counts[(at / bucketSeconds) * labels.length + labelIds.get(value)]++;
+            }
+            levels.add(new Level(bucketSeconds, bucketCount, counts));
+        }
+        return new Summary(labels, endSecond, levels);
+    }
+
+    private static int estimateSize(Summary summary) {
+        int size = 16 + summary.levels.size() * 10;
+        for (String value : summary.labels) {
+            size += 5 + value.getBytes(StandardCharsets.UTF_8).length;
+        }
+        for (Level level : summary.levels) {
+            size += level.counts.length * 5;
+        }
+        return size;
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer buffer) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 varint 값입니다.");
+    }
+
+    public static final class Summary {
+
+        private final String[] labels;
+        private final int endSecond;
+        private final List<Level> levels;
+
+        private Summary(String[] labels, int endSecond, List<Level> levels) {
+            this.labels = labels;
+            this.endSecond = endSecond;
+            this.levels = levels;
+        }
+
+        public List<String> labels() {
+            return List.of(labels);
+        }
+
+        // 마지막 표정 기록 다음 초 (집계 범위의 기본 끝)
+        public int endSecond() {
+            return endSecond;
+        }
+
+        /**
+         * [from, to) 구간의 라벨별 개수. 인덱스는 labels() 순서입니다.
+         * from/to에 맞는 가장 굵은 해상도를 쓰고, to가 기록 끝을 넘으면 끝까지로 봅니다.
+         */
+        public int[] histogram(int from, int to) {
+            int[] histogram = new int[labels.length];
+            int end = Math.min(to, endSecond);
+            if (from >= end) {
+                return histogram;
+            }
+            Level level = coarsestFitting(from, end);
+            int firstBucket = from / level.bucketSeconds;
+            int lastBucket = Math.min(level.bucketCount, (end + level.bucketSeconds - 1) / level.bucketSeconds);
+            for (int bucket = firstBucket; bucket < lastBucket; bucket++) {
+                int offset = bucket * labels.length;
+                for (int labelId = 0; labelId < labels.length; labelId++) {
+                    histogram[labelId] += level.counts[offset + labelId];
+                }
+            }
+            return histogram;
+        }
+
+        private Level coarsestFitting(int from, int end) {
+            Level fitting = null;
+            for (Level level : levels) {
+                boolean alignedEnd = end % level.bucketSeconds == 0 || end == endSecond;
+                if (from % level.bucketSeconds == 0 && alignedEnd
+                        && (fitting == null || level.bucketSeconds > fitting.bucketSeconds)) {
+                    fitting = level;
+                }
+            }
+            if (fitting == null) {
+                throw new IllegalStateException("구간 크기에 맞는 요약 해상도가 없습니다: from=" + from + ", to=" + end);
+            }
+            return fitting;
+        }
+
+        /**
+         * from부터 windowSeconds 간격으로 to까지 나눈 모든 창 경계가 어느 한 해상도의 구간 경계와 맞는지.
+         * 맞지 않으면 호출 측에서 타임라인 기반 1초 해상도 요약으로 대체합니다.
+         */
+        public boolean supports(int from, int windowSeconds, int to) {
+            for (Level level : levels) {
+                if (from % level.bucketSeconds == 0 && windowSeconds % level.bucketSeconds == 0
+                        && (to >= endSecond || to % level.bucketSeconds == 0)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Level(int bucketSeconds, int bucketCount, int[] counts) {
+    }
+}
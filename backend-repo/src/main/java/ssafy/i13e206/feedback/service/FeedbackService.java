@@ -1,8 +1,5 @@
 package ssafy.i13e206.feedback.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,13 +8,10 @@ import ssafy.i13e206.feedback.dto.*;
 import ssafy.i13e206.feedback.entity.Feedback;
 import ssafy.i13e206.feedback.entity.FeedbackSource;
 import ssafy.i13e206.feedback.repository.FeedbackResultRepository; // 통합 Repository 사용
-import ssafy.i13e206.interview.dto.ExpressionDto;
-import ssafy.i13e206.interview.dto.SegmentDto;
 import ssafy.i13e206.interview.entity.*;
 import ssafy.i13e206.interview.entity.enums.AttemptStatus;
 import ssafy.i13e206.interview.repository.*;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -33,7 +27,7 @@ public class FeedbackService {
     private final AnswerAttemptRepository answerAttemptRepository;
     private final QuestionRepository questionRepository;
     private final FeedbackResultRepository feedbackRepository;
-    private final ObjectMapper objectMapper;
+    private final FeedbackTimelineService feedbackTimelineService;
 
     @Transactional(readOnly = true)
     public PtFeedbackResponseDto getPtInterviewFeedback(String ptAnswerAttemptUuid, int attemptNumber) {
@@ -47,8 +41,8 @@ public class FeedbackService {
         PtPresentationFeedbackDto presentationDto = PtPresentationFeedbackDto.of(
                 ptAttempt,
                 ptFeedback,
-                json -> parseJsonList(json, new TypeReference<List<SegmentDto>>() {}),
-                json -> parseJsonList(json, new TypeReference<List<ExpressionDto>>() {})
+                feedbackTimelineService::segments,
+                feedbackTimelineService::expressions
         );
         Interview interview = ptAttempt.getPtInterview().getInterview();
 
@@ -80,6 +74,26 @@ public class FeedbackService {
         ).orElseThrow(() -> new IllegalArgumentException("유효하지 않은 recordingId 입니다: " + recordingId));
     }
 
+    /**
+     * 답변 시도의 표정 타임라인을 창 단위로 집계합니다. (전체 초 단위 목록 대신 창 개수만큼만 응답)
+     * @param recordingId 녹화 ID
+     */
+    @Transactional(readOnly = true)
+    public ExpressionWindowResponseDto getExpressionWindows(String recordingId, int windowSeconds, int from, Integer to) {
+        ParsedId parsedId = parseRecordingId(recordingId);
+
+        Optional<Feedback> feedback = answerAttemptRepository
+                .findById(new AnswerAttemptId(parsedId.sessionId(), parsedId.attemptNumber()))
+                .map(AnswerAttempt::getFeedback)
+                .or(() -> ptAnswerAttemptRepository
+                        .findById(new PTAnswerAttemptId(parsedId.sessionId(), parsedId.attemptNumber()))
+                        .map(PTAnswerAttempt::getFeedback));
+
+        return feedback
+                .map(f -> feedbackTimelineService.expressionWindows(f, windowSeconds, from, to))
+                .orElseThrow(() -> new IllegalArgumentException("피드백을 찾을 수 없습니다: " + recordingId));
+    }
+
     private record ParsedId(String sessionId, int attemptNumber) {}
 
     private ParsedId parseRecordingId(String recordingId) {
@@ -104,10 +118,10 @@ public class FeedbackService {
                 .feedbackType("NORMAL")
                 .question(attempt.getQuestion().getQuestion())
                 .videoPath(attempt.getVideoPath())
-                .segment(parseJsonList(feedback.getSegment(), new TypeReference<>() {}))
+                .segment(feedbackTimelineService.segments(feedback))
                 .transcript(feedback.getTranscript())
                 .modelAnswer(feedback.getModelAnswer())
-                .expressions(parseJsonList(feedback.getExpression(), new TypeReference<>() {}))
+                .expressions(feedbackTimelineService.expressions(feedback))
                 .feedbackSourceDtos(feedbackSourceDtos)
                 .build();
     }
@@ -126,23 +140,11 @@ public class FeedbackService {
                 .situation(ptAttempt.getPtInterview().getSituation())
                 .whiteboard(ptAttempt.getWhiteboard())
                 .videoPath(ptAttempt.getVideoPath())
-                .segment(parseJsonList(feedback.getSegment(), new TypeReference<>() {}))
+                .segment(feedbackTimelineService.segments(feedback))
                 .transcript(feedback.getTranscript())
                 .modelAnswer(feedback.getModelAnswer())
-                .expressions(parseJsonList(feedback.getExpression(), new TypeReference<>() {}))
+                .expressions(feedbackTimelineService.expressions(feedback))
                 .feedbackSourceDtos(feedbackSourceDtos)
                 .build();
     }
-
-    private <T> List<T> parseJsonList(String json, TypeReference<List<T>> typeReference) {
-        if (json == null || json.isBlank()) {
-            return Collections.emptyList();
-        }
-        try {
-            return objectMapper.readValue(json, typeReference);
-        } catch (JsonProcessingException e) {
-            log.error("JSON 파싱에 실패했습니다. JSON: {}", json, e);
-            return Collections.emptyList();
-        }
-    }
 }
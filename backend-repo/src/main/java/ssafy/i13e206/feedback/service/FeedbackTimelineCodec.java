@@ -0,0 +1,388 @@
+package ssafy.i13e206.feedback.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import ssafy.i13e206.feedback.dto.Expression;
+import ssafy.i13e206.interview.dto.ExpressionDto;
+import ssafy.i13e206.interview.dto.SegmentDto;
+
+/**
+ * Feedback의 표정/구간 타임라인을 열(column) 단위 바이너리로 인코딩합니다.
+ *
+ * 표정: [E][버전][개수][라벨 사전][초 델타(zigzag varint) 배열][라벨 ID(varint) 배열]([점수 float 배열], 버전 2만)
+ * 구간: [S][버전][개수][start float 배열][end float 배열][의도 사전][의도 ID 배열][텍스트(길이+1 varint, UTF-8) 배열]
+ * 사전 ID 0은 null을 뜻합니다.
+ *
+ * decode*는 헤더의 형식만 확인하고 실제 디코딩은 목록에 처음 접근할 때 한 번 수행합니다.
+ */
+public final class FeedbackTimelineCodec {
+
+    private static final byte EXPRESSION_FORMAT = 'E';
+    private static final byte SEGMENT_FORMAT = 'S';
+    private static final byte VERSION = 1;
+    // 표정 점수 열이 추가된 표정 형식 버전 (버전 1 표정도 계속 읽음)
+    private static final byte SCORED_EXPRESSION_VERSION = 2;
+
+    private FeedbackTimelineCodec() {
+    }
+
+    public static byte[] encodeExpressions(List<ExpressionDto> expressions) {
+        return encodeExpressions(expressions, ExpressionDto::second, ExpressionDto::expression);
+    }
+
+    public static <T> byte[] encodeExpressions(List<T> expressions, ToIntFunction<T> second, Function<T, String> label) {
+        return encodeExpressions(expressions, second, label, null);
+    }
+
+    /**
+     * 점수까지 저장합니다. (버전 2, 초당 float 4바이트 추가)
+     */
+    public static <T> byte[] encodeExpressions(List<T> expressions, ToIntFunction<T> second, Function<T, String> label,
+                                               ToDoubleFunction<T> score) {
+        Writer writer = new Writer(expressions.size() * (score == null ? 2 : 6) + 32);
+        writer.writeByte(EXPRESSION_FORMAT);
+        writer.writeByte(score == null ? VERSION : SCORED_EXPRESSION_VERSION);
+        writer.writeVarint(expressions.size());
+
+        Dictionary dictionary = new Dictionary();
+        int[] labelIds = new int[expressions.size()];
+        for (int i = 0; i < labelIds.length; i++) {
+            labelIds[i] = dictionary.idOf(label.apply(expressions.get(i)));
+        }
+        dictionary.writeTo(writer);
+
+        int previous = 0;
+        for (T expression : expressions) {
+            int current = second.applyAsInt(expression);
+            writer.writeVarint(zigzag(current - previous));
+            previous = current;
+        }
+        for (int labelId : labelIds) {
+            writer.writeVarint(labelId);
+        }
+        if (score != null) {
+            for (T expression : expressions) {
+                writer.writeFloat((float) score.applyAsDouble(expression));
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    public static byte[] encodeSegments(List<SegmentDto> segments) {
+        return encodeSegments(segments, SegmentDto::getStart, SegmentDto::getEnd, SegmentDto::getText, SegmentDto::getIntent);
+    }
+
+    public static <T> byte[] encodeSegments(List<T> segments, Function<T, Number> start, Function<T, Number> end,
+                                            Function<T, String> text, Function<T, String> intent) {
+        Writer writer = new Writer(segments.size() * 64 + 32);
+        writer.writeByte(SEGMENT_FORMAT);
+        writer.writeByte(VERSION);
+        writer.writeVarint(segments.size());
+
+        for (T segment : segments) {
+            writer.writeFloat(start.apply(segment).floatValue());
+        }
+        for (T segment : segments) {
+            writer.writeFloat(end.apply(segment).floatValue());
+        }
+
+        Dictionary dictionary = new Dictionary();
+        int[] intentIds = new int[segments.size()];
+        for (int i = 0; i < intentIds.length; i++) {
+            intentIds[i] = dictionary.idOf(intent.apply(segments.get(i)));
+        }
+        dictionary.writeTo(writer);
+        for (int intentId : intentIds) {
+            writer.writeVarint(intentId);
+        }
+
+        for (T segment : segments) {
+            writer.writeString(text.apply(segment));
+        }
+        return writer.toByteArray();
+    }
+
+    public static List<ExpressionDto> decodeExpressions(byte[] bytes) {
+        checkExpressionHeader(bytes);
+        return new ExpressionTimeline<>(bytes, (second, label, score) -> new ExpressionDto(second, label));
+    }
+
+    /**
+     * 점수를 포함해 디코딩합니다. 점수 열이 없는 버전 1 데이터의 점수는 NaN입니다.
+     */
+    public static List<Expression> decodeScoredExpressions(byte[] bytes) {
+        checkExpressionHeader(bytes);
+        return new ExpressionTimeline<>(bytes, Expression::new);
+    }
+
+    public static List<SegmentDto> decodeSegments(byte[] bytes) {
+        checkHeader(bytes, SEGMENT_FORMAT);
+        return new SegmentTimeline(bytes);
+    }
+
+    private static void checkHeader(byte[] bytes, byte format) {
+        if (bytes.length < 2 || bytes[0] != format || bytes[1] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 타임라인 형식입니다.");
+        }
+    }
+
+    private static void checkExpressionHeader(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != EXPRESSION_FORMAT || (bytes[1] != VERSION && bytes[1] != SCORED_EXPRESSION_VERSION)) {
+            throw new IllegalArgumentException("지원하지 않는 타임라인 형식입니다.");
+        }
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private interface ExpressionFactory<T> {
+        T create(int second, String label, double score);
+    }
+
+    /**
+     * 초/라벨 ID/점수 열만 풀어 두고, 원소는 get 시점에 만듭니다.
+     */
+    private static final class ExpressionTimeline<T> extends AbstractList<T> {
+
+        private final byte[] bytes;
+        private final ExpressionFactory<T> factory;
+        private int[] seconds;
+        private int[] labelIds;
+        private String[] labels;
+        private float[] scores;
+
+        private ExpressionTimeline(byte[] bytes, ExpressionFactory<T> factory) {
+            this.bytes = bytes;
+            this.factory = factory;
+        }
+
+        @Override
+        public T get(int index) {
+            decode();
+            int labelId = labelIds[index];
+            return factory.create(seconds[index], labelId == 0 ? null : labels[labelId - 1],
+                    scores == null ? Double.NaN : scores[index]);
+        }
+
+        @Override
+        public int size() {
+            decode();
+            return seconds.length;
+        }
+
+        private void decode() {
+            if (seconds != null) {
+                return;
+            }
+            Reader reader = new Reader(bytes);
+            int count = reader.readVarint();
+            String[] dictionary = reader.readDictionary();
+            int[] decodedSeconds = new int[count];
+            int previous = 0;
+            for (int i = 0; i < count; i++) {
+                previous += unzigzag(reader.readVarint());
+                decodedSeconds[i] = previous;
+            }
+            int[] decodedLabelIds = new int[count];
+            for (int i = 0; i < count; i++) {
+                decodedLabelIds[i] = reader.readVarint();
+            }
+            if (bytes[1] == SCORED_EXPRESSION_VERSION) {
+                float[] decodedScores = new float[count];
+                for (int i = 0; i < count; i++) {
+                    decodedScores[i] = reader.readFloat();
+                }
+                scores = decodedScores;
+            }
+            labels = dictionary;
+            labelIds = decodedLabelIds;
+            seconds = decodedSeconds;
+        }
+    }
+
+    private static final class SegmentTimeline extends AbstractList<SegmentDto> {
+
+        private final byte[] bytes;
+        private SegmentDto[] segments;
+
+        private SegmentTimeline(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public SegmentDto get(int index) {
+            decode();
+            return segments[index];
+        }
+
+        @Override
+        public int size() {
+            decode();
+            return segments.length;
+        }
+
+        private void decode() {
+            if (segments != null) {
+                return;
+            }
+            Reader reader = new Reader(bytes);
+            int count = reader.readVarint();
+            float[] starts = new float[count];
+            for (int i = 0; i < count; i++) {
+                starts[i] = reader.readFloat();
+            }
+            float[] ends = new float[count];
+            for (int i = 0; i < count; i++) {
+                ends[i] = reader.readFloat();
+            }
+            String[] intents = reader.readDictionary();
+            int[] intentIds = new int[count];
+            for (int i = 0; i < count; i++) {
+                intentIds[i] = reader.readVarint();
+            }
+            SegmentDto[] decoded = new SegmentDto[count];
+            for (int i = 0; i < count; i++) {
+                String intent = intentIds[i] == 0 ? null : intents[intentIds[i] - 1];
+                decoded[i] = new SegmentDto(starts[i], ends[i], reader.readString(), intent);
+            }
+            segments = decoded;
+        }
+    }
+
+    private static final class Dictionary {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int idOf(String value) {
+            if (value == null) {
+                return 0;
+            }
+            return ids.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size();
+            });
+        }
+
+        void writeTo(Writer writer) {
+            writer.writeVarint(values.size());
+            for (String value : values) {
+                writer.writeString(value);
+            }
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialCapacity) {
+            buffer = new byte[Math.max(16, initialCapacity)];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarint(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeFloat(float value) {
+            ensureCapacity(4);
+            int bits = Float.floatToIntBits(value);
+            buffer[position++] = (byte) (bits >>> 24);
+            buffer[position++] = (byte) (bits >>> 16);
+            buffer[position++] = (byte) (bits >>> 8);
+            buffer[position++] = (byte) bits;
+        }
+
+        // null은 0, 그 외에는 (바이트 길이 + 1)
+        void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(encoded.length + 1);
+            ensureCapacity(encoded.length);
+            System.arraycopy(encoded, 0, buffer, position, encoded.length);
+            position += encoded.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer buffer;
+
+        Reader(byte[] bytes) {
+            // 형식/버전 헤더 이후부터 읽기
+            buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 2);
+        }
+
+        int readVarint() {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = buffer.get();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint 값입니다.");
+        }
+
+        float readFloat() {
+            return buffer.getFloat();
+        }
+
+        String readString() {
+            int length = readVarint();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(buffer.array(), buffer.position(), length - 1, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length - 1);
+            return value;
+        }
+
+        String[] readDictionary() {
+            String[] values = new String[readVarint()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = readString();
+            }
+            return values;
+        }
+    }
+}
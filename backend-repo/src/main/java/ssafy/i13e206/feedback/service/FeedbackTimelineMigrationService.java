@@ -0,0 +1,131 @@
+package ssafy.i13e206.feedback.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ssafy.i13e206.feedback.dto.Expression;
+import ssafy.i13e206.feedback.entity.Feedback;
+import ssafy.i13e206.feedback.repository.FeedbackResultRepository;
+import ssafy.i13e206.interview.dto.ExpressionDto;
+import ssafy.i13e206.interview.dto.SegmentDto;
+
+/**
+ * JSON으로 저장된 기존 타임라인을 FeedbackTimelineCodec 형식으로 옮깁니다.
+ * 조회 요청과 별도 스레드/트랜잭션에서 실행되며, 파싱이나 변환 검증(점수 포함)에 실패한 컬럼은 JSON 그대로 둡니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedbackTimelineMigrationService {
+
+    private final FeedbackResultRepository feedbackResultRepository;
+    private final ObjectMapper objectMapper;
+
+    // 같은 행을 동시에 여러 번 옮기지 않도록 진행 중인 feedbackUuid 기록 (인스턴스 단위)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    static boolean needsMigration(Feedback feedback) {
+        return (feedback.getExpressionBin() == null && hasText(feedback.getExpression()))
+                || (feedback.getSegmentBin() == null && hasText(feedback.getSegment()));
+    }
+
+    @Async
+    @Transactional
+    public void migrate(String feedbackUuid) {
+        if (!inFlight.add(feedbackUuid)) {
+            return;
+        }
+        try {
+            Feedback feedback = feedbackResultRepository.findById(feedbackUuid).orElse(null);
+            if (feedback == null || !needsMigration(feedback)) {
+                return;
+            }
+
+            int jsonChars = length(feedback.getExpression()) + length(feedback.getSegment());
+            int binaryBytes = 0;
+            if (feedback.getExpressionBin() == null && hasText(feedback.getExpression())) {
+                List<Expression> expressions = parse(feedback.getExpression(), new TypeReference<>() {});
+                if (expressions != null) {
+                    byte[] expressionBin = FeedbackTimelineCodec.encodeExpressions(expressions,
+                            Expression::second, Expression::expression, Expression::score);
+                    // 점수까지 그대로 읽히는지 확인한 뒤에만 JSON을 지운다 (JSON이 유일한 원본)
+                    if (roundTrips(expressions, FeedbackTimelineCodec.decodeScoredExpressions(expressionBin))) {
+                        feedback.setExpressionBin(expressionBin);
+                        feedback.setExpressionSummaryBin(ExpressionSummaryCodec.encode(expressions, Expression::second, Expression::expression));
+                        feedback.setExpression(null);
+                        binaryBytes += expressionBin.length;
+                    } else {
+                        log.warn("표정 타임라인 바이너리 검증 실패 (JSON 유지): feedbackUuid={}", feedbackUuid);
+                    }
+                }
+            }
+            if (feedback.getSegmentBin() == null && hasText(feedback.getSegment())) {
+                List<SegmentDto> segments = parse(feedback.getSegment(), new TypeReference<>() {});
+                if (segments != null) {
+                    feedback.setSegmentBin(FeedbackTimelineCodec.encodeSegments(segments));
+                    feedback.setSegment(null);
+                    binaryBytes += feedback.getSegmentBin().length;
+                }
+            }
+            log.info("타임라인 바이너리 변환: feedbackUuid={}, JSON {}자 -> {}바이트", feedbackUuid, jsonChars, binaryBytes);
+        } catch (Exception e) {
+            log.warn("타임라인 바이너리 변환 실패 (JSON 유지): feedbackUuid={}", feedbackUuid, e);
+        } finally {
+            inFlight.remove(feedbackUuid);
+        }
+    }
+
+    // 점수는 float 열로 저장하므로 float 정밀도로 비교
+    static boolean roundTrips(List<Expression> original, List<Expression> decoded) {
+        if (original.size() != decoded.size()) {
+            return false;
+        }
+        for (int i = 0; i < original.size(); i++) {
+            Expression expected = original.get(i);
+            Expression actual = decoded.get(i);
+            if (expected.second() != actual.second()
+                    || !Objects.equals(expected.expression(), actual.expression())
+                    || Float.compare((float) expected.score(), (float) actual.score()) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<ExpressionDto> readLegacyExpressions(String json) {
+        List<ExpressionDto> expressions = hasText(json) ? parse(json, new TypeReference<>() {}) : null;
+        return expressions == null ? Collections.emptyList() : expressions;
+    }
+
+    public List<SegmentDto> readLegacySegments(String json) {
+        List<SegmentDto> segments = hasText(json) ? parse(json, new TypeReference<>() {}) : null;
+        return segments == null ? Collections.emptyList() : segments;
+    }
+
+    private <T> List<T> parse(String json, TypeReference<List<T>> typeReference) {
+        try {
+            return objectMapper.readValue(json, typeReference);
+        } catch (JsonProcessingException e) {
+            log.error("JSON 파싱에 실패했습니다. JSON: {}", json, e);
+            return null;
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
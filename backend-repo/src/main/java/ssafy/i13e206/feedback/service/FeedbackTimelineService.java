@@ -0,0 +1,144 @@
+package ssafy.i13e206.feedback.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import ssafy.i13e206.feedback.dto.ExpressionRunDto;
+import ssafy.i13e206.feedback.dto.ExpressionWindowDto;
+import ssafy.i13e206.feedback.dto.ExpressionWindowResponseDto;
+import ssafy.i13e206.feedback.entity.Feedback;
+import ssafy.i13e206.interview.dto.ExpressionDto;
+import ssafy.i13e206.interview.dto.SegmentDto;
+
+/**
+ * Feedback의 표정/구간 타임라인을 읽습니다. 바이너리 컬럼이 있으면 지연 디코딩 목록을 돌려주고,
+ * 기능 도입 전 JSON만 있는 행은 JSON을 읽은 뒤 바이너리로 옮기는 작업을 비동기로 예약합니다.
+ * 표정 창 집계는 저장 시 만든 다중 해상도 요약(ExpressionSummaryCodec)을 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedbackTimelineService {
+
+    private final FeedbackTimelineMigrationService feedbackTimelineMigrationService;
+
+    @Value("${feedback.timeline.migrate-on-read:true}")
+    private boolean migrateOnRead;
+
+    // 한 번에 돌려줄 최대 창 개수 (넘으면 범위를 잘라서 응답의 to로 알려줌)
+    @Value("${feedback.expression-window.max-windows:500}")
+    private int maxWindows;
+
+    public List<ExpressionDto> expressions(Feedback feedback) {
+        if (feedback == null) {
+            return Collections.emptyList();
+        }
+        if (feedback.getExpressionBin() != null) {
+            try {
+                return FeedbackTimelineCodec.decodeExpressions(feedback.getExpressionBin());
+            } catch (IllegalArgumentException e) {
+                log.error("표정 타임라인 디코딩 실패: feedbackUuid={}", feedback.getFeedbackUuid(), e);
+                return Collections.emptyList();
+            }
+        }
+        scheduleMigration(feedback);
+        return feedbackTimelineMigrationService.readLegacyExpressions(feedback.getExpression());
+    }
+
+    public List<SegmentDto> segments(Feedback feedback) {
+        if (feedback == null) {
+            return Collections.emptyList();
+        }
+        if (feedback.getSegmentBin() != null) {
+            try {
+                return FeedbackTimelineCodec.decodeSegments(feedback.getSegmentBin());
+            } catch (IllegalArgumentException e) {
+                log.error("구간 타임라인 디코딩 실패: feedbackUuid={}", feedback.getFeedbackUuid(), e);
+                return Collections.emptyList();
+            }
+        }
+        scheduleMigration(feedback);
+        return feedbackTimelineMigrationService.readLegacySegments(feedback.getSegment());
+    }
+
+    /**
+     * [from, to) 범위를 windowSeconds 크기 창으로 나눠 표정 분포와 우세 표정 구간을 계산합니다.
+     * to가 없으면 마지막 표정 기록까지입니다. 요약이 없거나 창 경계가 요약 해상도와 맞지 않으면 타임라인에서 1초 해상도로 집계합니다.
+     */
+    public ExpressionWindowResponseDto expressionWindows(Feedback feedback, int windowSeconds, int from, Integer to) {
+        ExpressionSummaryCodec.Summary summary = summary(feedback);
+        int end = to == null ? summary.endSecond() : to;
+        end = (int) Math.min(end, from + (long) windowSeconds * maxWindows);
+        if (!summary.supports(from, windowSeconds, end)) {
+            summary = ExpressionSummaryCodec.fromTimeline(expressions(feedback));
+        }
+
+        List<String> labels = summary.labels();
+        List<ExpressionWindowDto> windows = new ArrayList<>();
+        List<ExpressionRunDto> runs = new ArrayList<>();
+        ExpressionRunDto currentRun = null;
+        for (int start = from; start < end; start += windowSeconds) {
+            int windowEnd = Math.min(start + windowSeconds, end);
+            int[] histogram = summary.histogram(start, windowEnd);
+
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            int total = 0;
+            int dominantId = -1;
+            for (int labelId = 0; labelId < histogram.length; labelId++) {
+                if (histogram[labelId] == 0) {
+                    continue;
+                }
+                counts.put(labels.get(labelId), histogram[labelId]);
+                total += histogram[labelId];
+                if (dominantId < 0 || histogram[labelId] > histogram[dominantId]) {
+                    dominantId = labelId;
+                }
+            }
+            String dominant = dominantId < 0 ? null : labels.get(dominantId);
+            windows.add(new ExpressionWindowDto(start, windowEnd, total, counts, dominant));
+
+            // 같은 표정이 우세한 연속 창은 하나의 구간으로 합침 (기록이 없는 창에서 끊김)
+            if (currentRun != null && currentRun.expression().equals(dominant)) {
+                currentRun = new ExpressionRunDto(dominant, currentRun.start(), windowEnd);
+                runs.set(runs.size() - 1, currentRun);
+            } else {
+                currentRun = dominant == null ? null : new ExpressionRunDto(dominant, start, windowEnd);
+                if (currentRun != null) {
+                    runs.add(currentRun);
+                }
+            }
+        }
+
+        return ExpressionWindowResponseDto.builder()
+                .windowSeconds(windowSeconds)
+                .from(from)
+                .to(Math.max(from, end))
+                .timelineEnd(summary.endSecond())
+                .windows(windows)
+                .runs(runs)
+                .build();
+    }
+
+    private ExpressionSummaryCodec.Summary summary(Feedback feedback) {
+        if (feedback.getExpressionSummaryBin() != null) {
+            try {
+                return ExpressionSummaryCodec.decode(feedback.getExpressionSummaryBin());
+            } catch (IllegalArgumentException e) {
+                log.error("표정 요약 디코딩 실패 (타임라인으로 대체): feedbackUuid={}", feedback.getFeedbackUuid(), e);
+            }
+        }
+        return ExpressionSummaryCodec.fromTimeline(expressions(feedback));
+    }
+
+    private void scheduleMigration(Feedback feedback) {
+        if (migrateOnRead && feedback.getFeedbackUuid() != null && FeedbackTimelineMigrationService.needsMigration(feedback)) {
+            feedbackTimelineMigrationService.migrate(feedback.getFeedbackUuid());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package ssafy.i13e206.feedback.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import ssafy.i13e206.feedback.dto.PendingModelAnswerRow;
+import ssafy.i13e206.feedback.repository.FeedbackResultRepository;
+import ssafy.i13e206.kafka.service.KafkaProducerService;
+
+/**
+ * 모범답안이 비어 있는 Feedback에 모범답안 생성 요청을 다시 발행합니다.
+ * 요청 발행이 실패했거나 LLM이 기본 응답을 돌려줘 저장하지 않은 경우가 대상입니다.
+ * 면접 생성 후 min-age가 지난 것만 보므로 아직 처리 중인 요청과 겹치더라도, 같은 세션 키로 뒤에 들어가 이미 생성된 모범답안은 건너뜁니다.
+ * max-age가 지난 면접은 포기합니다. (계속 실패하는 행에 LLM 호출을 반복하지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ModelAnswerReconcileService {
+
+    private static final String RECONCILE_LOCK_KEY = "modelAnswerReconcileLock";
+    // 락을 잡은 인스턴스의 토큰일 때만 삭제 (락이 만료된 뒤 다른 인스턴스가 잡은 락을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final FeedbackResultRepository feedbackResultRepository;
+    private final KafkaProducerService kafkaProducerService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${model-answer.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${model-answer.reconcile.min-age-minutes:30}")
+    private long minAgeMinutes;
+
+    @Value("${model-answer.reconcile.max-age-hours:24}")
+    private long maxAgeHours;
+
+    @Value("${model-answer.reconcile.batch-size:100}")
+    private int batchSize;
+
+    // 한 주기에 다시 발행하는 최대 건수 (model-answer-topic 소비자가 밀리지 않도록)
+    @Value("${model-answer.reconcile.max-per-run:500}")
+    private int maxPerRun;
+
+    @Value("${model-answer.reconcile.lock-seconds:600}")
+    private long lockSeconds;
+
+    /**
+     * 여러 인스턴스가 동시에 돌지 않도록 Redis 락을 잡고, 락을 못 잡으면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${model-answer.reconcile.fixed-delay-ms:600000}",
+            initialDelayString = "${model-answer.reconcile.initial-delay-ms:60000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        String lockToken = UUID.randomUUID().toString();
+        try {
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, lockToken, lockSeconds, TimeUnit.SECONDS);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("모범답안 재요청 락 획득 실패 (이번 주기 건너뜀)", e);
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = now.minusHours(maxAgeHours);
+        LocalDateTime to = now.minusMinutes(minAgeMinutes);
+        int requested = 0;
+        String after = "";
+        try {
+            while (requested < maxPerRun) {
+                List<PendingModelAnswerRow> rows = feedbackResultRepository.findPendingModelAnswers(after, from, to,
+                        PageRequest.of(0, Math.min(batchSize, maxPerRun - requested)));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                for (PendingModelAnswerRow row : rows) {
+                    kafkaProducerService.sendModelAnswerRequest(row.recordingId(), row.feedbackUuid());
+                }
+                requested += rows.size();
+                after = rows.get(rows.size() - 1).feedbackUuid();
+            }
+            if (requested > 0) {
+                log.info("모범답안 재요청 완료: feedback={}, 소요 시간: {}ms", requested, System.currentTimeMillis() - startTime);
+            }
+        } catch (Exception e) {
+            log.warn("모범답안 재요청 실패: 진행={}", requested, e);
+        } finally {
+            releaseLock(lockToken);
+        }
+    }
+
+    private void releaseLock(String lockToken) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(RECONCILE_LOCK_KEY), lockToken);
+        } catch (Exception e) {
+            log.warn("모범답안 재요청 락 해제 실패 (만료 시 해제됨)", e);
+        }
+    }
+}
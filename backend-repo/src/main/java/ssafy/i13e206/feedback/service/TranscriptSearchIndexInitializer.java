@@ -0,0 +1,56 @@
+package ssafy.i13e206.feedback.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 문서 테이블에 ngram 파서 FULLTEXT 인덱스를 만듭니다. (JPA 스키마 생성으로는 파서를 지정할 수 없음)
+ * 한국어는 공백 단위 토큰으로는 조사가 붙어 검색되지 않으므로 ngram(기본 2글자) 단위로 색인합니다.
+ * 인덱스가 준비되면 기존 Feedback 백필을 시작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranscriptSearchIndexInitializer implements ApplicationRunner {
+
+    static final String FULLTEXT_INDEX_NAME = "ft_transcript_search_content";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TranscriptSearchService transcriptSearchService;
+
+    @Value("${transcript-search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${transcript-search.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'transcript_search_entries' AND index_name = ?",
+                    Integer.class, FULLTEXT_INDEX_NAME);
+            if (existing == null || existing == 0) {
+                jdbcTemplate.execute("ALTER TABLE transcript_search_entries ADD FULLTEXT INDEX " + FULLTEXT_INDEX_NAME +
+                        " (content) WITH PARSER ngram");
+                log.info("검색 FULLTEXT 인덱스 생성 완료: {}", FULLTEXT_INDEX_NAME);
+            }
+        } catch (Exception e) {
+            log.warn("검색 FULLTEXT 인덱스 준비 실패 (검색 API 사용 불가)", e);
+            return;
+        }
+
+        if (backfillOnStartup) {
+            transcriptSearchService.backfill();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package ssafy.i13e206.feedback.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.i13e206.feedback.dto.TranscriptSearchMatchDto;
+import ssafy.i13e206.feedback.dto.TranscriptSearchResultDto;
+import ssafy.i13e206.feedback.dto.TranscriptSearchRow;
+import ssafy.i13e206.feedback.entity.Feedback;
+import ssafy.i13e206.feedback.entity.TranscriptSearchEntry;
+import ssafy.i13e206.feedback.entity.enums.TranscriptSearchSource;
+import ssafy.i13e206.feedback.repository.FeedbackResultRepository;
+import ssafy.i13e206.feedback.repository.TranscriptSearchEntryRepository;
+import ssafy.i13e206.interview.dto.SegmentDto;
+import ssafy.i13e206.interview.entity.AnswerAttempt;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.PTAnswerAttempt;
+
+/**
+ * 사용자의 답변(STT 전체/구간)과 모범답안 전문 검색.
+ * Feedback 저장 시 같은 트랜잭션에서 검색 문서를 만들고, MySQL ngram FULLTEXT 인덱스로 점수순 조회한 뒤 답변 단위로 묶어 돌려줍니다.
+ * transcript-search.enabled=false면 색인/검색/백필을 하지 않습니다. (FULLTEXT 인덱스가 없는 환경)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TranscriptSearchService {
+
+    private static final String BACKFILL_LOCK_KEY = "transcriptSearchBackfillLock";
+    private static final int SNIPPET_CHARS = 80;
+    // 락을 잡은 인스턴스의 토큰일 때만 삭제 (락이 만료된 뒤 다른 인스턴스가 잡은 락을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final TranscriptSearchEntryRepository transcriptSearchEntryRepository;
+    private final FeedbackResultRepository feedbackResultRepository;
+    private final FeedbackTimelineService feedbackTimelineService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${transcript-search.enabled:true}")
+    private boolean enabled;
+
+    // 점수순으로 가져올 최대 검색 문서 수 (답변 단위로 묶기 전)
+    @Value("${transcript-search.max-rows:200}")
+    private int maxRows;
+
+    // 답변 하나에 보여줄 최대 일치 부분 수
+    @Value("${transcript-search.max-matches-per-answer:5}")
+    private int maxMatchesPerAnswer;
+
+    @Value("${transcript-search.backfill-batch-size:100}")
+    private int backfillBatchSize;
+
+    @Value("${transcript-search.backfill-lock-seconds:1800}")
+    private long backfillLockSeconds;
+
+    /**
+     * Feedback의 검색 문서를 새로 만듭니다. 이미 있으면 지우고 다시 만듭니다.
+     */
+    @Transactional
+    public void index(Feedback feedback) {
+        if (!enabled) {
+            return;
+        }
+        TranscriptSearchEntry.TranscriptSearchEntryBuilder base = baseEntry(feedback);
+        if (base == null) {
+            log.warn("검색 문서 생성 건너뜀 (답변 시도 없음): feedbackUuid={}", feedback.getFeedbackUuid());
+            return;
+        }
+
+        List<TranscriptSearchEntry> entries = new ArrayList<>();
+        addEntry(entries, base, TranscriptSearchSource.TRANSCRIPT, feedback.getTranscript(), null, null);
+        addEntry(entries, base, TranscriptSearchSource.MODEL_ANSWER, feedback.getModelAnswer(), null, null);
+        for (SegmentDto segment : feedbackTimelineService.segments(feedback)) {
+            addEntry(entries, base, TranscriptSearchSource.SEGMENT, segment.getText(), segment.getStart(), segment.getEnd());
+        }
+
+        transcriptSearchEntryRepository.deleteByFeedbackUuid(feedback.getFeedbackUuid());
+        transcriptSearchEntryRepository.saveAll(entries);
+    }
+
+    @Transactional
+    public void deleteByInterview(String interviewUuid) {
+        transcriptSearchEntryRepository.deleteByInterviewUuid(interviewUuid);
+    }
+
+    @Transactional
+    public void deleteByUser(String userUuid) {
+        transcriptSearchEntryRepository.deleteByUserUuid(userUuid);
+    }
+
+    /**
+     * 점수가 높은 검색 문서부터 답변 단위로 묶습니다. 답변의 점수는 가장 높은 일치 점수입니다. 검색이 꺼져 있으면 빈 목록입니다.
+     */
+    @Transactional(readOnly = true)
+    public List<TranscriptSearchResultDto> search(String userUuid, String query, int size) {
+        if (!enabled) {
+            return Collections.emptyList();
+        }
+        List<TranscriptSearchRow> rows = transcriptSearchEntryRepository.search(userUuid, query, maxRows);
+        String[] terms = query.toLowerCase(Locale.ROOT).trim().split("\\s+");
+
+        Map<String, TranscriptSearchResultDto> results = new LinkedHashMap<>();
+        for (TranscriptSearchRow row : rows) {
+            TranscriptSearchResultDto result = results.get(row.getFeedbackUuid());
+            if (result == null) {
+                if (results.size() >= size) {
+                    continue;
+                }
+                result = TranscriptSearchResultDto.builder()
+                        .feedbackUuid(row.getFeedbackUuid())
+                        .interviewUuid(row.getInterviewUuid())
+                        .attemptUuid(row.getAttemptUuid())
+                        .attemptNumber(row.getAttemptNumber())
+                        .pt(Boolean.TRUE.equals(row.getPt()))
+                        .question(row.getQuestion())
+                        .score(row.getScore() == null ? 0 : row.getScore())
+                        .matches(new ArrayList<>())
+                        .build();
+                results.put(row.getFeedbackUuid(), result);
+            }
+            if (result.getMatches().size() < maxMatchesPerAnswer) {
+                result.getMatches().add(new TranscriptSearchMatchDto(
+                        TranscriptSearchSource.valueOf(row.getSourceType()),
+                        snippet(row.getContent(), terms),
+                        row.getStartSecond(),
+                        row.getEndSecond()));
+            }
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * 검색 문서가 없는 기존 Feedback을 배치 단위로 색인합니다. 여러 인스턴스가 동시에 돌지 않도록 Redis 락을 잡습니다.
+     */
+    @Async
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        String lockToken = UUID.randomUUID().toString();
+        try {
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(BACKFILL_LOCK_KEY, lockToken, backfillLockSeconds, TimeUnit.SECONDS);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("검색 문서 백필 락 획득 실패 (건너뜀)", e);
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        int indexed = 0;
+        String after = "";
+        try {
+            while (true) {
+                List<String> feedbackUuids = transcriptSearchEntryRepository.findUnindexedFeedbackUuids(after, backfillBatchSize);
+                if (feedbackUuids.isEmpty()) {
+                    break;
+                }
+                Integer batch = transactionTemplate.execute(status -> {
+                    int count = 0;
+                    for (Feedback feedback : feedbackResultRepository.findAllById(feedbackUuids)) {
+                        index(feedback);
+                        count++;
+                    }
+                    return count;
+                });
+                indexed += batch == null ? 0 : batch;
+                after = feedbackUuids.get(feedbackUuids.size() - 1);
+            }
+            log.info("검색 문서 백필 완료: feedback={}, 소요 시간: {}ms", indexed, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("검색 문서 백필 실패: 진행={}", indexed, e);
+        } finally {
+            releaseBackfillLock(lockToken);
+        }
+    }
+
+    private void releaseBackfillLock(String lockToken) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(BACKFILL_LOCK_KEY), lockToken);
+        } catch (Exception e) {
+            log.warn("검색 문서 백필 락 해제 실패 (만료 시 해제됨)", e);
+        }
+    }
+
+    private TranscriptSearchEntry.TranscriptSearchEntryBuilder baseEntry(Feedback feedback) {
+        AnswerAttempt attempt = feedback.getAnswerAttempt();
+        if (attempt != null) {
+            Interview interview = attempt.getQuestion().getInterview();
+            return TranscriptSearchEntry.builder()
+                    .feedbackUuid(feedback.getFeedbackUuid())
+                    .userUuid(interview.getUser().getUserUuid())
+                    .interviewUuid(interview.getInterviewUuid())
+                    .attemptUuid(attempt.getId().getAnswerAttemptUuid())
+                    .attemptNumber(attempt.getId().getAttemptNumber())
+                    .pt(false)
+                    .question(attempt.getQuestion().getQuestion());
+        }
+        PTAnswerAttempt ptAttempt = feedback.getPtAnswerAttempt();
+        if (ptAttempt != null) {
+            Interview interview = ptAttempt.getPtInterview().getInterview();
+            return TranscriptSearchEntry.builder()
+                    .feedbackUuid(feedback.getFeedbackUuid())
+                    .userUuid(interview.getUser().getUserUuid())
+                    .interviewUuid(interview.getInterviewUuid())
+                    .attemptUuid(ptAttempt.getId().getPtAnswerAttemptUuid())
+                    .attemptNumber(ptAttempt.getId().getAttemptNumber())
+                    .pt(true)
+                    .question(ptAttempt.getPtInterview().getTitle());
+        }
+        return null;
+    }
+
+    private void addEntry(List<TranscriptSearchEntry> entries, TranscriptSearchEntry.TranscriptSearchEntryBuilder base,
+                          TranscriptSearchSource sourceType, String content, Float startSecond, Float endSecond) {
+        if (content == null || content.isBlank()) {
+            return;
+        }
+        entries.add(base
+                .entryUuid(null)
+                .sourceType(sourceType)
+                .startSecond(startSecond)
+                .endSecond(endSecond)
+                .content(content)
+                .build());
+    }
+
+    // 검색어가 처음 나오는 위치 주변만 잘라서 보여줌 (못 찾으면 앞부분)
+    private String snippet(String content, String[] terms) {
+        if (content == null || content.length() <= SNIPPET_CHARS) {
+            return content;
+        }
+        String lower = content.toLowerCase(Locale.ROOT);
+        int at = -1;
+        for (String term : terms) {
+            int index = term.isEmpty() ? -1 : lower.indexOf(term);
+            if (index >= 0 && (at < 0 || index < at)) {
+                at = index;
+            }
+        }
+        int start = Math.max(0, Math.min(at < 0 ? 0 : at - SNIPPET_CHARS / 4, content.length() - SNIPPET_CHARS));
+        int end = Math.min(content.length(), start + SNIPPET_CHARS);
+        return (start > 0 ? "…" : "") + content.substring(start, end) + (end < content.length() ? "…" : "");
+    }
+}
@@ -0,0 +1,10 @@
+package ssafy.i13e206.files.dto;
+
+/**
+ * 이력서/포트폴리오/스크립트에서 OCR 원문(LONGTEXT) 없이 요약본만 조회하기 위한 프로젝션
+ */
+public interface DocumentDigestView {
+    String getDigest();
+
+    Integer getDigestVersion();
+}
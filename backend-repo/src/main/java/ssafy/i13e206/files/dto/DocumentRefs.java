@@ -0,0 +1,18 @@
+package ssafy.i13e206.files.dto;
+
+import ssafy.i13e206.interview.entity.InterviewSet;
+
+/**
+ * InterviewSet에 연결된 문서 식별자. 트랜잭션 안에서 만들어 두면 LLM 호출 단계(트랜잭션 밖)에서 엔티티 없이 문서 컨텍스트를 만들 수 있습니다.
+ */
+public record DocumentRefs(String interviewSetUuid, String resumeUuid, String portfolioUuid, String scriptFileUuid) {
+
+    // 연관 엔티티는 식별자만 읽으므로 문서 엔티티가 초기화되지 않음
+    public static DocumentRefs of(InterviewSet interviewSet) {
+        return new DocumentRefs(
+                interviewSet.getInterviewSetsUuid(),
+                interviewSet.getResume() == null ? null : interviewSet.getResume().getResumeUuid(),
+                interviewSet.getPortfolio() == null ? null : interviewSet.getPortfolio().getPortfolioUuid(),
+                interviewSet.getScriptFile() == null ? null : interviewSet.getScriptFile().getScriptFileUuid());
+    }
+}
@@ -38,6 +38,13 @@ public class Portfolio {
     @Column(name = "ocr", columnDefinition = "LONGTEXT", nullable = false)
     private String ocrText;
 
+    // 업로드 시 OCR 원문에서 추출한 프롬프트용 요약본 (digestVersion이 현재 버전과 다르면 다시 만든다)
+    @Column(name = "digest", columnDefinition = "TEXT")
+    private String digest;
+
+    @Column(name = "digest_version")
+    private Integer digestVersion;
+
     @CreatedDate
     @Column(name = "portfolio_uploaded_at", nullable = false)
     private LocalDateTime portfolioUploadedAt;
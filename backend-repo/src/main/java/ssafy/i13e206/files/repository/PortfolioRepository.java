@@ -1,6 +1,10 @@
 package ssafy.i13e206.files.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ssafy.i13e206.files.dto.DocumentDigestView;
 import ssafy.i13e206.files.entity.Portfolio;
 import ssafy.i13e206.user.entity.User;
 
@@ -12,5 +16,11 @@ public interface PortfolioRepository  extends JpaRepository<Portfolio, String> {
 
     Optional<Portfolio> findByPortfolioUuid(String portfolioUuid);
 
+    Optional<DocumentDigestView> findDigestByPortfolioUuid(String portfolioUuid);
+
+    @Modifying
+    @Query("update Portfolio d set d.digest = :digest, d.digestVersion = :digestVersion where d.portfolioUuid = :portfolioUuid")
+    int updateDigest(@Param("portfolioUuid") String portfolioUuid, @Param("digest") String digest, @Param("digestVersion") int digestVersion);
+
     void deleteByUser(User user);
 }
@@ -1,6 +1,10 @@
 package ssafy.i13e206.files.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ssafy.i13e206.files.dto.DocumentDigestView;
 import ssafy.i13e206.files.entity.Resume;
 import ssafy.i13e206.user.entity.User;
 
@@ -12,6 +16,12 @@ public interface ResumeRepository extends JpaRepository<Resume, String> {
 
     Optional<Resume> findByResumeUuid(String resumeUuid);
 
+    Optional<DocumentDigestView> findDigestByResumeUuid(String resumeUuid);
+
+    @Modifying
+    @Query("update Resume d set d.digest = :digest, d.digestVersion = :digestVersion where d.resumeUuid = :resumeUuid")
+    int updateDigest(@Param("resumeUuid") String resumeUuid, @Param("digest") String digest, @Param("digestVersion") int digestVersion);
+
     void deleteByUser(User user);
 
 }
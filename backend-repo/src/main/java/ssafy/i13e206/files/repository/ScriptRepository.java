@@ -2,6 +2,10 @@ package ssafy.i13e206.files.repository;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ssafy.i13e206.files.dto.DocumentDigestView;
 import ssafy.i13e206.files.entity.ScriptFile;
 import ssafy.i13e206.user.entity.User;
 
@@ -13,6 +17,12 @@ public interface ScriptRepository extends JpaRepository<ScriptFile, String> {
 
     Optional<ScriptFile> findByScriptFileUuid(String scriptFileUuid);
 
+    Optional<DocumentDigestView> findDigestByScriptFileUuid(String scriptFileUuid);
+
+    @Modifying
+    @Query("update ScriptFile d set d.digest = :digest, d.digestVersion = :digestVersion where d.scriptFileUuid = :scriptFileUuid")
+    int updateDigest(@Param("scriptFileUuid") String scriptFileUuid, @Param("digest") String digest, @Param("digestVersion") int digestVersion);
+
     void deleteByUser(User user);
 
 }
@@ -0,0 +1,181 @@
+package ssafy.i13e206.files.service;
+
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.i13e206.files.dto.DocumentDigestView;
+import ssafy.i13e206.files.dto.DocumentRefs;
+import ssafy.i13e206.files.entity.Portfolio;
+import ssafy.i13e206.files.entity.Resume;
+import ssafy.i13e206.files.entity.ScriptFile;
+import ssafy.i13e206.files.repository.PortfolioRepository;
+import ssafy.i13e206.files.repository.ResumeRepository;
+import ssafy.i13e206.files.repository.ScriptRepository;
+
+/**
+ * 업로드된 문서의 OCR 원문을 프롬프트용 요약본(digest)으로 압축하고,
+ * InterviewSet 단위로 조립한 지원자 자료 컨텍스트를 Redis에 캐시합니다.
+ * 프롬프트 생성 시에는 OCR 원문(LONGTEXT) 대신 digest 컬럼만 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentDigestService {
+
+    // 요약 규칙이 바뀌면 올린다. 버전이 다른 digest는 조회 시 원문에서 다시 만들어 저장한다.
+    public static final int DIGEST_VERSION = 1;
+
+    private static final int DIGEST_MAX_CHARS = 1000;
+    private static final String CONTEXT_KEY_PREFIX = "ocrContext:v" + DIGEST_VERSION + ":";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // 쪽 번호, 구분선처럼 숫자/문장부호/기호로만 이루어진 줄
+    private static final Pattern NOISE_LINE = Pattern.compile("^[\\p{P}\\p{S}\\d\\s]*$");
+
+    private final ResumeRepository resumeRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final ScriptRepository scriptRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${document-digest.context-cache-ttl-seconds:86400}")
+    private long contextCacheTtlSeconds;
+
+    /**
+     * OCR 원문에서 공백/빈 줄/쪽 번호/반복되는 머리글·바닥글을 걷어내고, 줄 단위로 최대 길이까지 담습니다.
+     */
+    public String digest(String ocrText) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : cleanLines(ocrText)) {
+            int remaining = DIGEST_MAX_CHARS - sb.length();
+            if (remaining <= 0) {
+                break;
+            }
+            if (sb.length() > 0) {
+                sb.append('\n');
+                remaining--;
+            }
+            if (line.length() > remaining) {
+                sb.append(line, 0, Math.max(remaining, 0));
+                break;
+            }
+            sb.append(line);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 공백을 정리하고 빈 줄/쪽 번호/구분선/반복되는 줄을 제외한 OCR 원문의 줄 목록 (순서 유지)
+     */
+    Set<String> cleanLines(String ocrText) {
+        Set<String> lines = new LinkedHashSet<>();
+        if (ocrText == null || ocrText.isBlank()) {
+            return lines;
+        }
+        for (String rawLine : ocrText.split("\\R")) {
+            String line = WHITESPACE.matcher(rawLine).replaceAll(" ").trim();
+            if (line.length() < 2 || NOISE_LINE.matcher(line).matches()) {
+                continue;
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    /**
+     * InterviewSet에 연결된 문서들의 요약본을 조립한 컨텍스트를 반환합니다. (Redis 캐시 우선)
+     * 문서 식별자만 받으므로 트랜잭션 밖에서도 호출할 수 있습니다. (요약본 조회는 리포지토리 단위 트랜잭션)
+     */
+    public String buildOcrContext(DocumentRefs documents) {
+        String cacheKey = CONTEXT_KEY_PREFIX + documents.interviewSetUuid();
+        try {
+            String cached = redisTemplate.opsForValue().get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (Exception e) {
+            log.warn("지원자 자료 컨텍스트 캐시 조회 실패: interviewSetUuid={}", documents.interviewSetUuid(), e);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== 지원자 자료 요약 (OCR 기반) ===\n");
+        if (documents.resumeUuid() != null) {
+            appendSection(sb, "이력서 내용: ", resumeDigest(documents.resumeUuid()));
+        }
+        if (documents.portfolioUuid() != null) {
+            appendSection(sb, "포트폴리오 내용: ", portfolioDigest(documents.portfolioUuid()));
+        }
+        if (documents.scriptFileUuid() != null) {
+            appendSection(sb, "답변 스크립트 내용: ", scriptDigest(documents.scriptFileUuid()));
+        }
+        String context = sb.toString();
+
+        try {
+            redisTemplate.opsForValue().set(cacheKey, context, contextCacheTtlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("지원자 자료 컨텍스트 캐시 저장 실패: interviewSetUuid={}", documents.interviewSetUuid(), e);
+        }
+        return context;
+    }
+
+    private void appendSection(StringBuilder sb, String label, String digest) {
+        if (digest != null && !digest.isBlank()) {
+            sb.append(label).append(digest).append("\n\n");
+        }
+    }
+
+    private String resumeDigest(String resumeUuid) {
+        return currentDigest(resumeRepository.findDigestByResumeUuid(resumeUuid), () -> {
+            Resume resume = resumeRepository.findById(resumeUuid).orElse(null);
+            return resume == null ? null : resume.getOcrText();
+        }, digest -> resumeRepository.updateDigest(resumeUuid, digest, DIGEST_VERSION));
+    }
+
+    private String portfolioDigest(String portfolioUuid) {
+        return currentDigest(portfolioRepository.findDigestByPortfolioUuid(portfolioUuid), () -> {
+            Portfolio portfolio = portfolioRepository.findById(portfolioUuid).orElse(null);
+            return portfolio == null ? null : portfolio.getOcrText();
+        }, digest -> portfolioRepository.updateDigest(portfolioUuid, digest, DIGEST_VERSION));
+    }
+
+    private String scriptDigest(String scriptFileUuid) {
+        return currentDigest(scriptRepository.findDigestByScriptFileUuid(scriptFileUuid), () -> {
+            ScriptFile scriptFile = scriptRepository.findById(scriptFileUuid).orElse(null);
+            return scriptFile == null ? null : scriptFile.getOcrText();
+        }, digest -> scriptRepository.updateDigest(scriptFileUuid, digest, DIGEST_VERSION));
+    }
+
+    // 현재 버전의 digest가 있으면 그대로, 없거나 버전이 다르면 원문에서 만들어 별도 트랜잭션으로 저장
+    private String currentDigest(Optional<DocumentDigestView> view, Supplier<String> ocrTextLoader,
+                                 Consumer<String> digestWriter) {
+        if (view.isEmpty()) {
+            return null;
+        }
+        Integer version = view.get().getDigestVersion();
+        if (version != null && version == DIGEST_VERSION && view.get().getDigest() != null) {
+            return view.get().getDigest();
+        }
+
+        String digest = digest(ocrTextLoader.get());
+        try {
+            TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            requiresNew.executeWithoutResult(status -> digestWriter.accept(digest));
+        } catch (Exception e) {
+            log.warn("문서 요약본 저장 실패 (다음 조회 시 다시 생성)", e);
+        }
+        return digest;
+    }
+}
@@ -0,0 +1,199 @@
+package ssafy.i13e206.files.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import ssafy.i13e206.files.constant.FileType;
+import ssafy.i13e206.files.dto.DocumentRefs;
+
+/**
+ * 업로드된 문서의 OCR 원문을 청크로 나눠 임베딩하고 Redis 벡터 스토어에 저장합니다. (메타데이터: fileUuid, fileType, enterpriseName, position, userId)
+ * 프롬프트 생성 시에는 현재 질문/답변과 관련된 상위 청크만 골라 지원자 자료 컨텍스트를 만듭니다.
+ * 벡터 스토어를 쓸 수 없거나 관련 청크가 없으면(기능 도입 전 업로드 문서 등) 호출 측에서 요약본(digest) 컨텍스트를 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentEmbeddingService {
+
+    private static final String FILE_UUID = "fileUuid";
+
+    private final ObjectProvider<VectorStore> vectorStoreProvider;
+    private final DocumentDigestService documentDigestService;
+
+    @Value("${document-rag.enabled:true}")
+    private boolean enabled;
+
+    // 청크 하나의 최대 글자 수 (이전 청크의 마지막 줄을 겹쳐서 시작)
+    @Value("${document-rag.chunk-chars:400}")
+    private int chunkChars;
+
+    @Value("${document-rag.top-k:4}")
+    private int topK;
+
+    @Value("${document-rag.similarity-threshold:0.3}")
+    private double similarityThreshold;
+
+    @Value("${document-rag.max-context-chars:1500}")
+    private int maxContextChars;
+
+    /**
+     * 업로드 요청과 별도 스레드에서 임베딩합니다. 실패해도 업로드는 유지되며, 해당 문서는 요약본 컨텍스트로 대체됩니다.
+     */
+    @Async
+    public void ingest(String fileUuid, FileType fileType, String userUuid, String enterpriseName, String position, String ocrText) {
+        VectorStore vectorStore = vectorStore();
+        if (vectorStore == null) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<String> chunks = chunk(ocrText);
+        if (chunks.isEmpty()) {
+            return;
+        }
+
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            Map<String, Object> metadata = Map.of(
+                    FILE_UUID, fileUuid,
+                    "fileType", fileType.name(),
+                    "enterpriseName", enterpriseName == null ? "" : enterpriseName,
+                    "position", position == null ? "" : position,
+                    "userId", userUuid);
+            // 같은 문서를 다시 임베딩하면 덮어쓰도록 청크 ID를 고정
+            String id = UUID.nameUUIDFromBytes((fileUuid + ":" + i).getBytes(StandardCharsets.UTF_8)).toString();
+            documents.add(new Document(id, chunks.get(i), metadata));
+        }
+
+        try {
+            vectorStore.add(documents);
+            log.info("문서 임베딩 완료: fileUuid={}, chunks={}, 소요 시간: {}ms", fileUuid, chunks.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("문서 임베딩 실패 (요약본 컨텍스트로 대체): fileUuid={}", fileUuid, e);
+        }
+    }
+
+    public void delete(String fileUuid) {
+        VectorStore vectorStore = vectorStore();
+        if (vectorStore == null) {
+            return;
+        }
+        try {
+            vectorStore.delete(new FilterExpressionBuilder().eq(FILE_UUID, fileUuid).build());
+        } catch (Exception e) {
+            log.warn("문서 임베딩 삭제 실패: fileUuid={}", fileUuid, e);
+        }
+    }
+
+    /**
+     * InterviewSet에 연결된 문서 중 query와 가까운 상위 청크로 컨텍스트를 만듭니다.
+     */
+    public Optional<String> buildRelevantContext(DocumentRefs documents, String query) {
+        VectorStore vectorStore = vectorStore();
+        if (vectorStore == null || query == null || query.isBlank()) {
+            return Optional.empty();
+        }
+
+        List<Object> fileUuids = new ArrayList<>();
+        for (String fileUuid : new String[]{documents.resumeUuid(), documents.portfolioUuid(), documents.scriptFileUuid()}) {
+            if (fileUuid != null) {
+                fileUuids.add(fileUuid);
+            }
+        }
+        if (fileUuids.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Document> hits;
+        try {
+            hits = vectorStore.similaritySearch(SearchRequest.builder()
+                    .query(query)
+                    .topK(topK)
+                    .similarityThreshold(similarityThreshold)
+                    .filterExpression(new FilterExpressionBuilder().in(FILE_UUID, fileUuids.toArray()).build())
+                    .build());
+        } catch (Exception e) {
+            log.warn("관련 문서 검색 실패 (요약본 컨텍스트로 대체): interviewSetUuid={}", documents.interviewSetUuid(), e);
+            return Optional.empty();
+        }
+        if (hits == null || hits.isEmpty()) {
+            return Optional.empty();
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== 지원자 자료 중 관련 부분 (OCR 기반) ===\n");
+        int appended = 0;
+        for (Document hit : hits) {
+            String text = hit.getText();
+            if (text == null || sb.length() + text.length() > maxContextChars) {
+                continue;
+            }
+            sb.append('[').append(label(hit.getMetadata().get("fileType"))).append("] ").append(text).append("\n\n");
+            appended++;
+        }
+        // 모든 청크가 길이 제한에 걸렸으면 머리말만 남으므로 요약본 컨텍스트로 대체
+        if (appended == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(sb.toString());
+    }
+
+    /**
+     * 정리된 줄을 chunkChars 이내로 묶습니다. 문맥이 끊기지 않도록 다음 청크는 이전 청크의 마지막 줄부터 시작합니다.
+     */
+    List<String> chunk(String ocrText) {
+        List<String> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentChars = 0;
+        for (String cleaned : documentDigestService.cleanLines(ocrText)) {
+            for (int from = 0; from < cleaned.length(); from += chunkChars) {
+                String line = cleaned.substring(from, Math.min(cleaned.length(), from + chunkChars));
+                if (currentChars + line.length() > chunkChars && !current.isEmpty()) {
+                    chunks.add(String.join("\n", current));
+                    String overlap = current.get(current.size() - 1);
+                    current = new ArrayList<>();
+                    currentChars = 0;
+                    if (overlap.length() + line.length() <= chunkChars) {
+                        current.add(overlap);
+                        currentChars = overlap.length();
+                    }
+                }
+                current.add(line);
+                currentChars += line.length();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(String.join("\n", current));
+        }
+        return chunks;
+    }
+
+    private VectorStore vectorStore() {
+        return enabled ? vectorStoreProvider.getIfAvailable() : null;
+    }
+
+    private String label(Object fileType) {
+        if (FileType.RESUME.name().equals(fileType)) {
+            return "이력서";
+        }
+        if (FileType.PORTFOLIO.name().equals(fileType)) {
+            return "포트폴리오";
+        }
+        return "답변 스크립트";
+    }
+}
@@ -39,6 +39,8 @@ public class FileService {
     private final UserRepository userRepository;
     private final S3Uploader s3Uploader;
     private final GmsDirectService gmsDirectService;
+    private final DocumentDigestService documentDigestService;
+    private final DocumentEmbeddingService documentEmbeddingService;
 
     @Transactional
     public FileResponseDto uploadAndSaveFile(
@@ -66,15 +68,22 @@ public class FileService {
             ocrText = "";
         }
         
+        // 프롬프트에는 OCR 원문 대신 업로드 시점에 만든 요약본을 사용
+        String digest = documentDigestService.digest(ocrText);
+
         String fileUuid = saveFileMetadataToRDB(
                 fileUrl.toString(),
                 fileName,
                 req,
                 fileType,
                 user,
-                ocrText
+                ocrText,
+                digest
         );
 
+        // 관련 부분 검색용 청크 임베딩 (비동기)
+        documentEmbeddingService.ingest(fileUuid, fileType, user.getUserUuid(), req.getEnterpriseName(), req.getPosition(), ocrText);
+
         String uploadedAt = LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME);
         return new FileResponseDto(fileUuid, fileUrl.toString(), uploadedAt, fileType.toString());
     }
@@ -98,7 +107,8 @@ public class FileService {
             FileRequestDto req,
             FileType fileType,
             User user,
-            String ocrText
+            String ocrText,
+            String digest
     ) {
         String savedUuid = "";
         switch (fileType) {
@@ -108,6 +118,8 @@ public class FileService {
                         .position(req.getPosition())
                         .scriptUrl(fileUrl)
                         .ocrText(ocrText)
+                        .digest(digest)
+                        .digestVersion(DocumentDigestService.DIGEST_VERSION)
                         .scriptUploadedAt(LocalDateTime.now())
                         .fileName(fileName)
                         .user(user)
@@ -122,6 +134,8 @@ public class FileService {
                         .position(req.getPosition())
                         .resumeUrl(fileUrl)
                         .ocrText(ocrText)
+                        .digest(digest)
+                        .digestVersion(DocumentDigestService.DIGEST_VERSION)
                         .fileName(fileName)
                         .resumeUploadedAt(LocalDateTime.now())
                         .user(user)
@@ -135,6 +149,8 @@ public class FileService {
                         .position(req.getPosition())
                         .portfolioUrl(fileUrl)
                         .ocrText(ocrText)
+                        .digest(digest)
+                        .digestVersion(DocumentDigestService.DIGEST_VERSION)
                         .fileName(fileName)
                         .portfolioUploadedAt(LocalDateTime.now())
                         .user(user)
@@ -210,6 +226,7 @@ public class FileService {
             }
             s3Uploader.deleteFile(scriptFile.getScriptUrl());
             scriptRepository.delete(scriptFile);
+            documentEmbeddingService.delete(fileUuid);
             return;
         }
 
@@ -222,6 +239,7 @@ public class FileService {
             }
             s3Uploader.deleteFile(resume.getResumeUrl());
             resumeRepository.delete(resume);
+            documentEmbeddingService.delete(fileUuid);
             return;
         }
 
@@ -234,6 +252,7 @@ public class FileService {
             }
             s3Uploader.deleteFile(portfolio.getPortfolioUrl());
             portfolioRepository.delete(portfolio);
+            documentEmbeddingService.delete(fileUuid);
             return;
         }
 
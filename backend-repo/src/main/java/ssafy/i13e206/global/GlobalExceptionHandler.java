@@ -1,10 +1,12 @@
 package ssafy.i13e206.global;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ssafy.i13e206.global.dto.ApiResponse;
+import ssafy.i13e206.gpt.exception.LlmSaturatedException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -17,4 +19,12 @@ public class GlobalExceptionHandler {
                 .badRequest()
                 .body(ApiResponse.error(400, errorMessage));
     }
+
+    // LLM 요청 대기열 포화 시 재시도 가능한 503으로 응답
+    @ExceptionHandler(LlmSaturatedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleLlmSaturatedException(LlmSaturatedException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(503, ex.getMessage()));
+    }
 }
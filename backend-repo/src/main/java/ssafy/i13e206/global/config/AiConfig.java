@@ -10,6 +10,7 @@ import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.redis.RedisVectorStore;
 import org.springframework.ai.vectorstore.redis.RedisVectorStore.MetadataField;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -33,45 +34,48 @@ public class AiConfig {
         return new JedisPooled(redisHost, redisPort);
     }
 
-//    @Bean
-//    public EmbeddingModel embeddingModel(
-//            @Value("${spring.ai.openai.base-url}") String baseUrl,
-//            @Value("${spring.ai.openai.api-key}") String apiKey,
-//            @Value("${spring.ai.openai.embedding.options.model}") String embeddingModelName
-//    ) {
-//        RestClient.Builder restClientBuilder = RestClient.builder()
-//                .defaultHeader("Content-Type", "application/json; charset=UTF-8");
-//
-//        var openAiApi = new OpenAiApi.Builder()
-//                .apiKey(apiKey)
-//                .baseUrl(baseUrl)
-//                .restClientBuilder(restClientBuilder)
-//                .build();
-//
-//        OpenAiEmbeddingOptions options = OpenAiEmbeddingOptions.builder()
-//                .model(embeddingModelName)
-//                .build();
-//
-//        return new OpenAiEmbeddingModel(
-//                openAiApi,
-//                MetadataMode.EMBED,
-//                options,
-//                RetryUtils.DEFAULT_RETRY_TEMPLATE);
-//    }
-//
-//    @Bean
-//    public VectorStore vectorStore(JedisPooled jedisPooled, EmbeddingModel embeddingModel) {
-//        return RedisVectorStore.builder(jedisPooled, embeddingModel)
-//                .indexName("userUploadedFile")
-//                .prefix("file-embedding:")
-//                .initializeSchema(true)
-//                .metadataFields(
-//                        MetadataField.tag("fileUuid"),
-//                        MetadataField.tag("fileType"),
-//                        MetadataField.tag("enterpriseName"),
-//                        MetadataField.tag("position"),
-//                        MetadataField.tag("userId")
-//                )
-//                .build();
-//    }
+    // 문서 청크/검색어 임베딩 (document-rag.enabled=false면 요약본 컨텍스트만 사용)
+    @Bean
+    @ConditionalOnProperty(name = "document-rag.enabled", havingValue = "true", matchIfMissing = true)
+    public EmbeddingModel embeddingModel(
+            @Value("${spring.ai.openai.base-url}") String baseUrl,
+            @Value("${spring.ai.openai.api-key}") String apiKey,
+            @Value("${spring.ai.openai.embedding.options.model:text-embedding-3-small}") String embeddingModelName
+    ) {
+        RestClient.Builder restClientBuilder = RestClient.builder()
+                .defaultHeader("Content-Type", "application/json; charset=UTF-8");
+
+        var openAiApi = new OpenAiApi.Builder()
+                .apiKey(apiKey)
+                .baseUrl(baseUrl)
+                .restClientBuilder(restClientBuilder)
+                .build();
+
+        OpenAiEmbeddingOptions options = OpenAiEmbeddingOptions.builder()
+                .model(embeddingModelName)
+                .build();
+
+        return new OpenAiEmbeddingModel(
+                openAiApi,
+                MetadataMode.EMBED,
+                options,
+                RetryUtils.DEFAULT_RETRY_TEMPLATE);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "document-rag.enabled", havingValue = "true", matchIfMissing = true)
+    public VectorStore vectorStore(JedisPooled jedisPooled, EmbeddingModel embeddingModel) {
+        return RedisVectorStore.builder(jedisPooled, embeddingModel)
+                .indexName("userUploadedFile")
+                .prefix("file-embedding:")
+                .initializeSchema(true)
+                .metadataFields(
+                        MetadataField.tag("fileUuid"),
+                        MetadataField.tag("fileType"),
+                        MetadataField.tag("enterpriseName"),
+                        MetadataField.tag("position"),
+                        MetadataField.tag("userId")
+                )
+                .build();
+    }
 }
\ No newline at end of file
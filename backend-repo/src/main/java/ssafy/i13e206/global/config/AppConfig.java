@@ -2,13 +2,24 @@ package ssafy.i13e206.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorNettyClientRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import reactor.netty.http.client.HttpClient;
+import ssafy.i13e206.global.config.http.OutboundHttpProperties;
+
+import java.time.Duration;
 
 @Configuration
 public class AppConfig {
 
+    // OpenVidu REST 호출용 (OutboundHttpConfig의 openvidu 커넥션 풀 사용)
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(HttpClient openviduHttpClient, OutboundHttpProperties outboundHttpProperties) {
+        Duration timeout = Duration.ofMillis(outboundHttpProperties.getOpenvidu().getResponseTimeoutMs());
+
+        ReactorNettyClientRequestFactory factory = new ReactorNettyClientRequestFactory(openviduHttpClient);
+        factory.setExchangeTimeout(timeout);
+        factory.setReadTimeout(timeout);
+        return new RestTemplate(factory);
     }
-}
\ No newline at end of file
+}
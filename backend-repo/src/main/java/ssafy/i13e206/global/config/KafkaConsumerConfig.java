@@ -0,0 +1,29 @@
+package ssafy.i13e206.global.config;
+
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    /**
+     * 레코드를 작업 풀에 넘기고 바로 다음 레코드를 받는 리스너용.
+     * Acknowledgment는 완료 순서와 관계없이 호출해도 되고, 컨테이너가 파티션별로 빈틈없이 ack된 지점까지만 오프셋을 커밋합니다. (asyncAcks)
+     * 단, 직전 poll의 레코드가 모두 ack될 때까지 컨테이너가 consumer를 pause하므로 동시에 처리 중인 레코드는 한 poll 분량(max.poll.records)을 넘지 않습니다.
+     * 느린 레코드 하나가 남아 있으면 그동안 다음 poll은 하지 않습니다. (pause 중에도 빈 poll은 계속하므로 그룹에서 빠지지는 않음)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> keyedAckContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+}
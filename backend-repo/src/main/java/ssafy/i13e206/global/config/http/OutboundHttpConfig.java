@@ -0,0 +1,71 @@
+package ssafy.i13e206.global.config.http;
+
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 호출용 공용 HTTP 계층 (Reactor Netty)
+ * - 클라이언트별 ConnectionProvider: 호스트(원격 주소)별 풀, 유휴/수명 기반 백그라운드 정리
+ * - TLS 구간은 ALPN으로 HTTP/2 협상 후 커넥션 재사용 (HTTP/1.1 keep-alive 폴백)
+ * - 풀 지표는 reactor.netty.connection.provider.* 로 actuator metrics에 노출
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(OutboundHttpProperties.class)
+public class OutboundHttpConfig {
+
+    private final OutboundHttpProperties properties;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider gmsConnectionProvider() {
+        return createConnectionProvider("gms", properties.getGms());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openviduConnectionProvider() {
+        return createConnectionProvider("openvidu", properties.getOpenvidu());
+    }
+
+    @Bean
+    public HttpClient gmsHttpClient(ConnectionProvider gmsConnectionProvider) {
+        return createHttpClient(gmsConnectionProvider, properties.getGms());
+    }
+
+    @Bean
+    public HttpClient openviduHttpClient(ConnectionProvider openviduConnectionProvider) {
+        return createHttpClient(openviduConnectionProvider, properties.getOpenvidu());
+    }
+
+    private ConnectionProvider createConnectionProvider(String name, OutboundHttpProperties.Client client) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(client.getMaxConnections())
+                .pendingAcquireMaxCount(client.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(client.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(client.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(client.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(client.getEvictInBackgroundMs()))
+                .metrics(true)
+                .build();
+    }
+
+    private HttpClient createHttpClient(ConnectionProvider connectionProvider, OutboundHttpProperties.Client client) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, client.getConnectTimeoutMs())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(client.getResponseTimeoutMs()))
+                .keepAlive(true);
+
+        if (client.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return httpClient;
+    }
+}
@@ -0,0 +1,38 @@
+package ssafy.i13e206.global.config.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 HTTP 호출(GMS, OpenVidu) 클라이언트별 커넥션 풀/타임아웃 설정
+ * 예) outbound.http.gms.max-connections=100
+ */
+@ConfigurationProperties(prefix = "outbound.http")
+@Getter @Setter
+public class OutboundHttpProperties {
+
+    private Client gms = Client.of(30_000, 60_000, 50);
+    private Client openvidu = Client.of(5_000, 10_000, 20);
+
+    @Getter @Setter
+    public static class Client {
+        private int connectTimeoutMs;
+        private long responseTimeoutMs;
+        private int maxConnections;
+        private int pendingAcquireMaxCount = 500;
+        private long pendingAcquireTimeoutMs = 10_000;
+        private long maxIdleTimeMs = 30_000;
+        private long maxLifeTimeMs = 300_000;
+        private long evictInBackgroundMs = 30_000;
+        private boolean http2 = true;
+
+        static Client of(int connectTimeoutMs, long responseTimeoutMs, int maxConnections) {
+            Client client = new Client();
+            client.setConnectTimeoutMs(connectTimeoutMs);
+            client.setResponseTimeoutMs(responseTimeoutMs);
+            client.setMaxConnections(maxConnections);
+            return client;
+        }
+    }
+}
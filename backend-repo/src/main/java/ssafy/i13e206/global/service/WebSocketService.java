@@ -6,6 +6,7 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ssafy.i13e206.feedback.dto.AnalysisResultRequest;
+import ssafy.i13e206.feedback.dto.ModelAnswerReadyMessage;
 import ssafy.i13e206.interview.entity.AnswerAttempt;
 import ssafy.i13e206.interview.entity.AnswerAttemptId;
 import ssafy.i13e206.interview.entity.PTAnswerAttempt;
@@ -26,12 +27,7 @@ public class WebSocketService {
     @Transactional(readOnly = true)
     public void sendAnalysisResult(AnalysisResultRequest result) {
         log.info("분석 결과 전송: {}", result.toString());
-        String recordingId = result.recordingId();
-        String[] parts = recordingId.split("~");
-        String sessionId = parts[0];
-        int attemptNumber = (parts.length > 1) ? Integer.parseInt(parts[1]) + 1 : 1;
-
-        String userUuid = resolveUserUuid(sessionId, attemptNumber);
+        String userUuid = resolveUserUuid(result.recordingId());
         if (userUuid != null) {
             log.info("{}에게 분석 결과 전송",userUuid);
             messagingTemplate.convertAndSend("/topic/users/" + userUuid + "/analysis-results", result);
@@ -41,14 +37,24 @@ public class WebSocketService {
         }
     }
 
+    // 분석 결과(modelAnswer 없음)를 보낸 뒤 모범답안 생성이 끝나면 전송
+    @Transactional(readOnly = true)
+    public void sendModelAnswer(ModelAnswerReadyMessage message) {
+        log.info("모범답안 전송: recordingId={}", message.recordingId());
+        String userUuid = resolveUserUuid(message.recordingId());
+        if (userUuid == null) {
+            // 모범답안은 브로드캐스트하지 않음 (다른 사용자의 답변 내용이 노출되므로). 면접 상세 조회로 확인 가능
+            log.warn("모범답안 수신자를 찾지 못해 전송하지 않음: recordingId={}", message.recordingId());
+            return;
+        }
+        log.info("{}에게 모범답안 전송", userUuid);
+        messagingTemplate.convertAndSend("/topic/users/" + userUuid + "/model-answer-results", message);
+    }
+
     @Transactional(readOnly = true)
     public void sendTranscript(TranscriptMessage transcript) {
         log.info("전사 결과 전송: {}", transcript.toString());
-        String recordingId = transcript.answerAttemptUuid();
-        String[] parts = recordingId.split("~");
-        String sessionId = parts[0];
-        int attemptNumber = (parts.length > 1) ? Integer.parseInt(parts[1]) + 1 : 1;
-        String userUuid = resolveUserUuid(sessionId, attemptNumber);
+        String userUuid = resolveUserUuid(transcript.answerAttemptUuid());
         if (userUuid != null) {
             log.info("{}에게 전사 결과 전송",userUuid);
             messagingTemplate.convertAndSend("/topic/users/" + userUuid + "/transcript-results", transcript);
@@ -58,6 +64,14 @@ public class WebSocketService {
         }
     }
 
+    // recordingId(시도 UUID~0부터 시작하는 시도 순번)로 답변한 사용자를 찾습니다. 없으면 null
+    private String resolveUserUuid(String recordingId) {
+        String[] parts = recordingId.split("~");
+        String sessionId = parts[0];
+        int attemptNumber = (parts.length > 1) ? Integer.parseInt(parts[1]) + 1 : 1;
+        return resolveUserUuid(sessionId, attemptNumber);
+    }
+
     private String resolveUserUuid(String sessionId, int attemptNumber) {
         // 일반/직무 면접 시도 탐색
         AnswerAttemptId answerAttemptId = new AnswerAttemptId(sessionId, attemptNumber);
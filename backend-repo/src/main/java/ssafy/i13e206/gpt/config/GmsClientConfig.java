@@ -0,0 +1,34 @@
+package ssafy.i13e206.gpt.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+
+@Configuration
+public class GmsClientConfig {
+
+    @Value("${gms.scheduler.thread-cap:32}")
+    private int schedulerThreadCap;
+
+    @Value("${gms.scheduler.queue-cap:1000}")
+    private int schedulerQueueCap;
+
+    // GMS chat-completions 전용 논블로킹 클라이언트 (커넥션 풀/타임아웃은 OutboundHttpConfig의 gms 설정)
+    @Bean
+    public WebClient gmsWebClient(WebClient.Builder builder, HttpClient gmsHttpClient) {
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(gmsHttpClient))
+                .build();
+    }
+
+    // GMS 응답 파싱 및 후속 DB 저장을 수행하는 스케줄러 (Netty 이벤트 루프에서 블로킹 작업 금지)
+    @Bean(destroyMethod = "dispose")
+    public Scheduler gmsScheduler() {
+        return Schedulers.newBoundedElastic(schedulerThreadCap, schedulerQueueCap, "gms");
+    }
+}
@@ -1,19 +0,0 @@
-package ssafy.i13e206.gpt.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
-
-@Configuration
-public class RestTemplateConfig {
-    
-    @Bean
-    public RestTemplate gmsRestTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(30000); // 30초
-        factory.setReadTimeout(60000);    // 60초
-        
-        return new RestTemplate(factory);
-    }
-} 
\ No newline at end of file
@@ -0,0 +1,22 @@
+package ssafy.i13e206.gpt.constant;
+
+/**
+ * GMS 호출 종류. 메트릭의 operation 태그로 사용됩니다.
+ */
+public enum LlmOperation {
+    QUESTION("question"),
+    PT_PROBLEM("pt_problem"),
+    PT_QUESTIONS("pt_questions"),
+    MODEL_ANSWER("model_answer"),
+    PT_MODEL_ANSWER("pt_model_answer");
+
+    private final String tag;
+
+    LlmOperation(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
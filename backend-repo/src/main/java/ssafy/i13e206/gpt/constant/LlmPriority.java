@@ -0,0 +1,18 @@
+package ssafy.i13e206.gpt.constant;
+
+import reactor.util.context.Context;
+
+/**
+ * LLM 호출 우선순위. 선언 순서가 곧 대기열에서의 우선순위입니다.
+ * 호출 측에서 Reactor Context로 지정하며, 지정하지 않으면 INTERACTIVE로 처리됩니다.
+ */
+public enum LlmPriority {
+    INTERACTIVE,    // 사용자가 화면에서 기다리는 요청 (질문/PT 문제 생성)
+    BACKGROUND;     // 사용자가 기다리지 않는 요청 (모범답안, PT 문제 풀 보충, 다음 질문 예측 생성)
+
+    public static final String CONTEXT_KEY = LlmPriority.class.getName();
+
+    public Context asContext() {
+        return Context.of(CONTEXT_KEY, this);
+    }
+}
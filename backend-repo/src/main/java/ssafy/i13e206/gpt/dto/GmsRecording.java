@@ -0,0 +1,33 @@
+package ssafy.i13e206.gpt.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 기록 모드에서 저장하는 GMS 호출 한 건 (파일 하나에 JSON 하나).
+ * 대역 서버(GmsReplayServer)는 promptHash가 같은 기록을 우선 재생하고, 없으면 같은 operation의 기록 중 하나를 재생합니다.
+ */
+public record GmsRecording(
+        String operation,
+        boolean stream,
+        String promptHash,
+        String prompt,
+        String content,
+        long latencyMs,
+        long recordedAt
+) {
+
+    // 대역 서버가 operation별로 기록을 고를 수 있도록 요청에 함께 보내는 헤더
+    public static final String OPERATION_HEADER = "X-Llm-Operation";
+
+    public static String hash(String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(prompt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package ssafy.i13e206.gpt.exception;
+
+/**
+ * LLM 요청 대기열이 가득 찼거나 대기 시간이 초과되어 요청을 받지 못한 경우
+ */
+public class LlmSaturatedException extends RuntimeException {
+    public LlmSaturatedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package ssafy.i13e206.gpt.exception;
+
+/**
+ * GMS 장애로 서킷 브레이커가 열려 있어 호출하지 않고 바로 실패한 경우 (호출 측에서 기본 응답으로 대체)
+ */
+public class LlmUnavailableException extends RuntimeException {
+    public LlmUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,62 @@
+package ssafy.i13e206.gpt.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ssafy.i13e206.gpt.constant.LlmOperation;
+import ssafy.i13e206.gpt.dto.GmsRecording;
+
+/**
+ * 기록 모드(gms.recording.enabled=true)에서 GMS 프롬프트와 응답 본문을 파일로 남깁니다.
+ * 남긴 파일은 GmsReplayServer(./gradlew gmsReplay)가 읽어 실제 GMS 없이 부하 테스트/벤치마크에 재생합니다.
+ * 대역 서버로 호출할 때는 gms.replay.enabled=true로 operation 헤더를 함께 보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GmsRecorder {
+
+    private final ObjectMapper objectMapper;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Value("${gms.recording.enabled:false}")
+    private boolean enabled;
+
+    @Value("${gms.recording.dir:gms-recordings}")
+    private String dir;
+
+    @Value("${gms.replay.enabled:false}")
+    private boolean replayEnabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 실제 GMS에는 보내지 않고, 기록/재생할 때만 요청에 operation 헤더를 붙인다
+    public boolean sendsOperationHeader() {
+        return enabled || replayEnabled;
+    }
+
+    public void record(LlmOperation operation, String prompt, boolean stream, String content, long latencyMs) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        GmsRecording recording = new GmsRecording(operation.tag(), stream, GmsRecording.hash(prompt), prompt, content, latencyMs, now);
+        try {
+            Path directory = Path.of(dir);
+            Files.createDirectories(directory);
+            Path file = directory.resolve(String.format("%s-%d-%d.json", operation.tag(), now, sequence.incrementAndGet()));
+            objectMapper.writeValue(file.toFile(), recording);
+        } catch (IOException e) {
+            log.warn("GMS 호출 기록 실패: operation={}", operation.tag(), e);
+        }
+    }
+}
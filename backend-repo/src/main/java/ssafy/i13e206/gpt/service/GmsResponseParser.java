@@ -0,0 +1,122 @@
+package ssafy.i13e206.gpt.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ssafy.i13e206.feedback.dto.FeedbackSourceDto;
+import ssafy.i13e206.feedback.dto.ModelAnswerResult;
+import ssafy.i13e206.interview.dto.InterviewQuestionResponseDto;
+import ssafy.i13e206.interview.dto.PTProblemDto;
+
+/**
+ * GMS 응답 본문(LLM이 만든 텍스트)을 DTO로 바꾸고 빠진 필드를 기본값으로 채웁니다.
+ * 파싱할 수 없으면 IllegalArgumentException을 던지고, 기본 응답 대체와 실패 지표 기록은 GmsDirectService가 맡습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GmsResponseParser {
+
+    static final String FALLBACK_PT_TITLE = "AI 제목 생성 실패";
+    static final String DEFAULT_PT_TITLE = "기본 PT 제목";
+    static final String DEFAULT_QUESTION_ID = "q_default";
+    static final String DEFAULT_MODEL_ANSWER = "모범 답안 생성에 실패했습니다.";
+
+    private final LlmJsonExtractor llmJsonExtractor;
+
+    public InterviewQuestionResponseDto parseQuestions(String aiResponse, String interviewSetUuid) {
+        InterviewQuestionResponseDto parsed = llmJsonExtractor.extract(aiResponse, InterviewQuestionResponseDto.class);
+        if (parsed.getQuestions() == null || parsed.getQuestions().isEmpty()) {
+            throw new IllegalArgumentException("응답에 질문이 없습니다.");
+        }
+        InterviewQuestionResponseDto.Question question = applyQuestionDefaults(parsed.getQuestions().get(0), "q_new");
+
+        return InterviewQuestionResponseDto.builder()
+                .interviewSetUuid(interviewSetUuid)
+                .questions(List.of(question))
+                .build();
+    }
+
+    public ModelAnswerResult parseModelAnswer(String aiResponse) {
+        ModelAnswerResult parsed = llmJsonExtractor.extract(aiResponse, ModelAnswerResult.class);
+        String answer = defaultIfNull(parsed.getModelAnswer(), "").trim();
+
+        // (선택) 화이트리스트 필터링
+        List<FeedbackSourceDto> sources = Optional.ofNullable(parsed.getFeedbackSources())
+                .orElseGet(List::of)
+                .stream()
+                .filter(source -> source.getSourceType() != null && !source.getSourceType().isEmpty()
+                        && source.getCitedContent() != null && !source.getCitedContent().isEmpty())
+                .collect(Collectors.toList());
+
+        return ModelAnswerResult.builder()
+                .modelAnswer(answer)
+                .feedbackSources(sources)   // ✅ DTO 리스트
+                .build();
+    }
+
+    public PTProblemDto parsePtProblem(String aiResponse) {
+        PTProblemDto ptProblem = llmJsonExtractor.extract(aiResponse, PTProblemDto.class);
+        ptProblem.setTitle(defaultIfNull(ptProblem.getTitle(), FALLBACK_PT_TITLE));
+        ptProblem.setSituation(defaultIfNull(ptProblem.getSituation(), "AI 상황 생성에 실패했습니다."));
+        return ptProblem;
+    }
+
+    static InterviewQuestionResponseDto defaultQuestionResponse(String interviewSetUuid) {
+        InterviewQuestionResponseDto.Question question = InterviewQuestionResponseDto.Question.builder()
+                .id(DEFAULT_QUESTION_ID)
+                .question("AI 질문 생성에 실패했습니다. 이력서에서 가장 강조하고 싶은 경험은 무엇인가요?")
+                .followUps(Collections.emptyList())
+                .build();
+        return InterviewQuestionResponseDto.builder()
+                .interviewSetUuid(interviewSetUuid)
+                .questions(List.of(question))
+                .build();
+    }
+
+    static ModelAnswerResult defaultModelAnswer() {
+        return ModelAnswerResult.builder()
+                .modelAnswer(DEFAULT_MODEL_ANSWER)
+                .feedbackSources(Collections.emptyList())
+                .build();
+    }
+
+    static PTProblemDto defaultPtProblem() {
+        return PTProblemDto.builder()
+                .title(DEFAULT_PT_TITLE)
+                .situation("AI 응답 파싱에 실패하여 기본 상황이 제공됩니다.")
+                .build();
+    }
+
+    // 응답에 없는 필드는 기존과 같은 기본값으로 채운다
+    private InterviewQuestionResponseDto.Question applyQuestionDefaults(InterviewQuestionResponseDto.Question question, String defaultId) {
+        question.setId(defaultIfNull(question.getId(), defaultId));
+        question.setType(defaultIfNull(question.getType(), "general"));
+        question.setQuestion(defaultIfNull(question.getQuestion(), ""));
+        question.setIntent(defaultIfNull(question.getIntent(), ""));
+        question.setCategory(defaultIfNull(question.getCategory(), "일반"));
+        question.setDifficulty(defaultIfNull(question.getDifficulty(), "medium"));
+        question.setRationale(defaultIfNull(question.getRationale(), ""));
+        question.setRelatedSources(question.getRelatedSources() == null ? new ArrayList<>() : question.getRelatedSources());
+
+        List<InterviewQuestionResponseDto.Question.FollowUp> followUps = question.getFollowUps() == null ? new ArrayList<>() : question.getFollowUps();
+        int fidx = 1;
+        for (InterviewQuestionResponseDto.Question.FollowUp followUp : followUps) {
+            followUp.setId(defaultIfNull(followUp.getId(), question.getId() + "_f" + fidx++));
+            followUp.setQuestion(defaultIfNull(followUp.getQuestion(), ""));
+            followUp.setIntent(defaultIfNull(followUp.getIntent(), ""));
+            followUp.setRationale(defaultIfNull(followUp.getRationale(), ""));
+            followUp.setRelatedSources(followUp.getRelatedSources() == null ? new ArrayList<>() : followUp.getRelatedSources());
+        }
+        question.setFollowUps(followUps);
+        return question;
+    }
+
+    private static String defaultIfNull(String value, String defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+}
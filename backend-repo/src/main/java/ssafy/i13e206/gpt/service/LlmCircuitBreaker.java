@@ -0,0 +1,137 @@
+package ssafy.i13e206.gpt.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * GMS 엔드포인트용 서킷 브레이커입니다. 최근 N회 호출 결과(개수 기준 슬라이딩 윈도우)의 실패율이 임계치를 넘으면
+ * 일정 시간 동안 호출을 막고(OPEN), 이후 소수의 시험 호출(HALF_OPEN)이 성공하면 다시 닫습니다(CLOSED).
+ * 실패로 세는 것은 업스트림 장애(5xx, 429, 연결/응답 타임아웃)뿐이며, 대기열 포화나 취소된 호출은 세지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${gms.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    // 윈도우에 이만큼 쌓이기 전에는 실패율을 판단하지 않음
+    @Value("${gms.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${gms.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${gms.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${gms.circuit-breaker.half-open-permits:1}")
+    private int halfOpenPermits;
+
+    private State state = State.CLOSED;
+    private boolean[] outcomes;     // true = 실패
+    private int cursor = 0;
+    private int recorded = 0;
+    private int failures = 0;
+    private long openedAtMillis = 0;
+    private int halfOpenInFlight = 0;
+
+    @PostConstruct
+    void init() {
+        outcomes = new boolean[windowSize];
+        Gauge.builder("llm.circuit.state", this, breaker -> breaker.state().ordinal())
+                .description("0=closed, 1=open, 2=half_open")
+                .register(meterRegistry);
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * 호출 가능 여부. true를 받은 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 끝을 알려야 합니다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAtMillis < openDurationMs) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenPermits) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    // 결과를 판단할 수 없는 호출(취소, 대기열 거절 등): 시험 호출 슬롯만 반납
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recorded == windowSize) {
+            if (outcomes[cursor]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[cursor] = failed;
+        if (failed) {
+            failures++;
+        }
+        cursor = (cursor + 1) % windowSize;
+    }
+
+    private void transitionTo(State next) {
+        if (next == State.OPEN) {
+            log.warn("GMS 서킷 브레이커 OPEN: 실패율 {}/{}, {}ms 동안 기본 응답으로 대체합니다.", failures, recorded, openDurationMs);
+            openedAtMillis = System.currentTimeMillis();
+        } else {
+            log.info("GMS 서킷 브레이커 {} -> {}", state, next);
+        }
+        halfOpenInFlight = 0;
+        if (next == State.CLOSED) {
+            cursor = 0;
+            recorded = 0;
+            failures = 0;
+        }
+        state = next;
+    }
+}
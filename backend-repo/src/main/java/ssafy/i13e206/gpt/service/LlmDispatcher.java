@@ -0,0 +1,255 @@
+package ssafy.i13e206.gpt.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+import ssafy.i13e206.gpt.constant.LlmPriority;
+import ssafy.i13e206.gpt.exception.LlmSaturatedException;
+
+/**
+ * 모든 GMS 호출이 거쳐 가는 우선순위 대기열입니다.
+ * 전체 동시 호출 수와 BACKGROUND 전용 상한을 따로 두고, 슬롯이 비면 INTERACTIVE 요청부터 내보냅니다.
+ * 대기열이 가득 찼거나 최대 대기 시간을 넘기면 LlmSaturatedException으로 바로 거절합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmDispatcher {
+
+    private static final String ADMISSION_LISTENER_KEY = LlmDispatcher.class.getName() + ".admissionListener";
+
+    private final MeterRegistry meterRegistry;
+
+    // GMS로 동시에 나가는 전체 요청 수
+    @Value("${gms.dispatcher.max-concurrency:16}")
+    private int maxConcurrency;
+
+    // BACKGROUND 요청이 동시에 차지할 수 있는 최대 슬롯 수 (나머지는 항상 INTERACTIVE 몫)
+    @Value("${gms.dispatcher.background-max-concurrency:4}")
+    private int backgroundMaxConcurrency;
+
+    @Value("${gms.dispatcher.interactive-queue-capacity:100}")
+    private int interactiveQueueCapacity;
+
+    @Value("${gms.dispatcher.background-queue-capacity:500}")
+    private int backgroundQueueCapacity;
+
+    @Value("${gms.dispatcher.interactive-max-wait-ms:10000}")
+    private long interactiveMaxWaitMs;
+
+    @Value("${gms.dispatcher.background-max-wait-ms:300000}")
+    private long backgroundMaxWaitMs;
+
+    private final Object lock = new Object();
+    private final AtomicLong sequence = new AtomicLong();
+    private final PriorityQueue<Ticket> queue = new PriorityQueue<>(
+            Comparator.comparing((Ticket ticket) -> ticket.priority).thenComparingLong(ticket -> ticket.sequence));
+    private final Map<LlmPriority, AtomicInteger> queued = new EnumMap<>(LlmPriority.class);
+    private final Map<LlmPriority, AtomicInteger> inFlight = new EnumMap<>(LlmPriority.class);
+    private final Map<LlmPriority, Timer> queueWaitTimers = new EnumMap<>(LlmPriority.class);
+    private int totalInFlight = 0;
+
+    @PostConstruct
+    void registerMeters() {
+        for (LlmPriority priority : LlmPriority.values()) {
+            String tag = priority.name().toLowerCase();
+            queued.put(priority, new AtomicInteger());
+            inFlight.put(priority, new AtomicInteger());
+            Gauge.builder("llm.dispatcher.queued", queued.get(priority), AtomicInteger::get)
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            Gauge.builder("llm.dispatcher.in.flight", inFlight.get(priority), AtomicInteger::get)
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            queueWaitTimers.put(priority, Timer.builder("llm.dispatcher.queue.wait")
+                    .tag("priority", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 슬롯을 배정받는 순간 listener를 호출하도록 하는 Context. 호출 측이 요청이 아직 대기열에 있는지 알 때 씁니다.
+     */
+    public static Context onAdmitted(Runnable listener) {
+        return Context.of(ADMISSION_LISTENER_KEY, listener);
+    }
+
+    /**
+     * 슬롯을 얻은 뒤 call을 구독하고, 완료/에러/취소 시 슬롯을 반납합니다.
+     */
+    public <T> Mono<T> submit(Mono<T> call) {
+        return Mono.deferContextual(context -> {
+            LlmPriority priority = context.getOrDefault(LlmPriority.CONTEXT_KEY, LlmPriority.INTERACTIVE);
+            return Mono.usingWhen(acquire(priority), ticket -> {
+                notifyAdmitted(context);
+                return call;
+            }, this::release);
+        });
+    }
+
+    /**
+     * 스트리밍 호출용. 스트림이 끝날 때까지 슬롯을 점유합니다.
+     */
+    public <T> Flux<T> submitMany(Flux<T> call) {
+        return Flux.deferContextual(context -> {
+            LlmPriority priority = context.getOrDefault(LlmPriority.CONTEXT_KEY, LlmPriority.INTERACTIVE);
+            return Flux.usingWhen(acquire(priority), ticket -> {
+                notifyAdmitted(context);
+                return call;
+            }, this::release);
+        });
+    }
+
+    private void notifyAdmitted(ContextView context) {
+        context.<Runnable>getOrEmpty(ADMISSION_LISTENER_KEY).ifPresent(Runnable::run);
+    }
+
+    private Mono<Ticket> acquire(LlmPriority priority) {
+        long maxWaitMs = priority == LlmPriority.INTERACTIVE ? interactiveMaxWaitMs : backgroundMaxWaitMs;
+
+        return Mono.<Ticket>create(sink -> {
+                    Ticket ticket = new Ticket(priority, sequence.incrementAndGet(), System.nanoTime(), sink);
+                    synchronized (lock) {
+                        if (queued.get(priority).get() >= queueCapacity(priority)) {
+                            reject(priority, "queue_full");
+                            sink.error(new LlmSaturatedException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+                            return;
+                        }
+                        queue.add(ticket);
+                        queued.get(priority).incrementAndGet();
+                    }
+                    sink.onCancel(() -> cancel(ticket));
+                    drain();
+                })
+                // 취소와 슬롯 배정이 겹쳐 전달되지 못한 티켓은 바로 반납
+                .doOnDiscard(Ticket.class, this::releaseNow)
+                .timeout(Duration.ofMillis(maxWaitMs))
+                .onErrorMap(TimeoutException.class, e -> {
+                    reject(priority, "timeout");
+                    return new LlmSaturatedException("AI 요청 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+                });
+    }
+
+    private Mono<Void> release(Ticket ticket) {
+        return Mono.fromRunnable(() -> releaseNow(ticket));
+    }
+
+    private void releaseNow(Ticket ticket) {
+        if (!ticket.state.compareAndSet(Ticket.GRANTED, Ticket.RELEASED)) {
+            return;
+        }
+        synchronized (lock) {
+            totalInFlight--;
+            inFlight.get(ticket.priority).decrementAndGet();
+        }
+        drain();
+    }
+
+    private void cancel(Ticket ticket) {
+        if (ticket.state.compareAndSet(Ticket.QUEUED, Ticket.CANCELLED)) {
+            synchronized (lock) {
+                if (queue.remove(ticket)) {
+                    queued.get(ticket.priority).decrementAndGet();
+                }
+            }
+        }
+    }
+
+    // 대기열 맨 앞부터 예산이 허락하는 만큼 슬롯을 배정 (sink 호출은 락 밖에서)
+    private void drain() {
+        List<Ticket> granted = new ArrayList<>();
+        synchronized (lock) {
+            while (!queue.isEmpty()) {
+                Ticket head = queue.peek();
+                if (head.state.get() == Ticket.CANCELLED) {
+                    queue.poll();
+                    queued.get(head.priority).decrementAndGet();
+                    continue;
+                }
+                if (!canRun(head.priority)) {
+                    break;
+                }
+                queue.poll();
+                queued.get(head.priority).decrementAndGet();
+                if (!head.state.compareAndSet(Ticket.QUEUED, Ticket.GRANTED)) {
+                    continue;
+                }
+                totalInFlight++;
+                inFlight.get(head.priority).incrementAndGet();
+                granted.add(head);
+            }
+        }
+
+        for (Ticket ticket : granted) {
+            long waitedNanos = System.nanoTime() - ticket.enqueuedAtNanos;
+            queueWaitTimers.get(ticket.priority).record(Duration.ofNanos(waitedNanos));
+            if (waitedNanos > Duration.ofSeconds(1).toNanos()) {
+                log.info("LLM 요청 대기: priority={}, 대기 시간: {}ms", ticket.priority, Duration.ofNanos(waitedNanos).toMillis());
+            }
+            ticket.sink.success(ticket);
+        }
+    }
+
+    private boolean canRun(LlmPriority priority) {
+        if (totalInFlight >= maxConcurrency) {
+            return false;
+        }
+        return priority != LlmPriority.BACKGROUND || inFlight.get(priority).get() < backgroundMaxConcurrency;
+    }
+
+    private int queueCapacity(LlmPriority priority) {
+        return priority == LlmPriority.INTERACTIVE ? interactiveQueueCapacity : backgroundQueueCapacity;
+    }
+
+    private void reject(LlmPriority priority, String reason) {
+        log.warn("LLM 요청 거절: priority={}, reason={}", priority, reason);
+        Counter.builder("llm.dispatcher.rejected")
+                .tag("priority", priority.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static final class Ticket {
+        static final int QUEUED = 0;
+        static final int GRANTED = 1;
+        static final int RELEASED = 2;
+        static final int CANCELLED = 3;
+
+        final LlmPriority priority;
+        final long sequence;
+        final long enqueuedAtNanos;
+        final MonoSink<Ticket> sink;
+        final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        Ticket(LlmPriority priority, long sequence, long enqueuedAtNanos, MonoSink<Ticket> sink) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ssafy.i13e206.gpt.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM 응답 텍스트에서 첫 번째 JSON 객체를 찾아 바로 DTO로 바인딩합니다.
+ * 마크다운 코드 펜스(```json)나 앞뒤 설명 문장은 건너뛰고, 중첩 중괄호는 Jackson 스트리밍 파서가 그대로 처리합니다.
+ * 객체 하나를 읽으면 멈추므로 뒤에 붙은 텍스트는 읽지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LlmJsonExtractor {
+
+    // 설명 문장 안의 '{' 때문에 실패한 경우 다음 '{'에서 다시 시도하는 최대 횟수
+    private static final int MAX_ATTEMPTS = 8;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @throws IllegalArgumentException 바인딩 가능한 JSON 객체가 없는 경우
+     */
+    public <T> T extract(String raw, Class<T> type) {
+        if (raw == null || raw.isEmpty()) {
+            throw new IllegalArgumentException("LLM 응답이 비어 있습니다.");
+        }
+
+        char[] chars = raw.toCharArray();
+        int start = indexOf(chars, 0);
+        JsonProcessingException lastError = null;
+        for (int attempt = 0; start >= 0 && attempt < MAX_ATTEMPTS; attempt++) {
+            try (JsonParser parser = objectMapper.getFactory().createParser(chars, start, chars.length - start)) {
+                T value = objectMapper.readValue(parser, type);
+                if (value != null) {
+                    return value;
+                }
+            } catch (JsonProcessingException e) {
+                lastError = e;
+            } catch (IOException e) {
+                throw new IllegalStateException("LLM 응답 읽기 실패", e);
+            }
+            start = indexOf(chars, start + 1);
+        }
+        throw new IllegalArgumentException("LLM 응답에서 JSON 객체를 찾을 수 없습니다.", lastError);
+    }
+
+    private int indexOf(char[] chars, int from) {
+        for (int i = from; i < chars.length; i++) {
+            if (chars[i] == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
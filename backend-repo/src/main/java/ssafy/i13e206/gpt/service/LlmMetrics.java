@@ -0,0 +1,103 @@
+package ssafy.i13e206.gpt.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.SignalType;
+import ssafy.i13e206.gpt.constant.LlmOperation;
+
+/**
+ * GMS 호출을 operation 태그별로 기록합니다.
+ * - llm.call: 호출 지연 시간 (대기열 대기 포함, 대기 시간만은 llm.dispatcher.queue.wait)
+ * - llm.prompt.chars / llm.completion.chars: 요청/응답 본문 길이
+ * - llm.tokens: 응답의 usage (type=prompt|completion)
+ * - llm.parse.failures: 응답 파싱 실패로 기본값을 돌려준 횟수
+ * - llm.retries: 재시도 횟수
+ * - llm.hedges: 응답 지연으로 보낸 헤지 요청 수
+ * - llm.fallbacks: 서킷 브레이커가 열려 호출 없이 기본 응답을 돌려준 횟수
+ */
+@Component
+@RequiredArgsConstructor
+public class LlmMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordCall(LlmOperation operation, Timer.Sample sample, SignalType signal, boolean stream) {
+        String outcome = switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            default -> "cancel";
+        };
+        sample.stop(Timer.builder("llm.call")
+                .tag("operation", operation.tag())
+                .tag("outcome", outcome)
+                .tag("stream", String.valueOf(stream))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public void recordPromptChars(LlmOperation operation, int chars) {
+        summary("llm.prompt.chars", operation).record(chars);
+    }
+
+    public void recordCompletionChars(LlmOperation operation, int chars) {
+        summary("llm.completion.chars", operation).record(chars);
+    }
+
+    // chat completions 응답의 usage 노드 (스트리밍은 마지막 청크에 포함)
+    public void recordUsage(LlmOperation operation, JsonNode usage) {
+        if (usage == null || !usage.isObject()) {
+            return;
+        }
+        if (usage.has("prompt_tokens")) {
+            tokens(operation, "prompt").record(usage.path("prompt_tokens").asLong());
+        }
+        if (usage.has("completion_tokens")) {
+            tokens(operation, "completion").record(usage.path("completion_tokens").asLong());
+        }
+    }
+
+    public void recordParseFailure(LlmOperation operation) {
+        counter("llm.parse.failures", operation).increment();
+    }
+
+    public void recordRetry(LlmOperation operation) {
+        counter("llm.retries", operation).increment();
+    }
+
+    public void recordHedge(LlmOperation operation) {
+        counter("llm.hedges", operation).increment();
+    }
+
+    public void recordFallback(LlmOperation operation) {
+        counter("llm.fallbacks", operation).increment();
+    }
+
+    private DistributionSummary summary(String name, LlmOperation operation) {
+        return DistributionSummary.builder(name)
+                .tag("operation", operation.tag())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary tokens(LlmOperation operation, String type) {
+        return DistributionSummary.builder("llm.tokens")
+                .tag("operation", operation.tag())
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String name, LlmOperation operation) {
+        return Counter.builder(name)
+                .tag("operation", operation.tag())
+                .register(meterRegistry);
+    }
+}
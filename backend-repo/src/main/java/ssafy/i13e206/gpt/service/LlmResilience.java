@@ -0,0 +1,232 @@
+package ssafy.i13e206.gpt.service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+import ssafy.i13e206.gpt.constant.LlmOperation;
+import ssafy.i13e206.gpt.constant.LlmPriority;
+import ssafy.i13e206.gpt.exception.LlmUnavailableException;
+
+/**
+ * GMS 호출 한 건을 서킷 브레이커, 재시도, 헤지 요청으로 감쌉니다.
+ * - 서킷 브레이커가 열려 있으면 호출하지 않고 LlmUnavailableException으로 바로 실패 (호출 측에서 기본 응답으로 대체)
+ * - 429/5xx/연결 오류는 지터를 준 지수 백오프로 제한된 횟수만큼 재시도
+ * - INTERACTIVE 요청이 operation별 최근 p95 지연 시간을 넘기면 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmResilience {
+
+    // operation별 p95 계산에 쓰는 최근 성공 호출 수
+    private static final int LATENCY_WINDOW_SIZE = 200;
+
+    private final LlmCircuitBreaker circuitBreaker;
+    private final LlmMetrics llmMetrics;
+
+    @Value("${gms.retry.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${gms.retry.min-backoff-ms:500}")
+    private long minBackoffMs;
+
+    @Value("${gms.retry.max-backoff-ms:5000}")
+    private long maxBackoffMs;
+
+    @Value("${gms.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+
+    // 지연 시간 표본이 충분히 쌓이기 전에 쓰는 헤지 대기 시간
+    @Value("${gms.hedge.initial-delay-ms:10000}")
+    private long hedgeInitialDelayMs;
+
+    @Value("${gms.hedge.min-delay-ms:2000}")
+    private long hedgeMinDelayMs;
+
+    @Value("${gms.hedge.max-delay-ms:20000}")
+    private long hedgeMaxDelayMs;
+
+    @Value("${gms.hedge.min-samples:20}")
+    private int hedgeMinSamples;
+
+    // 동시에 나가 있을 수 있는 헤지 요청 수 (장애 상황에서 부하를 두 배로 늘리지 않도록)
+    @Value("${gms.hedge.max-in-flight:4}")
+    private int hedgeMaxInFlight;
+
+    private final Map<LlmOperation, LatencyWindow> latencies = new EnumMap<>(LlmOperation.class);
+    private final AtomicInteger hedgesInFlight = new AtomicInteger();
+
+    @PostConstruct
+    void initLatencyWindows() {
+        for (LlmOperation operation : LlmOperation.values()) {
+            latencies.put(operation, new LatencyWindow(LATENCY_WINDOW_SIZE));
+        }
+    }
+
+    /**
+     * call은 시도마다 새로 구독할 Mono를 만들어야 합니다. (재시도/헤지 요청이 각자 대기열 슬롯을 얻도록)
+     */
+    public <T> Mono<T> execute(LlmOperation operation, Supplier<Mono<T>> call) {
+        return Mono.deferContextual(context -> {
+            LlmPriority priority = context.getOrDefault(LlmPriority.CONTEXT_KEY, LlmPriority.INTERACTIVE);
+            Mono<T> once = hedgeEnabled && priority == LlmPriority.INTERACTIVE
+                    ? hedged(operation, call)
+                    : attempt(operation, call);
+            return once.retryWhen(retrySpec(operation, e -> true));
+        });
+    }
+
+    /**
+     * 스트리밍 호출용. 이미 받은 청크가 중복되지 않도록 첫 청크 전에 실패한 경우에만 재시도하며, 헤지 요청은 보내지 않습니다.
+     */
+    public <T> Flux<T> executeMany(LlmOperation operation, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            AtomicBoolean emitted = new AtomicBoolean();
+            return attemptMany(call)
+                    .doOnNext(item -> emitted.set(true))
+                    .retryWhen(retrySpec(operation, e -> !emitted.get()));
+        });
+    }
+
+    private <T> Mono<T> attempt(LlmOperation operation, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(unavailable());
+            }
+            long startedAt = System.nanoTime();
+            return call.get()
+                    .doOnSuccess(value -> {
+                        circuitBreaker.onSuccess();
+                        latencies.get(operation).record(Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+                    })
+                    .doOnError(this::recordFailure)
+                    .doOnCancel(circuitBreaker::onIgnored);
+        });
+    }
+
+    private <T> Flux<T> attemptMany(Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Flux.error(unavailable());
+            }
+            return call.get()
+                    .doOnComplete(circuitBreaker::onSuccess)
+                    .doOnError(this::recordFailure)
+                    .doOnCancel(circuitBreaker::onIgnored);
+        });
+    }
+
+    // 첫 요청이 헤지 대기 시간 안에 끝나지 않으면 두 번째 요청을 보내고, 먼저 성공한 쪽을 사용 (나머지는 취소)
+    private <T> Mono<T> hedged(LlmOperation operation, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Sinks.One<Boolean> primaryFailed = Sinks.one();
+            Mono<T> primary = attempt(operation, call)
+                    .doOnError(e -> primaryFailed.tryEmitValue(true));
+            Mono<T> hedge = Mono.delay(hedgeDelay(operation))
+                    .takeUntilOther(primaryFailed.asMono())
+                    .flatMap(tick -> startHedge(operation, call));
+
+            return Flux.mergeDelayError(1, primary, hedge)
+                    .next()
+                    .onErrorMap(Exceptions::isMultiple, e -> Exceptions.unwrapMultiple(e).get(0));
+        });
+    }
+
+    private <T> Mono<T> startHedge(LlmOperation operation, Supplier<Mono<T>> call) {
+        if (circuitBreaker.state() != LlmCircuitBreaker.State.CLOSED) {
+            return Mono.empty();
+        }
+        if (hedgesInFlight.incrementAndGet() > hedgeMaxInFlight) {
+            hedgesInFlight.decrementAndGet();
+            return Mono.empty();
+        }
+        log.info("GMS 응답 지연으로 헤지 요청 발송: operation={}", operation.tag());
+        llmMetrics.recordHedge(operation);
+        return attempt(operation, call)
+                .doFinally(signal -> hedgesInFlight.decrementAndGet());
+    }
+
+    private Duration hedgeDelay(LlmOperation operation) {
+        long p95 = latencies.get(operation).percentile(0.95, hedgeMinSamples);
+        long delayMs = p95 < 0 ? hedgeInitialDelayMs : Math.min(Math.max(p95, hedgeMinDelayMs), hedgeMaxDelayMs);
+        return Duration.ofMillis(delayMs);
+    }
+
+    private Retry retrySpec(LlmOperation operation, Predicate<Throwable> condition) {
+        return Retry.backoff(maxRetries, Duration.ofMillis(minBackoffMs))
+                .maxBackoff(Duration.ofMillis(maxBackoffMs))
+                .jitter(0.5)
+                .filter(e -> isUpstreamFailure(e) && condition.test(e))
+                .doBeforeRetry(signal -> {
+                    log.warn("GMS 호출 재시도: operation={}, 재시도 {}회차, cause={}",
+                            operation.tag(), signal.totalRetries() + 1, signal.failure().toString());
+                    llmMetrics.recordRetry(operation);
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private void recordFailure(Throwable e) {
+        if (isUpstreamFailure(e)) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    private LlmUnavailableException unavailable() {
+        return new LlmUnavailableException("GMS 서비스가 일시적으로 불안정합니다.");
+    }
+
+    // 재시도 대상이자 서킷 브레이커 실패로 세는 오류: 429, 5xx, 연결/응답 타임아웃
+    static boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().value() == 429 || response.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private int cursor = 0;
+        private int count = 0;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long millis) {
+            samples[cursor] = millis;
+            cursor = (cursor + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        // 표본이 minSamples보다 적으면 -1
+        synchronized long percentile(double percentile, int minSamples) {
+            if (count < minSamples) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(percentile * count) - 1];
+        }
+    }
+}
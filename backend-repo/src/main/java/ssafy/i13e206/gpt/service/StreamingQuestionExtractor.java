@@ -0,0 +1,139 @@
+package ssafy.i13e206.gpt.service;
+
+/**
+ * stream 모드로 수신되는 질문 생성 응답에서 주질문(첫 번째 "question" 필드) 텍스트를 점진적으로 추출합니다.
+ * 응답 전체는 rawText()로 보관되어, 스트림 종료 후 기존 parseAiResponse로 그대로 파싱됩니다.
+ * 미리보기 추출은 최선 노력이며, 잘못된 이스케이프를 만나면 이후 미리보기만 멈추고 예외를 던지지 않습니다.
+ */
+final class StreamingQuestionExtractor {
+
+    private static final String QUESTION_KEY = "\"question\"";
+
+    private final StringBuilder buffer = new StringBuilder();
+    private final StringBuilder question = new StringBuilder();
+    private int searchFrom = 0;
+    private int cursor = -1;
+    private boolean completed = false;
+    private boolean malformed = false;
+
+    /**
+     * 수신한 delta를 누적합니다.
+     * @return 주질문 텍스트가 늘어났으면 true
+     */
+    boolean append(String delta) {
+        buffer.append(delta);
+        if (completed || malformed) {
+            return false;
+        }
+        if (cursor < 0 && !locateQuestionValue()) {
+            return false;
+        }
+
+        int before = question.length();
+        int length = buffer.length();
+        while (cursor < length) {
+            char c = buffer.charAt(cursor);
+            if (c == '"') {
+                completed = true;
+                cursor++;
+                break;
+            }
+            if (c == '\\') {
+                // 이스케이프 시퀀스가 아직 다 도착하지 않았으면 다음 delta를 기다린다
+                if (cursor + 1 >= length) {
+                    break;
+                }
+                char escaped = buffer.charAt(cursor + 1);
+                if (escaped == 'u') {
+                    if (cursor + 6 > length) {
+                        break;
+                    }
+                    int codeUnit = parseHex(cursor + 2, cursor + 6);
+                    if (codeUnit < 0) {
+                        // 잘못된 유니코드 이스케이프: 이 응답의 미리보기는 여기서 멈춤 (최종 파싱은 parseAiResponse가 담당)
+                        malformed = true;
+                        break;
+                    }
+                    question.append((char) codeUnit);
+                    cursor += 6;
+                    continue;
+                }
+                question.append(switch (escaped) {
+                    case 'n' -> '\n';
+                    case 't' -> '\t';
+                    case 'r' -> '\r';
+                    case 'b' -> '\b';
+                    case 'f' -> '\f';
+                    default -> escaped;
+                });
+                cursor += 2;
+                continue;
+            }
+            question.append(c);
+            cursor++;
+        }
+        return question.length() > before;
+    }
+
+    // 서로게이트 쌍의 뒤쪽이 아직 도착하지 않았으면 앞쪽을 빼고 돌려준다
+    String currentQuestion() {
+        int length = question.length();
+        if (length > 0 && Character.isHighSurrogate(question.charAt(length - 1))) {
+            return question.substring(0, length - 1);
+        }
+        return question.toString();
+    }
+
+    String rawText() {
+        return buffer.toString();
+    }
+
+    // "question": " 까지 도착했으면 값의 시작 위치로 cursor를 옮긴다 ("questions" 키는 제외)
+    private boolean locateQuestionValue() {
+        while (true) {
+            int keyIndex = buffer.indexOf(QUESTION_KEY, searchFrom);
+            if (keyIndex < 0) {
+                return false;
+            }
+            int i = skipWhitespace(keyIndex + QUESTION_KEY.length());
+            if (i >= buffer.length()) {
+                searchFrom = keyIndex;
+                return false;
+            }
+            if (buffer.charAt(i) != ':') {
+                searchFrom = keyIndex + 1;
+                continue;
+            }
+            i = skipWhitespace(i + 1);
+            if (i >= buffer.length()) {
+                searchFrom = keyIndex;
+                return false;
+            }
+            if (buffer.charAt(i) != '"') {
+                searchFrom = keyIndex + 1;
+                continue;
+            }
+            cursor = i + 1;
+            return true;
+        }
+    }
+
+    private int parseHex(int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = Character.digit(buffer.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private int skipWhitespace(int index) {
+        while (index < buffer.length() && Character.isWhitespace(buffer.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -19,36 +19,49 @@ public class InterviewController {
     public final InterviewService interviewService;
 
     @PostMapping("/start")
-    public ResponseEntity<ApiResponse<InterviewStartResponseDto>> startInterview(
+    public Mono<ResponseEntity<ApiResponse<InterviewStartResponseDto>>> startInterview(
             @RequestBody InterviewCreateRequestDto requestDto,
             @AuthenticationPrincipal UserDetails userDetails) {
 
-        InterviewStartResponseDto responseDto = interviewService.createInterview(userDetails.getUsername(), requestDto);
+        return interviewService.createInterview(userDetails.getUsername(), requestDto)
+                .map(responseDto -> ResponseEntity.ok(ApiResponse.success(
+                        "면접이 시작되었습니다.",
+                        responseDto
+                )));
+    }
 
-        ApiResponse<InterviewStartResponseDto> response = ApiResponse.success(
-                "면접이 시작되었습니다.",
-                responseDto
-        );
-        return ResponseEntity.ok(response);
+    /**
+     * PT 문제가 준비되어 있지 않으면 202 Accepted와 interviewUuid만 먼저 반환합니다.
+     * 생성 결과는 /topic/interview/{interviewUuid}/start 로 전달됩니다.
+     */
+    @PostMapping("/start/async")
+    public ResponseEntity<ApiResponse<InterviewStartResponseDto>> startInterviewAsync(
+            @RequestBody InterviewCreateRequestDto requestDto,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        InterviewStartResponseDto responseDto = interviewService.createInterviewAsync(userDetails.getUsername(), requestDto);
+        boolean ptProblemPending = "PT".equalsIgnoreCase(requestDto.getInterviewType()) && responseDto.getQuestionUuid() == null;
+        if (ptProblemPending) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("PT 문제를 생성하고 있습니다.", responseDto));
+        }
+        return ResponseEntity.ok(ApiResponse.success("면접이 시작되었습니다.", responseDto));
     }
 
     @PostMapping("/generateQuestions")
-    public ResponseEntity<?> generateQuestion(@RequestBody RequestQuestionDto requestQuestionDto, @AuthenticationPrincipal UserDetails userDetails){
-        InterviewQuestionResponseDto resultDto = interviewService.generateQuestions(requestQuestionDto);
-
-        ApiResponse<InterviewQuestionResponseDto> response = ApiResponse.success(
-                "질문 생성이 완료되었습니다.",
-                resultDto
-        );
-        return ResponseEntity.ok(response);
+    public Mono<ResponseEntity<ApiResponse<InterviewQuestionResponseDto>>> generateQuestion(@RequestBody RequestQuestionDto requestQuestionDto, @AuthenticationPrincipal UserDetails userDetails){
+        return interviewService.generateQuestions(requestQuestionDto)
+                .map(resultDto -> ResponseEntity.ok(ApiResponse.success(
+                        "질문 생성이 완료되었습니다.",
+                        resultDto
+                )));
     }
 
     @PostMapping("/pt/generateProblem")
-    public ResponseEntity<ApiResponse<InterviewStartResponseDto>> generatePtProblem(@RequestBody ssafy.i13e206.interview.dto.PTProblemGenerateRequestDto req,
-                                                                                    @AuthenticationPrincipal UserDetails userDetails) {
-        InterviewStartResponseDto dto = interviewService.generatePtProblemByPtUuid(req.getPtUuid());
-        ApiResponse<InterviewStartResponseDto> response = ApiResponse.success("PT 문제 생성이 완료되었습니다.", dto);
-        return ResponseEntity.ok(response);
+    public Mono<ResponseEntity<ApiResponse<InterviewStartResponseDto>>> generatePtProblem(@RequestBody ssafy.i13e206.interview.dto.PTProblemGenerateRequestDto req,
+                                                                                          @AuthenticationPrincipal UserDetails userDetails) {
+        return interviewService.generatePtProblemByPtUuid(req.getPtUuid())
+                .map(dto -> ResponseEntity.ok(ApiResponse.success("PT 문제 생성이 완료되었습니다.", dto)));
     }
 
     @PostMapping("/pt/generateQuestions")
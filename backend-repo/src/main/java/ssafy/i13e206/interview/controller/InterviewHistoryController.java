@@ -19,10 +19,16 @@ public class InterviewHistoryController {
     private final InterviewHistoryService interviewHistoryService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<InterviewHistoryResponseDto>> getInterviewHistory(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<ApiResponse<InterviewHistoryResponseDto>> getInterviewHistory(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
-            InterviewHistoryResponseDto interviewHistoryResponse = interviewHistoryService.getInterviewHistory(userDetails.getUsername());
+            InterviewHistoryResponseDto interviewHistoryResponse = interviewHistoryService.getInterviewHistory(userDetails.getUsername(), cursor, size);
             return ResponseEntity.ok(ApiResponse.success("면접 이력을 성공적으로 조회했습니다.", interviewHistoryResponse));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(400, e.getMessage()));
         } catch (AccessDeniedException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(ApiResponse.error(403, "접근 권한이 없습니다."));
@@ -11,4 +11,6 @@ public class InterviewHistoryResponseDto {
     private int totalCount;
     private int thisMonthCount;
     private List<InterviewHistorySummaryDto> interviews;
+    // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private String nextCursor;
 }
@@ -0,0 +1,23 @@
+package ssafy.i13e206.interview.dto;
+
+import java.time.LocalDateTime;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+
+/**
+ * 면접 이력 목록 한 줄의 JPQL 프로젝션. 문서는 UUID/URL만 읽으므로 Resume/Portfolio/ScriptFile의 OCR 원문은 조회하지 않습니다.
+ */
+public record InterviewHistoryRow(
+        String interviewUuid,
+        InterviewType interviewType,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt,
+        String enterpriseName,
+        String position,
+        long questionCount,
+        String resumeUuid,
+        String resumeUrl,
+        String portfolioUuid,
+        String portfolioUrl,
+        String scriptFileUuid,
+        String scriptUrl
+) {}
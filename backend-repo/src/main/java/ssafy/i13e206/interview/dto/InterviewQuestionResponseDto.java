@@ -1,5 +1,7 @@
 package ssafy.i13e206.interview.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,6 +15,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class InterviewQuestionResponseDto {
 
     private String interviewSetUuid;
@@ -27,6 +30,7 @@ public class InterviewQuestionResponseDto {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Question {
         private String id;
         private String type;
@@ -35,7 +39,9 @@ public class InterviewQuestionResponseDto {
         private String category;
         private String difficulty;
         private String rationale;
+        @JsonAlias("related_sources")
         private List<String> relatedSources;
+        @JsonAlias("follow_up")
         private List<FollowUp> followUps;
 
         /**
@@ -46,11 +52,13 @@ public class InterviewQuestionResponseDto {
         @Builder
         @NoArgsConstructor
         @AllArgsConstructor
+        @JsonIgnoreProperties(ignoreUnknown = true)
         public static class FollowUp {
             private String id;
             private String question;
             private String intent;
             private String rationale;
+            @JsonAlias("related_sources")
             private List<String> relatedSources;
         }
     }
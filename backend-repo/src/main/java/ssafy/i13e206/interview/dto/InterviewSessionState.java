@@ -0,0 +1,65 @@
+package ssafy.i13e206.interview.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import ssafy.i13e206.interview.entity.Question;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+
+/**
+ * 진행 중인 면접 하나의 캐시 상태. 질문 목록(질문 번호순)과 InterviewSet 정보를 담습니다.
+ * 답변 시도 번호는 원자적으로 갱신해야 하므로 별도 Redis 해시에 둡니다.
+ */
+public record InterviewSessionState(
+        String interviewUuid,
+        InterviewType interviewType,
+        InterviewSetContext interviewSet,
+        List<SessionQuestion> questions
+) {
+    public int maxQuestionNumber() {
+        return questions.stream().mapToInt(SessionQuestion::questionNumber).max().orElse(0);
+    }
+
+    public InterviewSessionState withQuestions(List<SessionQuestion> added) {
+        List<SessionQuestion> merged = new ArrayList<>(questions);
+        merged.addAll(added);
+        return new InterviewSessionState(interviewUuid, interviewType, interviewSet, merged);
+    }
+
+    /**
+     * 질문 이력을 사용하는 기존 코드(프롬프트 조립, 예측 질문 이력 비교)를 위한 읽기 전용 Question 사본. 영속 상태가 아닙니다.
+     */
+    public List<Question> toQuestions() {
+        List<Question> result = new ArrayList<>();
+        for (SessionQuestion q : questions) {
+            result.add(Question.builder()
+                    .questionUuid(q.questionUuid())
+                    .questionNumber(q.questionNumber())
+                    .question(q.question())
+                    .purpose(q.purpose())
+                    .suggestedAnswer(q.suggestedAnswer())
+                    .parent(q.parentUuid() == null ? null : Question.builder().questionUuid(q.parentUuid()).build())
+                    .build());
+        }
+        return result;
+    }
+
+    public record SessionQuestion(
+            String questionUuid,
+            String parentUuid,
+            int questionNumber,
+            String question,
+            String purpose,
+            String suggestedAnswer
+    ) {
+        // parent는 식별자만 읽으므로 부모 질문이 초기화되지 않음
+        public static SessionQuestion of(Question question) {
+            return new SessionQuestion(
+                    question.getQuestionUuid(),
+                    question.getParent() == null ? null : question.getParent().getQuestionUuid(),
+                    question.getQuestionNumber(),
+                    question.getQuestion(),
+                    question.getPurpose(),
+                    question.getSuggestedAnswer());
+        }
+    }
+}
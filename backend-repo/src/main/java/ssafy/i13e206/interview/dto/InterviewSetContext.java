@@ -0,0 +1,28 @@
+package ssafy.i13e206.interview.dto;
+
+import ssafy.i13e206.files.dto.DocumentRefs;
+import ssafy.i13e206.interview.entity.InterviewSet;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+
+/**
+ * 질문 생성 프롬프트에 필요한 InterviewSet 정보(채용 공고, 면접 유형, 문서 식별자)를 지연 로딩 없이 담아 둔 값.
+ */
+public record InterviewSetContext(
+        String interviewSetUuid,
+        InterviewType interviewType,
+        String enterpriseName,
+        String position,
+        String task,
+        DocumentRefs documents
+) {
+    // 트랜잭션 안에서 호출해야 함 (Recruit, Enterprise 지연 로딩)
+    public static InterviewSetContext of(InterviewSet interviewSet) {
+        return new InterviewSetContext(
+                interviewSet.getInterviewSetsUuid(),
+                interviewSet.getInterviewType(),
+                interviewSet.getRecruit().getEnterprise().getEnterpriseName(),
+                interviewSet.getRecruit().getPosition(),
+                interviewSet.getRecruit().getTask(),
+                DocumentRefs.of(interviewSet));
+    }
+}
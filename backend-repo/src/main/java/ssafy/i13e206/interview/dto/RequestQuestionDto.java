@@ -9,4 +9,6 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class RequestQuestionDto {
     String interviewUuid;
+    // true면 주질문을 생성되는 대로 /topic/interview/{interviewUuid}/questions 로 전송
+    boolean stream;
 }
@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "INTERVIEWS")
+// 면접 이력 키셋 페이지네이션: user_uuid로 좁힌 뒤 (created_at, interview_uuid) 순서대로 읽음
+@Table(name = "INTERVIEWS", indexes = {
+        @Index(name = "idx_interviews_user_created", columnList = "user_uuid, created_at, interview_uuid")
+})
 @Getter
 @Setter
 @Builder
@@ -3,6 +3,8 @@ package ssafy.i13e206.interview.repository;
 import io.lettuce.core.Value;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssafy.i13e206.interview.entity.AnswerAttempt;
 import ssafy.i13e206.interview.entity.AnswerAttemptId;
 import ssafy.i13e206.interview.entity.Question;
@@ -25,4 +27,20 @@ public interface AnswerAttemptRepository extends JpaRepository<AnswerAttempt, St
     Optional<AnswerAttempt> findTopById_AnswerAttemptUuidOrderById_AttemptNumberDesc(String answerAttemptUuid);
 
     List<AnswerAttempt> findByQuestion(Question question);
-}
\ No newline at end of file
+
+    // 면접 내 질문별 마지막 시도 번호: [questionUuid, maxAttemptNumber]
+    @Query("SELECT a.question.questionUuid, MAX(a.id.attemptNumber) FROM AnswerAttempt a " +
+            "WHERE a.question.interview.interviewUuid = :interviewUuid " +
+            "GROUP BY a.question.questionUuid")
+    List<Object[]> findMaxAttemptNumbersByInterviewUuid(@Param("interviewUuid") String interviewUuid);
+
+    // 복합 키 (answer_attempt_uuid, attempt_number) 인덱스만 읽음
+    @Query("SELECT COALESCE(MAX(a.id.attemptNumber), 0) FROM AnswerAttempt a WHERE a.id.answerAttemptUuid = :answerAttemptUuid")
+    int findMaxAttemptNumber(@Param("answerAttemptUuid") String answerAttemptUuid);
+
+    // 면접 상세 조회용: 면접의 모든 답변 시도와 피드백을 한 번에 읽음 (역방향 OneToOne 피드백의 시도별 추가 조회 방지)
+    @Query("SELECT a FROM AnswerAttempt a LEFT JOIN FETCH a.feedback " +
+            "WHERE a.question.interview.interviewUuid = :interviewUuid " +
+            "ORDER BY a.id.attemptNumber")
+    List<AnswerAttempt> findWithFeedbackByInterviewUuid(@Param("interviewUuid") String interviewUuid);
+}
@@ -3,9 +3,11 @@ package ssafy.i13e206.interview.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ssafy.i13e206.interview.dto.InterviewHistoryRow;
 import ssafy.i13e206.interview.entity.Interview;
 import ssafy.i13e206.interview.entity.InterviewSet;
 import ssafy.i13e206.user.entity.User;
@@ -16,23 +18,37 @@ public interface InterviewRepository extends JpaRepository<Interview, String> {
 
     Optional<Interview> findByUserAndInterviewUuid(User user, String uuid);
 
-    @Query("SELECT i FROM Interview i " +
-            "JOIN FETCH i.interviewSet is " +
-            "JOIN FETCH is.recruit r " +
-            "JOIN FETCH r.enterprise e " +
-            "JOIN FETCH is.resume " +
-            "LEFT JOIN FETCH is.portfolio " +
-            "LEFT JOIN FETCH is.scriptFile " +
+    String HISTORY_ROW_SELECT = "SELECT new ssafy.i13e206.interview.dto.InterviewHistoryRow(" +
+            "i.interviewUuid, i.interviewType, i.createdAt, i.finishedAt, e.enterpriseName, r.position, " +
+            "(SELECT COUNT(q) FROM Question q WHERE q.interview = i), " +
+            "res.resumeUuid, res.resumeUrl, p.portfolioUuid, p.portfolioUrl, sf.scriptFileUuid, sf.scriptUrl) " +
+            "FROM Interview i " +
+            "JOIN i.interviewSet s " +
+            "JOIN s.recruit r " +
+            "JOIN r.enterprise e " +
+            "JOIN s.resume res " +
+            "LEFT JOIN s.portfolio p " +
+            "LEFT JOIN s.scriptFile sf ";
+
+    // 면접 이력 첫 페이지 (최신순)
+    @Query(HISTORY_ROW_SELECT +
             "WHERE i.user = :user " +
-            "ORDER BY i.createdAt DESC")
-    List<Interview> findInterviewsWithDetailsByUser(@Param("user") User user);
+            "ORDER BY i.createdAt DESC, i.interviewUuid DESC")
+    List<InterviewHistoryRow> findHistoryRowsByUser(@Param("user") User user, Pageable pageable);
 
-    long countByUser(User user);
+    // 면접 이력 다음 페이지: 커서(createdAt, interviewUuid)보다 오래된 면접 (키셋 페이지네이션)
+    @Query(HISTORY_ROW_SELECT +
+            "WHERE i.user = :user " +
+            "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.interviewUuid < :interviewUuid)) " +
+            "ORDER BY i.createdAt DESC, i.interviewUuid DESC")
+    List<InterviewHistoryRow> findHistoryRowsByUserBefore(@Param("user") User user,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("interviewUuid") String interviewUuid,
+                                                         Pageable pageable);
 
-    @Query("SELECT COALESCE(SUM(FUNCTION('TIMESTAMPDIFF', SECOND, i.createdAt, i.finishedAt)), 0) " +
-            "FROM Interview i " +
-            "WHERE i.user = :user AND i.finishedAt IS NOT NULL")
-    long findTotalPracticeSecondsByUser(@Param("user") User user);
+    long countByUserAndCreatedAtGreaterThanEqual(User user, LocalDateTime from);
+
+    long countByUser(User user);
 
     void deleteByUser(User user);
 
@@ -2,6 +2,8 @@ package ssafy.i13e206.interview.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ssafy.i13e206.interview.entity.*;
 
@@ -19,4 +21,14 @@ public interface PTAnswerAttemptRepository extends JpaRepository<PTAnswerAttempt
     Optional<PTAnswerAttempt> findTopById_PtAnswerAttemptUuidOrderById_AttemptNumberDesc(String ptAnswerAttemptUuid);
 
     List<PTAnswerAttempt> findByPtInterview(PTInterview ptInterview);
+
+    // 복합 키 (pt_answer_attempt_uuid, attempt_number) 인덱스만 읽음
+    @Query("SELECT COALESCE(MAX(a.id.attemptNumber), 0) FROM PTAnswerAttempt a WHERE a.id.ptAnswerAttemptUuid = :ptAnswerAttemptUuid")
+    int findMaxAttemptNumber(@Param("ptAnswerAttemptUuid") String ptAnswerAttemptUuid);
+
+    // 면접 상세 조회용: 면접의 모든 PT 답변 시도와 피드백을 한 번에 읽음
+    @Query("SELECT a FROM PTAnswerAttempt a LEFT JOIN FETCH a.feedback " +
+            "WHERE a.ptInterview.interview.interviewUuid = :interviewUuid " +
+            "ORDER BY a.id.attemptNumber")
+    List<PTAnswerAttempt> findWithFeedbackByInterviewUuid(@Param("interviewUuid") String interviewUuid);
 }
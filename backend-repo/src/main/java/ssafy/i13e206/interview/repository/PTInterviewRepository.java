@@ -1,6 +1,8 @@
 package ssafy.i13e206.interview.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ssafy.i13e206.interview.entity.Interview;
@@ -18,4 +20,9 @@ public interface PTInterviewRepository extends JpaRepository<PTInterview, String
     List<PTInterview> findAllByInterview_InterviewUuidOrderByCreatedAtDesc(String interviewUuid);
     List<PTInterview> findAllByInterview_InterviewUuidOrderByCreatedAtAsc(String interviewUuid);
     Optional<PTInterview> findTopByInterviewOrderByCreatedAtDesc(Interview interview);
+
+    // 답변 시도 번호 할당 시 같은 PT 면접에 대한 동시 요청을 직렬화 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PTInterview p WHERE p.ptUuid = :ptUuid")
+    Optional<PTInterview> findByIdForUpdate(@Param("ptUuid") String ptUuid);
 }
@@ -1,9 +1,14 @@
 package ssafy.i13e206.interview.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ssafy.i13e206.interview.entity.Interview;
 import ssafy.i13e206.interview.entity.Question;
 import java.util.List;
+import java.util.Optional;
 
 public interface QuestionRepository extends JpaRepository<Question, String> {
     List<Question> findByInterview_InterviewUuidOrderByQuestionNumber(String interviewInterviewUuid);
@@ -15,4 +20,12 @@ public interface QuestionRepository extends JpaRepository<Question, String> {
     // 루트 질문 (parent_uuid IS NULL) 만 가져오기
     List<Question> findByInterviewAndParentIsNull(Interview interview);    // 특정 질문의 자식(후속) 질문 가져오기
     List<Question> findByParent(Question parent);
+
+    @Query("SELECT q.interview.interviewUuid FROM Question q WHERE q.questionUuid = :questionUuid")
+    Optional<String> findInterviewUuidByQuestionUuid(@Param("questionUuid") String questionUuid);
+
+    // 답변 시도 번호 할당 시 같은 질문에 대한 동시 요청을 직렬화 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM Question q WHERE q.questionUuid = :questionUuid")
+    Optional<Question> findByIdForUpdate(@Param("questionUuid") String questionUuid);
 }
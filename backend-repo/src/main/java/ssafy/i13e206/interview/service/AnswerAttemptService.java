@@ -23,17 +23,23 @@ public class AnswerAttemptService {
     private final AnswerAttemptRepository answerAttemptRepository;
     private final PTInterviewRepository ptInterviewRepository;
     private final PTAnswerAttemptRepository ptAnswerAttemptRepository;
+    private final InterviewSessionCacheService interviewSessionCacheService;
 
+    /**
+     * 시도 번호는 질문(또는 PT 면접) 행을 SELECT ... FOR UPDATE로 잠근 뒤 MAX + 1로 할당합니다.
+     * 더블 클릭이나 재시도로 같은 질문에 동시 요청이 와도 번호가 겹치거나 비지 않습니다. (녹화 ID의 ~N 접미사가 이 번호에 의존)
+     * 잠금은 트랜잭션이 끝날 때 풀리므로 같은 질문에 대한 요청만 순서대로 처리됩니다.
+     */
     @Transactional
     public AttemptResponseDto createAttempt(String id) {
-        Optional<Question> questionOptional = questionRepository.findById(id);
+        Optional<Question> questionOptional = questionRepository.findByIdForUpdate(id);
 
         if (questionOptional.isPresent()) {
             // --- 일반/직무 면접 답변 시도 생성 ---
             Question question = questionOptional.get();
+            String interviewUuid = question.getInterview().getInterviewUuid();
 
-            long attemptCount = answerAttemptRepository.countByQuestion(question);
-            int nextAttemptNumber = (int) attemptCount + 1;
+            int nextAttemptNumber = answerAttemptRepository.findMaxAttemptNumber(id) + 1;
             AnswerAttemptId attemptId = AnswerAttemptId.builder()
                     .answerAttemptUuid(id)
                     .attemptNumber(nextAttemptNumber)
@@ -45,18 +51,18 @@ public class AnswerAttemptService {
                     .status(AttemptStatus.PENDING)
                     .build();
             answerAttemptRepository.save(attempt);
+            interviewSessionCacheService.recordAttempt(interviewUuid, id, nextAttemptNumber);
 
             return AttemptResponseDto.builder()
                     .sessionId(attempt.getId().getAnswerAttemptUuid())
                     .build();
         } else {
-            Optional<PTInterview> ptInterviewOptional = ptInterviewRepository.findById(id);
+            Optional<PTInterview> ptInterviewOptional = ptInterviewRepository.findByIdForUpdate(id);
 
             if (ptInterviewOptional.isPresent()) {
                 // --- PT 면접 답변 시도 생성 ---
                 PTInterview ptInterview = ptInterviewOptional.get();
-                long attemptCount = ptAnswerAttemptRepository.countByPtInterview(ptInterview);
-                int nextAttemptNumber = (int) attemptCount + 1;
+                int nextAttemptNumber = ptAnswerAttemptRepository.findMaxAttemptNumber(id) + 1;
 
                 PTAnswerAttemptId ptAttemptId = PTAnswerAttemptId.builder()
                         .ptAnswerAttemptUuid(id)
@@ -1,29 +1,36 @@
 package ssafy.i13e206.interview.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ssafy.i13e206.company.entity.Recruit;
 import ssafy.i13e206.feedback.dto.FeedbackSourceDto;
 import ssafy.i13e206.feedback.entity.Feedback;
-import ssafy.i13e206.feedback.entity.FeedbackSource;
+import ssafy.i13e206.feedback.repository.FeedbackSourceRepository;
+import ssafy.i13e206.feedback.service.FeedbackTimelineService;
+import ssafy.i13e206.feedback.service.TranscriptSearchService;
 import ssafy.i13e206.files.constant.FileType;
-import ssafy.i13e206.files.entity.Resume;
 import ssafy.i13e206.interview.dto.*;
 import ssafy.i13e206.interview.entity.*;
 import ssafy.i13e206.interview.entity.enums.InterviewType;
 import ssafy.i13e206.interview.repository.*;
 import ssafy.i13e206.user.entity.User;
 import ssafy.i13e206.user.repository.UserRepository;
+import ssafy.i13e206.user.service.UserPracticeStatsService;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 
@@ -38,8 +45,24 @@ public class InterviewHistoryService {
     private final PTInterviewRepository ptInterviewRepository;
     private final PTAnswerAttemptRepository ptAnswerAttemptRepository;
     private final InterviewSetRepository interviewSetRepository;
-    private final ObjectMapper objectMapper;
-
+    private final SpeculativeQuestionService speculativeQuestionService;
+    private final InterviewSessionCacheService interviewSessionCacheService;
+    private final FeedbackSourceRepository feedbackSourceRepository;
+    private final UserPracticeStatsService userPracticeStatsService;
+    private final FeedbackTimelineService feedbackTimelineService;
+    private final TranscriptSearchService transcriptSearchService;
+
+    @Value("${interview.history.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${interview.history.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * 질문/PT 수, 재시도 수와 관계없이 고정된 횟수의 쿼리로 조립합니다.
+     * 사용자, 면접, 질문, 답변 시도+피드백, (PT면 PT 면접, PT 답변 시도+피드백), 피드백 출처
+     */
+    @Transactional(readOnly = true)
     public InterviewDetailResponseDto getInterviewDetail(String username, String interviewUuid) {
         User user = userRepository.findById(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다."));
@@ -48,7 +71,22 @@ public class InterviewHistoryService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 면접 정보를 조회할 권한이 없습니다."));
 
         String time = calculateDuration(interview.getCreatedAt(), interview.getFinishedAt());
-        List<QuestionDto> questionDtos = getQuestionDtos(interviewUuid);
+        List<Question> questions = questionRepository.findByInterview_InterviewUuidOrderByQuestionNumber(interviewUuid);
+        List<AnswerAttempt> attempts = answerAttemptRepository.findWithFeedbackByInterviewUuid(interviewUuid);
+
+        List<PTInterview> ptList = Collections.emptyList();
+        List<PTAnswerAttempt> ptAttempts = Collections.emptyList();
+        if (interview.getInterviewType() == InterviewType.PT) {
+            ptList = ptInterviewRepository.findAllByInterview_InterviewUuidOrderByCreatedAtAsc(interviewUuid);
+            ptAttempts = ptAnswerAttemptRepository.findWithFeedbackByInterviewUuid(interviewUuid);
+        }
+
+        List<Feedback> feedbacks = new ArrayList<>();
+        attempts.stream().map(AnswerAttempt::getFeedback).filter(Objects::nonNull).forEach(feedbacks::add);
+        ptAttempts.stream().map(PTAnswerAttempt::getFeedback).filter(Objects::nonNull).forEach(feedbacks::add);
+        Map<String, List<FeedbackSourceDto>> sourcesByFeedback = loadFeedbackSources(feedbacks);
+
+        List<QuestionDto> questionDtos = getQuestionDtos(questions, attempts, sourcesByFeedback);
 
         InterviewDetailResponseDto.InterviewDetailResponseDtoBuilder responseBuilder = InterviewDetailResponseDto.builder()
                 .interviewUuid(interview.getInterviewUuid())
@@ -61,20 +99,18 @@ public class InterviewHistoryService {
                 .questionCount(questionDtos.size());
 
         if (interview.getInterviewType() == InterviewType.PT) {
-            List<PTInterview> ptList = ptInterviewRepository.findAllByInterview_InterviewUuidOrderByCreatedAtAsc(interview.getInterviewUuid());
+            Map<String, List<PTAnswerAttempt>> attemptsByPt = ptAttempts.stream()
+                    .collect(Collectors.groupingBy(a -> a.getPtInterview().getPtUuid()));
 
-            List<PTInterviewDetailResponseDto> ptDetails = ptList.stream().map(pt -> {
-                List<RetryDto> ptRetries = ptAnswerAttemptRepository
-                        .findByPtInterviewOrderById_AttemptNumber(pt)
-                        .stream()
-                        .map(this::mapToRetryDtoForPT)
-                        .collect(Collectors.toList());
+            // PT 면접마다 같은 질문 목록을 보여주므로 한 번만 만든다
+            List<QuestionDto> ptQuestions = questions.stream()
+                    .map(q -> new QuestionDto(q.getQuestionNumber(), q.getQuestion(), Collections.emptyList()))
+                    .collect(Collectors.toList());
 
-                List<QuestionDto> ptQuestions = questionRepository.findByInterview_InterviewUuidOrderByQuestionNumber(
-                                interview.getInterviewUuid())
+            List<PTInterviewDetailResponseDto> ptDetails = ptList.stream().map(pt -> {
+                List<RetryDto> ptRetries = attemptsByPt.getOrDefault(pt.getPtUuid(), Collections.emptyList())
                         .stream()
-                        .map(q -> new QuestionDto(q.getQuestionNumber(), q.getQuestion(), Collections.emptyList()))
-                        .sorted((q1, q2) -> Integer.compare(q1.questionNumber(), q2.questionNumber()))
+                        .map(a -> mapToRetryDtoForPT(a, pt, sourcesByFeedback))
                         .collect(Collectors.toList());
 
                 return PTInterviewDetailResponseDto.builder()
@@ -98,33 +134,51 @@ public class InterviewHistoryService {
         return responseBuilder.build();
     }
 
-    public InterviewHistoryResponseDto getInterviewHistory(String username) {
+    /**
+     * 면접 이력을 최신순으로 size개씩 반환합니다. 다음 페이지는 응답의 nextCursor를 넘겨 조회합니다. (마지막 페이지면 null)
+     * 커서는 마지막 항목의 (createdAt, interviewUuid)이므로 페이지가 깊어져도 OFFSET처럼 앞 행을 다시 읽지 않습니다.
+     * 질문 수와 이번 달 면접 수는 DB에서 집계합니다.
+     */
+    public InterviewHistoryResponseDto getInterviewHistory(String username, String cursor, Integer size) {
         User user = userRepository.findById(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        List<Interview> interviews = interviewRepository.findInterviewsWithDetailsByUser(user);
+        int pageSize = size == null ? defaultPageSize : Math.min(Math.max(size, 1), maxPageSize);
+        // 다음 페이지가 있는지 알기 위해 한 건 더 읽는다
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<InterviewHistoryRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = interviewRepository.findHistoryRowsByUser(user, limit);
+        } else {
+            HistoryCursor after = HistoryCursor.decode(cursor);
+            rows = interviewRepository.findHistoryRowsByUserBefore(user, after.createdAt(), after.interviewUuid(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        String nextCursor = hasNext
+                ? new HistoryCursor(rows.get(rows.size() - 1).createdAt(), rows.get(rows.size() - 1).interviewUuid()).encode()
+                : null;
 
-        List<InterviewHistorySummaryDto> interviewSummaries = interviews.stream()
+        List<InterviewHistorySummaryDto> interviewSummaries = rows.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
 
-        int totalCount = interviewSummaries.size();
-
-        YearMonth currentMonth = YearMonth.now();
-        long thisMonthCount = interviewSummaries.stream()
-                .filter(summary -> {
-                    LocalDateTime createdAt = summary.getCreatedAt();
-                    return createdAt != null && YearMonth.from(createdAt).equals(currentMonth);
-                })
-                .count();
+        long totalCount = interviewRepository.countByUser(user);
+        LocalDateTime monthStart = YearMonth.now().atDay(1).atStartOfDay();
+        long thisMonthCount = interviewRepository.countByUserAndCreatedAtGreaterThanEqual(user, monthStart);
 
         return InterviewHistoryResponseDto.builder()
-                .totalCount(totalCount)
+                .totalCount((int) totalCount)
                 .thisMonthCount((int) thisMonthCount)
                 .interviews(interviewSummaries)
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    @Transactional
     public void deleteInterview(String interviewUuid, String username) {
         Interview interview = interviewRepository.findById(interviewUuid)
                 .orElseThrow(() -> new IllegalArgumentException("해당 면접 세션을 찾을 수 없습니다."));
@@ -142,28 +196,43 @@ public class InterviewHistoryService {
 
         long interviewCount = interviewSetRepository.countByInterviewSetsUuidAndRecruit(interviewSetUuid, recruit);
 
+        userPracticeStatsService.recordDeleted(interview);
         interviewRepository.delete(interview);
+        speculativeQuestionService.invalidate(interviewUuid);
+        interviewSessionCacheService.evict(interviewUuid);
+        transcriptSearchService.deleteByInterview(interviewUuid);
 
         if (interviewCount == 1) {
             interviewSetRepository.delete(interviewSet);
         }
     }
 
-    private List<QuestionDto> getQuestionDtos(String interviewUuid) {
-        return questionRepository
-                .findByInterview_InterviewUuidOrderByQuestionNumber(interviewUuid)
-                .stream()
+    private List<QuestionDto> getQuestionDtos(List<Question> questions, List<AnswerAttempt> attempts,
+                                              Map<String, List<FeedbackSourceDto>> sourcesByFeedback) {
+        // 답변 시도의 question은 프록시여도 식별자만 읽으므로 추가 조회가 없음
+        Map<String, List<AnswerAttempt>> attemptsByQuestion = attempts.stream()
+                .collect(Collectors.groupingBy(a -> a.getQuestion().getQuestionUuid()));
+        return questions.stream()
                 .map(q -> {
-                    List<RetryDto> retries = answerAttemptRepository
-                            .findByQuestion_QuestionUuidOrderById_AttemptNumber(q.getQuestionUuid())
+                    List<RetryDto> retries = attemptsByQuestion.getOrDefault(q.getQuestionUuid(), Collections.emptyList())
                             .stream()
-                            .map(a -> mapToRetryDtoForQuestion(a, q))
+                            .map(a -> mapToRetryDtoForQuestion(a, q, sourcesByFeedback))
                             .collect(Collectors.toList());
                     return new QuestionDto(q.getQuestionNumber(), q.getQuestion(), retries);
                 }).collect(Collectors.toList());
     }
 
-    private RetryDto mapToRetryDtoForQuestion(AnswerAttempt attempt, Question question) {
+    // 모든 피드백의 출처를 IN 쿼리 한 번으로 읽어 피드백 UUID별로 묶음
+    private Map<String, List<FeedbackSourceDto>> loadFeedbackSources(List<Feedback> feedbacks) {
+        if (feedbacks.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return feedbackSourceRepository.findByFeedbackIn(feedbacks).stream()
+                .collect(Collectors.groupingBy(fs -> fs.getFeedback().getFeedbackUuid(),
+                        Collectors.mapping(fs -> new FeedbackSourceDto(fs.getSourceType(), fs.getCitedContent()), Collectors.toList())));
+    }
+
+    private RetryDto mapToRetryDtoForQuestion(AnswerAttempt attempt, Question question, Map<String, List<FeedbackSourceDto>> sourcesByFeedback) {
         Feedback feedback = attempt.getFeedback();
         if (feedback == null) {
             return new RetryDto(attempt.getVideoPath(), question.getPurpose(),
@@ -179,19 +248,17 @@ public class InterviewHistoryService {
         return new RetryDto(
                 attempt.getVideoPath(),
                 question.getPurpose(),
-                parseJsonList(feedback.getExpression(), new TypeReference<List<ExpressionDto>>() {}),
+                feedbackTimelineService.expressions(feedback),
                 feedback.getTranscript(),
-                parseJsonList(feedback.getSegment(), new TypeReference<List<SegmentDto>>() {}),
+                feedbackTimelineService.segments(feedback),
                 feedback.getModelAnswer(),                       // String
-                mapFeedbackSources(feedback.getFeedbackSources()),
+                sourcesByFeedback.getOrDefault(feedback.getFeedbackUuid(), Collections.emptyList()),
                 attempt.getId().getAttemptNumber()
         );
     }
 
-    private RetryDto mapToRetryDtoForPT(PTAnswerAttempt attempt) {
+    private RetryDto mapToRetryDtoForPT(PTAnswerAttempt attempt, PTInterview ptInterview, Map<String, List<FeedbackSourceDto>> sourcesByFeedback) {
         Feedback feedback = attempt.getFeedback();
-        // PTAnswerAttempt와 연결된 PTInterview 엔티티를 가져옵니다.
-        PTInterview ptInterview = attempt.getPtInterview();
 
         if (feedback == null) {
             return new RetryDto(attempt.getVideoPath(), ptInterview.getTitle(),
@@ -202,73 +269,49 @@ public class InterviewHistoryService {
         return new RetryDto(
                 attempt.getVideoPath(),
                 ptInterview.getTitle(),
-                parseJsonList(feedback.getExpression(), new TypeReference<List<ExpressionDto>>() {}),
+                feedbackTimelineService.expressions(feedback),
                 feedback.getTranscript(),
-                parseJsonList(feedback.getSegment(), new TypeReference<List<SegmentDto>>() {}),
+                feedbackTimelineService.segments(feedback),
                 feedback.getModelAnswer(),
-                mapFeedbackSources(feedback.getFeedbackSources()),
+                sourcesByFeedback.getOrDefault(feedback.getFeedbackUuid(), Collections.emptyList()),
                 attempt.getId().getAttemptNumber()
         );
     }
 
 
-    private List<FeedbackSourceDto> mapFeedbackSources(List<FeedbackSource> list) {
-        if (list == null) return Collections.emptyList();
-        return list.stream()
-                .map(fs -> new FeedbackSourceDto(fs.getSourceType(), fs.getCitedContent()))
-                .toList();
-    }
-
-
-    private <T> List<T> parseJsonList(String json, TypeReference<List<T>> typeReference) {
-        if (json == null || json.isBlank()) {
-            return Collections.emptyList();
-        }
-        try {
-            return objectMapper.readValue(json, typeReference);
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
-            return Collections.emptyList();
-        }
-    }
-
-    private InterviewHistorySummaryDto convertToDto(Interview interview) {
-        InterviewSet interviewSet = interview.getInterviewSet();
-        Recruit recruit = interviewSet.getRecruit();
-
+    private InterviewHistorySummaryDto convertToDto(InterviewHistoryRow row) {
         List<InterviewHistoryDocumentDto> files = new ArrayList<>();
 
-        Resume resume = interviewSet.getResume();
         files.add(InterviewHistoryDocumentDto.builder()
-                .fileUuid(resume.getResumeUuid())
+                .fileUuid(row.resumeUuid())
                 .fileType(FileType.RESUME)
-                .fileUrl(resume.getResumeUrl())
+                .fileUrl(row.resumeUrl())
                 .build());
 
-        if (interviewSet.getPortfolio() != null) {
+        if (row.portfolioUuid() != null) {
             files.add(InterviewHistoryDocumentDto.builder()
-                    .fileUuid(interviewSet.getPortfolio().getPortfolioUuid())
+                    .fileUuid(row.portfolioUuid())
                     .fileType(FileType.PORTFOLIO)
-                    .fileUrl(interviewSet.getPortfolio().getPortfolioUrl())
+                    .fileUrl(row.portfolioUrl())
                     .build());
         }
 
-        if (interviewSet.getScriptFile() != null) {
+        if (row.scriptFileUuid() != null) {
             files.add(InterviewHistoryDocumentDto.builder()
-                    .fileUuid(interviewSet.getScriptFile().getScriptFileUuid())
+                    .fileUuid(row.scriptFileUuid())
                     .fileType(FileType.SCRIPT)
-                    .fileUrl(interviewSet.getScriptFile().getScriptUrl())
+                    .fileUrl(row.scriptUrl())
                     .build());
         }
 
         return InterviewHistorySummaryDto.builder()
-                .interviewUuid(interview.getInterviewUuid())
-                .InterviewType(interview.getInterviewType())
-                .createdAt(interview.getCreatedAt())
-                .finishedAt(interview.getFinishedAt())
-                .enterpriseName(recruit.getEnterprise().getEnterpriseName())
-                .position(recruit.getPosition())
-                .questionCount(interview.getQuestions() != null ? interview.getQuestions().size() : 0)
+                .interviewUuid(row.interviewUuid())
+                .InterviewType(row.interviewType())
+                .createdAt(row.createdAt())
+                .finishedAt(row.finishedAt())
+                .enterpriseName(row.enterpriseName())
+                .position(row.position())
+                .questionCount((int) row.questionCount())
                 .files(files)
                 .build();
     }
@@ -279,4 +322,22 @@ public class InterviewHistoryService {
         long seconds = duration.getSeconds();
         return String.format("%02d:%02d:%02d", seconds / 3600, (seconds % 3600) / 60, seconds % 60);
     }
+
+    // 키셋 커서: 마지막으로 받은 면접의 (createdAt, interviewUuid)를 URL-safe Base64로 인코딩
+    private record HistoryCursor(LocalDateTime createdAt, String interviewUuid) {
+        String encode() {
+            String raw = createdAt + "|" + interviewUuid;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static HistoryCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new HistoryCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+        }
+    }
 }
@@ -3,14 +3,19 @@ package ssafy.i13e206.interview.service;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 import ssafy.i13e206.company.entity.Recruit;
 import ssafy.i13e206.company.repository.RecruitRepository;
 import ssafy.i13e206.files.entity.Portfolio;
@@ -21,6 +26,7 @@ import ssafy.i13e206.files.repository.ResumeRepository;
 import ssafy.i13e206.files.repository.ScriptRepository;
 import ssafy.i13e206.gpt.service.GmsDirectService;
 import ssafy.i13e206.interview.dto.*;
+import ssafy.i13e206.interview.dto.InterviewSessionState.SessionQuestion;
 import ssafy.i13e206.interview.entity.*;
 import ssafy.i13e206.interview.entity.enums.InterviewType;
 import ssafy.i13e206.interview.repository.*;
@@ -40,12 +46,51 @@ public class InterviewService {
     private final InterviewRepository interviewRepository;
     private final QuestionRepository questionRepository;
     private final GmsDirectService gmsDirectService;
+    private final PtProblemPoolService ptProblemPoolService;
+    private final SpeculativeQuestionService speculativeQuestionService;
+    private final InterviewSessionCacheService interviewSessionCacheService;
     private final PTInterviewRepository ptInterviewRepository;
     private final PTAnswerAttemptRepository ptAnswerAttemptRepository;
-    private final AnswerAttemptRepository answerAttemptRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 면접 세트와 면접을 저장하는 쓰기 트랜잭션, PT 문제를 생성하는 LLM 호출(트랜잭션 밖), PTInterview를 저장하는 쓰기 트랜잭션으로 나눠 실행합니다.
+     * LLM 응답을 기다리는 동안 DB 커넥션을 점유하지 않습니다.
+     */
+    public Mono<InterviewStartResponseDto> createInterview(String userUuid, InterviewCreateRequestDto requestDto) {
+        InterviewStart start = transactionTemplate.execute(status -> saveNewInterview(userUuid, requestDto));
+        if (!start.isPending()) {
+            return Mono.just(start.response());
+        }
+        return generatePtInterview(start.ptProblemRequest());
+    }
 
-    @Transactional
-    public InterviewStartResponseDto createInterview(String userUuid, InterviewCreateRequestDto requestDto) {
+    /**
+     * /api/interview/start 의 202 Accepted 변형. PT 문제를 바로 줄 수 없으면 interviewUuid만 담아 즉시 반환하고,
+     * 생성이 끝나면 /topic/interview/{interviewUuid}/start 로 PT_PROBLEM_COMPLETED(실패 시 PT_PROBLEM_FAILED) 메시지를 보냅니다.
+     * 구독 전에 완료되어 메시지를 놓친 경우 /api/interview/pt/retry/{interviewUuid} 로 조회합니다.
+     */
+    public InterviewStartResponseDto createInterviewAsync(String userUuid, InterviewCreateRequestDto requestDto) {
+        InterviewStart start = transactionTemplate.execute(status -> saveNewInterview(userUuid, requestDto));
+        if (!start.isPending()) {
+            return start.response();
+        }
+
+        String interviewUuid = start.ptProblemRequest().interview().getInterviewUuid();
+        generatePtInterview(start.ptProblemRequest())
+                .subscribe(
+                        response -> sendStartMessage(interviewUuid, "PT_PROBLEM_COMPLETED", response),
+                        e -> {
+                            log.error("PT 문제 비동기 생성 실패: interviewUuid={}", interviewUuid, e);
+                            sendStartMessage(interviewUuid, "PT_PROBLEM_FAILED", "PT 문제 생성에 실패했습니다.");
+                        });
+        return InterviewStartResponseDto.builder()
+                .interviewUuid(interviewUuid)
+                .build();
+    }
+
+    private InterviewStart saveNewInterview(String userUuid, InterviewCreateRequestDto requestDto) {
         User user = userRepository.findById(userUuid)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
@@ -98,62 +143,109 @@ public class InterviewService {
                 .build();
         interviewRepository.save(interview);
 
-        InterviewStartResponseDto.InterviewStartResponseDtoBuilder interviewStartResponseDtoBuilder = InterviewStartResponseDto.builder()
-                .interviewUuid(interview.getInterviewUuid());
-
-        if (interviewTypeEnum == InterviewType.PT) {
-            PTProblemDto ptProblem = gmsDirectService.generatePtProblem(interviewSet).block();
-
-            if (ptProblem == null) {
-                throw new RuntimeException("AI로부터 PT 문제를 생성하는 데 실패했습니다.");
-            }
+        if (interviewTypeEnum != InterviewType.PT) {
+            return InterviewStart.completed(InterviewStartResponseDto.builder()
+                    .interviewUuid(interview.getInterviewUuid())
+                    .build());
+        }
 
-            PTInterview ptInterview = PTInterview.builder()
-                    .ptUuid(UUID.randomUUID().toString())
-                    .interview(interview)
-                    .title(ptProblem.getTitle())
-                    .situation(ptProblem.getSituation())
-                    .createdAt(LocalDateTime.now())
-                    .build();
-            ptInterviewRepository.save(ptInterview);
-
-            interviewStartResponseDtoBuilder.questionUuid(ptInterview.getPtUuid());
-            interviewStartResponseDtoBuilder.title(ptInterview.getTitle());
-            interviewStartResponseDtoBuilder.situation(ptInterview.getSituation());
+        // 미리 생성해 둔 PT 문제가 있으면 LLM 호출 없이 현재 트랜잭션에서 바로 저장
+        Optional<PTProblemDto> pooledProblem = ptProblemPoolService.take(recruit);
+        if (pooledProblem.isPresent()) {
+            PTInterview ptInterview = savePtInterview(interview, pooledProblem.get());
+            return InterviewStart.completed(toPtStartResponse(interview.getInterviewUuid(), ptInterview));
         }
 
-        return interviewStartResponseDtoBuilder.build();
+        // 풀이 비어 있으면 프롬프트 재료만 넘기고 트랜잭션을 끝낸다
+        return InterviewStart.pending(new PtProblemRequest(interview,
+                recruit.getEnterprise().getEnterpriseName(), recruit.getPosition(), recruit.getTask()));
     }
 
-    @Transactional
-    public InterviewQuestionResponseDto generateQuestions(RequestQuestionDto requestQuestionDto) {
+    // 트랜잭션 밖에서 논블로킹으로 생성하고, 응답이 오면 별도 트랜잭션에서 PTInterview를 저장
+    private Mono<InterviewStartResponseDto> generatePtInterview(PtProblemRequest request) {
+        Interview interview = request.interview();
+        return gmsDirectService.generatePtProblem(request.enterpriseName(), request.position(), request.task())
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("AI로부터 PT 문제를 생성하는 데 실패했습니다.")))
+                .map(ptProblem -> transactionTemplate.execute(status ->
+                        toPtStartResponse(interview.getInterviewUuid(), savePtInterview(interview, ptProblem))));
+    }
+
+    /**
+     * 이력 조회(면접 세션 캐시, 없으면 읽기 트랜잭션), 질문 생성 LLM 호출(트랜잭션 밖), 질문 저장(쓰기 트랜잭션) 순서로 실행합니다.
+     */
+    public Mono<InterviewQuestionResponseDto> generateQuestions(RequestQuestionDto requestQuestionDto) {
         long startTime = System.currentTimeMillis();
 
-        Interview interview = interviewRepository.findById(requestQuestionDto.getInterviewUuid())
-                .orElseThrow(() -> new IllegalArgumentException("생성된 인터뷰가 없습니다."));
-        List<Question> previousQuestions = questionRepository.findByInterview_InterviewUuidOrderByQuestionNumber(requestQuestionDto.getInterviewUuid());
-
-        InterviewType interviewType = interview.getInterviewType();
-        InterviewQuestionResponseDto aiResponseDto = null;
-        if(interviewType == InterviewType.PT){
-            PTInterview latestPt = ptInterviewRepository
-                    .findTopByInterviewOrderByCreatedAtDesc(interview)
-                    .orElseThrow(() -> new IllegalArgumentException("PT 면접을 찾을 수 없습니다."));
-            aiResponseDto = gmsDirectService.generatePTQuestions(latestPt).block();
-        }else{
-            aiResponseDto = gmsDirectService.generateGeneralQuestions(interview.getInterviewSet(), previousQuestions).block();
-        }
+        String interviewUuid = requestQuestionDto.getInterviewUuid();
+        boolean stream = requestQuestionDto.isStream();
+        Consumer<String> onPartialQuestion = stream
+                ? partial -> sendQuestionStreamMessage(interviewUuid, "QUESTION_PARTIAL", partial)
+                : null;
+
+        // 반환된 Mono는 구독 시점(트랜잭션 종료 후)에 문서 검색과 LLM 호출을 수행
+        QuestionGeneration generation = prepareQuestionGeneration(interviewUuid, onPartialQuestion);
+        List<Question> previousQuestions = generation.previousQuestions();
+        InterviewType interviewType = generation.interviewType();
+
+        return generation.aiResponse()
+                .filter(aiResponseDto -> aiResponseDto.getQuestions() != null && !aiResponseDto.getQuestions().isEmpty())
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("AI로부터 유효한 질문을 생성하지 못했습니다.")))
+                .map(aiResponseDto -> {
+                    InterviewQuestionResponseDto finalResponse = transactionTemplate.execute(
+                            status -> saveAndMapAiResponse(interviewUuid, previousQuestions, aiResponseDto));
+
+                    long processingTime = System.currentTimeMillis() - startTime;
+                    finalResponse.setProcessingTimeMs(processingTime);
+
+                    if (stream) {
+                        sendQuestionStreamMessage(interviewUuid, "QUESTION_COMPLETED", finalResponse);
+                    }
+                    if (interviewType != InterviewType.PT) {
+                        speculativeQuestionService.speculate(interviewUuid);
+                    }
+                    return finalResponse;
+                });
+    }
 
-        if (aiResponseDto == null || aiResponseDto.getQuestions() == null || aiResponseDto.getQuestions().isEmpty()) {
-            throw new RuntimeException("AI로부터 유효한 질문을 생성하지 못했습니다.");
+    private QuestionGeneration prepareQuestionGeneration(String interviewUuid, Consumer<String> onPartialQuestion) {
+        InterviewSessionState session = interviewSessionCacheService.load(interviewUuid)
+                .orElseThrow(() -> new IllegalArgumentException("생성된 인터뷰가 없습니다."));
+        List<Question> previousQuestions = session.toQuestions();
+
+        Mono<InterviewQuestionResponseDto> aiResponse;
+        if (session.interviewType() == InterviewType.PT) {
+            // PT 문제는 면접 중 다시 발급될 수 있으므로 캐시하지 않고 최신 PTInterview를 읽는다
+            aiResponse = transactionTemplate.execute(status -> {
+                PTInterview latestPt = ptInterviewRepository
+                        .findTopByInterviewOrderByCreatedAtDesc(interviewRepository.getReferenceById(interviewUuid))
+                        .orElseThrow(() -> new IllegalArgumentException("PT 면접을 찾을 수 없습니다."));
+                return gmsDirectService.generatePTQuestions(latestPt, onPartialQuestion);
+            });
+        } else {
+            // 직전 질문 제공 시 미리 생성해 둔 다음 질문이 현재 이력과 일치하면 그대로 사용
+            // (실시간 생성은 프롬프트 재료만 모아 두고, 예측 결과가 없거나 아직 대기열에 있거나 실패했거나 기본 응답일 때만 호출)
+            Mono<InterviewQuestionResponseDto> liveResponse = gmsDirectService.generateGeneralQuestions(session.interviewSet(), previousQuestions, onPartialQuestion);
+            aiResponse = speculativeQuestionService.claim(interviewUuid, previousQuestions)
+                    .map(speculative -> speculative.onErrorResume(e -> Mono.empty()).switchIfEmpty(liveResponse))
+                    .orElse(liveResponse);
         }
+        return new QuestionGeneration(session.interviewType(), previousQuestions, aiResponse);
+    }
 
-        InterviewQuestionResponseDto finalResponse = saveAndMapAiResponse(interview, previousQuestions, aiResponseDto);
+    private <T> void sendQuestionStreamMessage(String interviewUuid, String type, T data) {
+        sendMessage("/topic/interview/" + interviewUuid + "/questions", type, data);
+    }
 
-        long processingTime = System.currentTimeMillis() - startTime;
-        finalResponse.setProcessingTimeMs(processingTime);
+    private <T> void sendStartMessage(String interviewUuid, String type, T data) {
+        sendMessage("/topic/interview/" + interviewUuid + "/start", type, data);
+    }
 
-        return finalResponse;
+    private <T> void sendMessage(String destination, String type, T data) {
+        WebSocketMessage<T> message = WebSocketMessage.<T>builder()
+                .type(type)
+                .data(data)
+                .build();
+        messagingTemplate.convertAndSend(destination, message);
     }
 
 
@@ -178,7 +270,8 @@ public class InterviewService {
                 .build();
     }
 
-    private InterviewQuestionResponseDto saveAndMapAiResponse(Interview interview, List<Question> previousQuestions, InterviewQuestionResponseDto dtoFromAI) {
+    private InterviewQuestionResponseDto saveAndMapAiResponse(String interviewUuid, List<Question> previousQuestions, InterviewQuestionResponseDto dtoFromAI) {
+        Interview interview = interviewRepository.getReferenceById(interviewUuid);
         int currentMaxQuestionNumber = previousQuestions.stream()
                 .mapToInt(Question::getQuestionNumber)
                 .max()
@@ -225,7 +318,8 @@ public class InterviewService {
         }
 
         questionRepository.saveAll(newQuestionsToSave);
-        log.info("{}개의 새로운 질문이 인터뷰[{}]에 저장되었습니다.", newQuestionsToSave.size(), interview.getInterviewUuid());
+        interviewSessionCacheService.appendQuestions(interviewUuid, currentMaxQuestionNumber, newQuestionsToSave);
+        log.info("{}개의 새로운 질문이 인터뷰[{}]에 저장되었습니다.", newQuestionsToSave.size(), interviewUuid);
 
         InterviewQuestionResponseDto.Question mainQuestionForResponse = InterviewQuestionResponseDto.Question.builder()
                 .id(mainQuestionEntity.getQuestionUuid())
@@ -248,39 +342,42 @@ public class InterviewService {
     public RetryQuestionResponseDto getRetryQuestion(String questionUuid) {
         long startTime = System.currentTimeMillis();
 
-        Question mainQuestion = questionRepository.findById(questionUuid)
+        // 면접 세션 캐시에서 질문, 꼬리질문, 시도 번호를 읽는다 (캐시에 없으면 DB에서 채움)
+        InterviewSessionState session = interviewSessionCacheService.findInterviewUuidByQuestion(questionUuid)
+                .flatMap(interviewSessionCacheService::load)
                 .orElseThrow(() -> new IllegalArgumentException("해당 질문을 찾을 수 없습니다."));
 
-        Optional<Integer> maxAttemptNumber = answerAttemptRepository
-                .findTopByQuestion_QuestionUuidOrderById_AttemptNumberDesc(questionUuid)
-                .map(attempt -> attempt.getId().getAttemptNumber());
-
-        int nextAttemptNumber = maxAttemptNumber.orElse(0) + 1;
+        SessionQuestion mainQuestion = session.questions().stream()
+                .filter(q -> q.questionUuid().equals(questionUuid))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("해당 질문을 찾을 수 없습니다."));
 
-        List<Question> followUpEntities = questionRepository.findByParent_QuestionUuidOrderByQuestionNumberAsc(questionUuid);
+        int nextAttemptNumber = interviewSessionCacheService.lastAttemptNumber(session.interviewUuid(), questionUuid) + 1;
 
-        List<RetryQuestionResponseDto.Question.FollowUp> followUpsForResponse = followUpEntities.stream()
-                .map(followUpEntity -> RetryQuestionResponseDto.Question.FollowUp.builder()
-                        .id(followUpEntity.getQuestionUuid())
-                        .question(followUpEntity.getQuestion())
-                        .intent(followUpEntity.getPurpose())
-                        .rationale(followUpEntity.getSuggestedAnswer())
+        List<RetryQuestionResponseDto.Question.FollowUp> followUpsForResponse = session.questions().stream()
+                .filter(q -> questionUuid.equals(q.parentUuid()))
+                .sorted(Comparator.comparingInt(SessionQuestion::questionNumber))
+                .map(followUp -> RetryQuestionResponseDto.Question.FollowUp.builder()
+                        .id(followUp.questionUuid())
+                        .question(followUp.question())
+                        .intent(followUp.purpose())
+                        .rationale(followUp.suggestedAnswer())
                         .attemptNumber(nextAttemptNumber)
                         .build())
                 .collect(Collectors.toList());
 
         RetryQuestionResponseDto.Question mainQuestionForResponse = RetryQuestionResponseDto.Question.builder()
-                .id(mainQuestion.getQuestionUuid())
-                .question(mainQuestion.getQuestion())
-                .intent(mainQuestion.getPurpose())
-                .rationale(mainQuestion.getSuggestedAnswer())
+                .id(mainQuestion.questionUuid())
+                .question(mainQuestion.question())
+                .intent(mainQuestion.purpose())
+                .rationale(mainQuestion.suggestedAnswer())
                 .attemptNumber(nextAttemptNumber)
                 .followUps(followUpsForResponse)
                 .build();
 
         RetryQuestionResponseDto responseDto = RetryQuestionResponseDto.builder()
                 .questions(List.of(mainQuestionForResponse))
-                .interviewSetUuid(mainQuestion.getInterview().getInterviewSet().getInterviewSetsUuid())
+                .interviewSetUuid(session.interviewSet().interviewSetUuid())
                 .processingTimeMs(System.currentTimeMillis() - startTime)
                 .build();
 
@@ -289,6 +386,7 @@ public class InterviewService {
         return responseDto;
     }
 
+    @Transactional
     public RetryPtQuestionResponseDto getRetryPtQuestions(String interviewUuid) {
         long startTime = System.currentTimeMillis();
 
@@ -319,36 +417,71 @@ public class InterviewService {
         return responseDto;
     }
 
-    @Transactional
-    public InterviewStartResponseDto generatePtProblemByPtUuid(String ptUuid) {
-        PTInterview ptInterview = ptInterviewRepository.findById(ptUuid)
-                .orElseThrow(() -> new IllegalArgumentException("해당 PT 면접을 찾을 수 없습니다."));
+    public Mono<InterviewStartResponseDto> generatePtProblemByPtUuid(String ptUuid) {
+        InterviewStart start = transactionTemplate.execute(status -> {
+            PTInterview ptInterview = ptInterviewRepository.findById(ptUuid)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 PT 면접을 찾을 수 없습니다."));
 
-        Interview interview = ptInterview.getInterview();
-        if (interview.getInterviewType() != InterviewType.PT) {
-            throw new IllegalArgumentException("PT 면접이 아닙니다.");
-        }
+            Interview interview = ptInterview.getInterview();
+            if (interview.getInterviewType() != InterviewType.PT) {
+                throw new IllegalArgumentException("PT 면접이 아닙니다.");
+            }
+
+            // recruit/company 기반으로 새로운 PT 문제 발급 → 새로운 PTInterview 엔티티 발급 (새 ptUuid)
+            Recruit recruit = interview.getInterviewSet().getRecruit();
+            Optional<PTProblemDto> pooledProblem = ptProblemPoolService.take(recruit);
+            if (pooledProblem.isPresent()) {
+                return InterviewStart.completed(toPtStartResponse(interview.getInterviewUuid(), savePtInterview(interview, pooledProblem.get())));
+            }
+            return InterviewStart.pending(new PtProblemRequest(interview,
+                    recruit.getEnterprise().getEnterpriseName(), recruit.getPosition(), recruit.getTask()));
+        });
 
-        // recruit/company 기반으로 새로운 PT 문제 생성 → 새로운 PTInterview 엔티티 발급 (새 ptUuid)
-        PTProblemDto ptProblem = gmsDirectService.generatePtProblem(interview.getInterviewSet()).block();
-        if (ptProblem == null) {
-            throw new RuntimeException("AI로부터 PT 문제를 생성하는 데 실패했습니다.");
+        if (!start.isPending()) {
+            return Mono.just(start.response());
         }
+        return generatePtInterview(start.ptProblemRequest());
+    }
 
-        PTInterview newPtInterview = PTInterview.builder()
+    private PTInterview savePtInterview(Interview interview, PTProblemDto ptProblem) {
+        PTInterview ptInterview = PTInterview.builder()
                 .ptUuid(UUID.randomUUID().toString())
                 .interview(interview)
                 .title(ptProblem.getTitle())
                 .situation(ptProblem.getSituation())
                 .createdAt(LocalDateTime.now())
                 .build();
-        ptInterviewRepository.save(newPtInterview);
+        return ptInterviewRepository.save(ptInterview);
+    }
 
+    private InterviewStartResponseDto toPtStartResponse(String interviewUuid, PTInterview ptInterview) {
         return InterviewStartResponseDto.builder()
-                .interviewUuid(interview.getInterviewUuid())
-                .questionUuid(newPtInterview.getPtUuid())
-                .title(newPtInterview.getTitle())
-                .situation(newPtInterview.getSituation())
+                .interviewUuid(interviewUuid)
+                .questionUuid(ptInterview.getPtUuid())
+                .title(ptInterview.getTitle())
+                .situation(ptInterview.getSituation())
                 .build();
     }
+
+    // PT 문제 생성에 필요한 값 (트랜잭션 밖에서 엔티티 연관관계를 읽지 않도록 미리 꺼내 둠)
+    private record PtProblemRequest(Interview interview, String enterpriseName, String position, String task) {
+    }
+
+    // 면접 시작 트랜잭션 결과: 바로 응답할 수 있으면 response, PT 문제 생성이 남아 있으면 ptProblemRequest
+    private record InterviewStart(InterviewStartResponseDto response, PtProblemRequest ptProblemRequest) {
+        static InterviewStart completed(InterviewStartResponseDto response) {
+            return new InterviewStart(response, null);
+        }
+
+        static InterviewStart pending(PtProblemRequest ptProblemRequest) {
+            return new InterviewStart(null, ptProblemRequest);
+        }
+
+        boolean isPending() {
+            return ptProblemRequest != null;
+        }
+    }
+
+    private record QuestionGeneration(InterviewType interviewType, List<Question> previousQuestions, Mono<InterviewQuestionResponseDto> aiResponse) {
+    }
 }
@@ -0,0 +1,290 @@
+package ssafy.i13e206.interview.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.i13e206.interview.dto.InterviewSessionState;
+import ssafy.i13e206.interview.dto.InterviewSessionState.SessionQuestion;
+import ssafy.i13e206.interview.dto.InterviewSetContext;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.Question;
+import ssafy.i13e206.interview.repository.AnswerAttemptRepository;
+import ssafy.i13e206.interview.repository.InterviewRepository;
+import ssafy.i13e206.interview.repository.QuestionRepository;
+
+/**
+ * 진행 중인 면접의 상태(질문 목록, InterviewSet 정보, 질문별 마지막 답변 시도 번호)를 interviewUuid 단위로 Redis에 캐시합니다.
+ * 질문 생성, 재시도 질문 조회, 답변 시도 생성이 매 단계 같은 데이터를 DB에서 다시 읽지 않도록 합니다.
+ * 변경은 DB 트랜잭션이 커밋된 뒤 캐시에 반영(write-through)하고, 반영할 수 없으면 캐시를 지워 다음 조회에서 DB로부터 다시 채웁니다.
+ * - interviewSession:{interviewUuid}          면접 상태 JSON
+ * - interviewSessionAttempts:{interviewUuid}  질문 UUID -> 마지막 시도 번호 (해시)
+ * - interviewSessionQuestion:{questionUuid}   질문이 속한 interviewUuid (질문 UUID만 받는 API용 인덱스)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewSessionCacheService {
+
+    private static final String SESSION_KEY_PREFIX = "interviewSession:";
+    private static final String ATTEMPTS_KEY_PREFIX = "interviewSessionAttempts:";
+    private static final String QUESTION_KEY_PREFIX = "interviewSessionQuestion:";
+    // 시도가 하나도 없는 면접도 해시가 로드되었음을 알 수 있도록 두는 필드
+    private static final String LOADED_FIELD = "_loaded";
+    private static final RedisScript<Long> RECORD_ATTEMPT_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            if tonumber(ARGV[2]) > current then
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+    // DB에서 읽은 시도 번호로 해시를 채우되, 그 사이 recordAttempt가 쓴 더 큰 번호는 덮어쓰지 않음 (ARGV: 필드, 번호, ..., TTL)
+    private static final RedisScript<Long> POPULATE_ATTEMPTS_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #ARGV - 1, 2 do
+                local current = tonumber(redis.call('HGET', KEYS[1], ARGV[i]) or '0')
+                if tonumber(ARGV[i + 1]) > current then
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+                end
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[#ARGV])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final InterviewRepository interviewRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerAttemptRepository answerAttemptRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${interview.session-cache.enabled:true}")
+    private boolean enabled;
+
+    // 마지막 변경 이후 보관 시간 (면접 도중 이탈한 세션 정리)
+    @Value("${interview.session-cache.ttl-seconds:7200}")
+    private long ttlSeconds;
+
+    // 면접 종료(녹화 완료) 후 보관 시간. 종료 직후의 재시도 질문 조회까지는 캐시를 사용
+    @Value("${interview.session-cache.finished-ttl-seconds:600}")
+    private long finishedTtlSeconds;
+
+    /**
+     * 면접 상태를 반환합니다. 캐시에 없으면 DB에서 읽어 채우며, 면접이 없으면 empty입니다.
+     */
+    public Optional<InterviewSessionState> load(String interviewUuid) {
+        if (enabled) {
+            try {
+                String json = redisTemplate.opsForValue().get(SESSION_KEY_PREFIX + interviewUuid);
+                if (json != null) {
+                    return Optional.of(objectMapper.readValue(json, InterviewSessionState.class));
+                }
+            } catch (Exception e) {
+                log.warn("면접 세션 캐시 조회 실패, DB에서 조회합니다: interviewUuid={}", interviewUuid, e);
+            }
+        }
+
+        LoadedSession loaded = transactionTemplate.execute(status -> loadFromDb(interviewUuid));
+        if (loaded == null) {
+            return Optional.empty();
+        }
+        if (enabled) {
+            store(loaded);
+        }
+        return Optional.of(loaded.state());
+    }
+
+    /**
+     * 질문이 속한 면접 UUID. 질문 UUID만 받는 API에서 세션을 찾을 때 사용합니다.
+     */
+    public Optional<String> findInterviewUuidByQuestion(String questionUuid) {
+        if (enabled) {
+            try {
+                String interviewUuid = redisTemplate.opsForValue().get(QUESTION_KEY_PREFIX + questionUuid);
+                if (interviewUuid != null) {
+                    return Optional.of(interviewUuid);
+                }
+            } catch (Exception e) {
+                log.warn("질문 인덱스 캐시 조회 실패: questionUuid={}", questionUuid, e);
+            }
+        }
+        return questionRepository.findInterviewUuidByQuestionUuid(questionUuid);
+    }
+
+    /**
+     * 질문의 마지막 답변 시도 번호 (시도가 없으면 0).
+     */
+    public int lastAttemptNumber(String interviewUuid, String questionUuid) {
+        if (enabled) {
+            try {
+                List<Object> values = redisTemplate.opsForHash().multiGet(ATTEMPTS_KEY_PREFIX + interviewUuid, List.of(LOADED_FIELD, questionUuid));
+                if (values.get(0) != null) {
+                    return values.get(1) == null ? 0 : Integer.parseInt((String) values.get(1));
+                }
+            } catch (Exception e) {
+                log.warn("답변 시도 번호 캐시 조회 실패: interviewUuid={}, questionUuid={}", interviewUuid, questionUuid, e);
+            }
+        }
+        return answerAttemptRepository.findMaxAttemptNumber(questionUuid);
+    }
+
+    /**
+     * 새로 저장한 질문을 커밋 후 캐시에 추가합니다.
+     * 캐시가 저장 직전 이력(previousMaxQuestionNumber)과 다르면 다른 요청이 끼어든 것이므로 캐시를 지웁니다.
+     */
+    public void appendQuestions(String interviewUuid, int previousMaxQuestionNumber, List<Question> saved) {
+        if (!enabled) {
+            return;
+        }
+        List<SessionQuestion> added = saved.stream().map(SessionQuestion::of).toList();
+        afterCommit(() -> {
+            String sessionKey = SESSION_KEY_PREFIX + interviewUuid;
+            try {
+                String json = redisTemplate.opsForValue().get(sessionKey);
+                if (json == null) {
+                    return;
+                }
+                InterviewSessionState state = objectMapper.readValue(json, InterviewSessionState.class);
+                if (state.maxQuestionNumber() != previousMaxQuestionNumber) {
+                    log.info("면접 세션 캐시가 최신 이력과 달라 삭제합니다: interviewUuid={}", interviewUuid);
+                    evict(interviewUuid);
+                    return;
+                }
+                redisTemplate.opsForValue().set(sessionKey, objectMapper.writeValueAsString(state.withQuestions(added)), ttlSeconds, TimeUnit.SECONDS);
+                indexQuestions(interviewUuid, added);
+                redisTemplate.expire(ATTEMPTS_KEY_PREFIX + interviewUuid, ttlSeconds, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.warn("면접 세션 캐시 질문 추가 실패: interviewUuid={}", interviewUuid, e);
+                evict(interviewUuid);
+            }
+        });
+    }
+
+    /**
+     * 저장한 답변 시도 번호를 커밋 후 캐시에 반영합니다.
+     * 커밋 순서와 반영 순서가 뒤바뀌어도 번호가 줄지 않도록 더 큰 값일 때만 씁니다.
+     */
+    public void recordAttempt(String interviewUuid, String questionUuid, int attemptNumber) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            String attemptsKey = ATTEMPTS_KEY_PREFIX + interviewUuid;
+            try {
+                redisTemplate.execute(RECORD_ATTEMPT_SCRIPT, List.of(attemptsKey),
+                        questionUuid, String.valueOf(attemptNumber), String.valueOf(ttlSeconds));
+            } catch (Exception e) {
+                log.warn("답변 시도 번호 캐시 반영 실패: interviewUuid={}, questionUuid={}", interviewUuid, questionUuid, e);
+                evict(interviewUuid);
+            }
+        });
+    }
+
+    /**
+     * 면접 종료 시 호출합니다. 종료 직후의 재시도 조회를 위해 바로 지우지 않고 보관 시간만 줄입니다.
+     */
+    public void markFinished(String interviewUuid) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                redisTemplate.expire(SESSION_KEY_PREFIX + interviewUuid, finishedTtlSeconds, TimeUnit.SECONDS);
+                redisTemplate.expire(ATTEMPTS_KEY_PREFIX + interviewUuid, finishedTtlSeconds, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.warn("면접 세션 캐시 만료 설정 실패: interviewUuid={}", interviewUuid, e);
+            }
+        });
+    }
+
+    // 질문 인덱스(질문 -> 면접)는 바뀌지 않으므로 TTL로만 정리
+    public void evict(String interviewUuid) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.delete(List.of(SESSION_KEY_PREFIX + interviewUuid, ATTEMPTS_KEY_PREFIX + interviewUuid));
+        } catch (Exception e) {
+            log.warn("면접 세션 캐시 삭제 실패: interviewUuid={}", interviewUuid, e);
+        }
+    }
+
+    private LoadedSession loadFromDb(String interviewUuid) {
+        Interview interview = interviewRepository.findById(interviewUuid).orElse(null);
+        if (interview == null) {
+            return null;
+        }
+        List<SessionQuestion> questions = questionRepository.findByInterview_InterviewUuidOrderByQuestionNumber(interviewUuid).stream()
+                .map(SessionQuestion::of)
+                .toList();
+        Map<String, String> attempts = new HashMap<>();
+        for (Object[] row : answerAttemptRepository.findMaxAttemptNumbersByInterviewUuid(interviewUuid)) {
+            attempts.put((String) row[0], String.valueOf(row[1]));
+        }
+        InterviewSessionState state = new InterviewSessionState(interviewUuid, interview.getInterviewType(),
+                InterviewSetContext.of(interview.getInterviewSet()), questions);
+        return new LoadedSession(state, attempts);
+    }
+
+    private void store(LoadedSession loaded) {
+        InterviewSessionState state = loaded.state();
+        String interviewUuid = state.interviewUuid();
+        String attemptsKey = ATTEMPTS_KEY_PREFIX + interviewUuid;
+        try {
+            List<String> args = new ArrayList<>();
+            loaded.attempts().forEach((questionUuid, attemptNumber) -> {
+                args.add(questionUuid);
+                args.add(attemptNumber);
+            });
+            args.add(LOADED_FIELD);
+            args.add("1");
+            args.add(String.valueOf(ttlSeconds));
+            redisTemplate.execute(POPULATE_ATTEMPTS_SCRIPT, List.of(attemptsKey), args.toArray());
+            indexQuestions(interviewUuid, state.questions());
+            // DB 조회와 저장 사이에 appendQuestions가 더 최신 상태를 썼을 수 있으므로 비어 있을 때만 채운다
+            redisTemplate.opsForValue().setIfAbsent(SESSION_KEY_PREFIX + interviewUuid, objectMapper.writeValueAsString(state), ttlSeconds, TimeUnit.SECONDS);
+        } catch (JsonProcessingException e) {
+            log.warn("면접 세션 직렬화 실패: interviewUuid={}", interviewUuid, e);
+        } catch (Exception e) {
+            log.warn("면접 세션 캐시 저장 실패: interviewUuid={}", interviewUuid, e);
+        }
+    }
+
+    private void indexQuestions(String interviewUuid, List<SessionQuestion> questions) {
+        for (SessionQuestion question : questions) {
+            redisTemplate.opsForValue().set(QUESTION_KEY_PREFIX + question.questionUuid(), interviewUuid, ttlSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    // 롤백된 변경이 캐시에 남지 않도록 트랜잭션 안에서는 커밋 후에 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record LoadedSession(InterviewSessionState state, Map<String, String> attempts) {
+    }
+}
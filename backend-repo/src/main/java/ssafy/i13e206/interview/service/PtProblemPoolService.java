@@ -0,0 +1,183 @@
+package ssafy.i13e206.interview.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ssafy.i13e206.company.entity.Recruit;
+import ssafy.i13e206.gpt.constant.LlmPriority;
+import ssafy.i13e206.gpt.service.GmsDirectService;
+import ssafy.i13e206.interview.dto.PTProblemDto;
+
+/**
+ * 채용 공고(Recruit)별로 PT 문제를 미리 생성해 Redis 리스트에 쌓아두고, PT 면접 시작 시 하나씩 꺼내 줍니다.
+ * 풀이 비어 있으면 호출 측에서 기존처럼 실시간으로 생성하며, 꺼낼 때마다 백그라운드에서 목표 개수까지 보충합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PtProblemPoolService {
+
+    private static final String POOL_KEY_PREFIX = "ptProblemPool:";
+    private static final String REFILL_LOCK_KEY_PREFIX = "ptProblemPoolRefill:";
+    // 락을 잡은 인스턴스의 토큰일 때만 삭제 (락이 만료된 뒤 다른 인스턴스가 잡은 락을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    // 넣은 뒤 목표 개수까지만 남김 (락이 만료돼 보충이 겹쳐도 풀이 depth를 넘지 않도록)
+    private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('RPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return redis.call('LLEN', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GmsDirectService gmsDirectService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${pt-problem-pool.enabled:true}")
+    private boolean enabled;
+
+    // 공고별로 미리 만들어 둘 PT 문제 개수
+    @Value("${pt-problem-pool.depth:3}")
+    private int depth;
+
+    // 공고 내용이 바뀌어도 오래된 문제가 계속 나가지 않도록 풀 전체에 TTL을 건다
+    @Value("${pt-problem-pool.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    @Value("${pt-problem-pool.refill-concurrency:2}")
+    private int refillConcurrency;
+
+    // 보충 작업 중복 실행 방지 락에서 생성 한 차례에 잡아 두는 LLM 호출 시간 (보충 도중 서버가 죽어도 락이 남지 않도록)
+    @Value("${pt-problem-pool.refill-lock-seconds:180}")
+    private long refillLockSeconds;
+
+    // 보충 요청은 BACKGROUND 우선순위라 디스패처 대기열에서 이 시간까지 기다릴 수 있음
+    @Value("${gms.dispatcher.background-max-wait-ms:300000}")
+    private long backgroundMaxWaitMs;
+
+    /**
+     * 풀에서 PT 문제 하나를 원자적으로(LPOP) 꺼냅니다. 같은 문제가 두 면접에 나가는 일은 없습니다.
+     * 꺼낸 뒤에는 결과와 관계없이 백그라운드 보충을 요청합니다.
+     * recruit의 기업명/직무/업무는 호출 스레드(트랜잭션 안)에서 미리 읽어 보충 작업에 넘깁니다.
+     */
+    public Optional<PTProblemDto> take(Recruit recruit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        String recruitUuid = recruit.getRecruitUuid();
+        String enterpriseName = recruit.getEnterprise().getEnterpriseName();
+        String position = recruit.getPosition();
+        String task = recruit.getTask();
+
+        String json = null;
+        try {
+            json = redisTemplate.opsForList().leftPop(poolKey(recruitUuid));
+        } catch (Exception e) {
+            log.warn("PT 문제 풀 조회 실패, 실시간 생성으로 대체합니다: recruitUuid={}", recruitUuid, e);
+        }
+
+        refill(recruitUuid, enterpriseName, position, task);
+
+        if (json == null) {
+            log.info("PT 문제 풀 미스: recruitUuid={}", recruitUuid);
+            return Optional.empty();
+        }
+        try {
+            log.info("PT 문제 풀 히트: recruitUuid={}", recruitUuid);
+            return Optional.of(objectMapper.readValue(json, PTProblemDto.class));
+        } catch (JsonProcessingException e) {
+            log.warn("PT 문제 풀 항목 역직렬화 실패: recruitUuid={}", recruitUuid, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 풀이 목표 개수보다 적으면 부족한 만큼 백그라운드에서 PT 문제를 생성해 채웁니다.
+     * 공고별 락(SET NX EX)으로 여러 요청/인스턴스가 동시에 보충하지 않도록 합니다.
+     * 락 유효 시간은 생성 차례 수 x (백그라운드 대기 + LLM 호출)로 잡고, 해제는 자신의 토큰일 때만 합니다.
+     */
+    public void refill(String recruitUuid, String enterpriseName, String position, String task) {
+        if (!enabled) {
+            return;
+        }
+
+        String poolKey = poolKey(recruitUuid);
+        String lockKey = REFILL_LOCK_KEY_PREFIX + recruitUuid;
+        String lockToken = UUID.randomUUID().toString();
+        int missing;
+        try {
+            Long size = redisTemplate.opsForList().size(poolKey);
+            missing = depth - (size == null ? 0 : size.intValue());
+            if (missing <= 0) {
+                return;
+            }
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, lockToken, refillLockSeconds(missing), TimeUnit.SECONDS);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("PT 문제 풀 보충 준비 실패: recruitUuid={}", recruitUuid, e);
+            return;
+        }
+
+        log.info("PT 문제 풀 보충 시작: recruitUuid={}, count={}", recruitUuid, missing);
+        Flux.range(0, missing)
+                .flatMap(i -> gmsDirectService.generatePtProblem(enterpriseName, position, task)
+                        .contextWrite(LlmPriority.BACKGROUND.asContext())
+                        .onErrorResume(e -> {
+                            log.warn("PT 문제 풀 보충 중 생성 실패: recruitUuid={}", recruitUuid, e);
+                            return Mono.empty();
+                        }), refillConcurrency)
+                .filter(ptProblem -> !GmsDirectService.isFallbackPtProblem(ptProblem))
+                .doOnNext(ptProblem -> push(poolKey, ptProblem))
+                .doFinally(signal -> releaseLock(lockKey, lockToken))
+                .subscribe(
+                        ptProblem -> { },
+                        e -> log.warn("PT 문제 풀 보충 실패: recruitUuid={}", recruitUuid, e));
+    }
+
+    private long refillLockSeconds(int missing) {
+        int rounds = (missing + refillConcurrency - 1) / refillConcurrency;
+        return rounds * (TimeUnit.MILLISECONDS.toSeconds(backgroundMaxWaitMs) + refillLockSeconds);
+    }
+
+    private void push(String poolKey, PTProblemDto ptProblem) {
+        try {
+            redisTemplate.execute(PUSH_SCRIPT, List.of(poolKey),
+                    objectMapper.writeValueAsString(ptProblem), String.valueOf(depth), String.valueOf(ttlSeconds));
+        } catch (JsonProcessingException e) {
+            log.warn("PT 문제 직렬화 실패", e);
+        }
+    }
+
+    private void releaseLock(String lockKey, String lockToken) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockToken);
+        } catch (Exception e) {
+            log.warn("PT 문제 풀 보충 락 해제 실패 (만료 시 해제됨): lockKey={}", lockKey, e);
+        }
+    }
+
+    private String poolKey(String recruitUuid) {
+        return POOL_KEY_PREFIX + recruitUuid;
+    }
+}
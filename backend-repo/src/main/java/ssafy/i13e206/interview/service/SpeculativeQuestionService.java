@@ -0,0 +1,149 @@
+package ssafy.i13e206.interview.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import ssafy.i13e206.gpt.constant.LlmPriority;
+import ssafy.i13e206.gpt.service.GmsDirectService;
+import ssafy.i13e206.gpt.service.LlmDispatcher;
+import ssafy.i13e206.interview.dto.InterviewQuestionResponseDto;
+import ssafy.i13e206.interview.dto.InterviewSessionState;
+import ssafy.i13e206.interview.entity.Question;
+
+/**
+ * 질문이 제공된 직후 같은 면접의 다음 주질문을 백그라운드에서 미리 생성해 두고,
+ * 다음 generateQuestions 호출이 이를 즉시 가져가도록 합니다.
+ * 미리 생성한 결과는 생성 당시의 질문 이력(질문 UUID 순서)과 함께 보관하며, 이력이 달라지면 버립니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpeculativeQuestionService {
+
+    private final InterviewSessionCacheService interviewSessionCacheService;
+    private final GmsDirectService gmsDirectService;
+    private final Scheduler gmsScheduler;
+
+    // interviewUuid -> 진행 중이거나 완료된 예측 생성 결과
+    private final Map<String, PendingQuestion> pendingQuestions = new ConcurrentHashMap<>();
+
+    @Value("${interview.speculative-question.enabled:true}")
+    private boolean enabled;
+
+    // 면접을 중단한 경우 등 아무도 가져가지 않은 결과의 보관 시간
+    @Value("${interview.speculative-question.ttl-seconds:1800}")
+    private long ttlSeconds;
+
+    /**
+     * 현재 질문 이력과 일치하는 예측 결과가 있으면 가져갑니다. (진행 중이면 완료될 때 방출)
+     * 이력이 달라진 결과는 여기서 폐기됩니다. 예측 결과가 기본 응답(서킷 브레이커 OPEN, 파싱 실패)이면 빈 Mono로 끝나므로
+     * 호출 측은 switchIfEmpty로 직접 생성해야 합니다.
+     * 예측 생성이 아직 BACKGROUND 대기열에서 슬롯을 기다리는 중이면 취소하고 가져가지 않습니다.
+     * (사용자가 기다리는 요청이 모범답안/PT 문제 풀 보충 뒤에 서지 않도록, 호출 측이 INTERACTIVE로 직접 생성)
+     */
+    public Optional<Mono<InterviewQuestionResponseDto>> claim(String interviewUuid, List<Question> previousQuestions) {
+        PendingQuestion pending = pendingQuestions.remove(interviewUuid);
+        if (pending == null) {
+            return Optional.empty();
+        }
+        if (pending.isExpired(ttlSeconds)) {
+            log.info("예측 질문 만료로 폐기: interviewUuid={}", interviewUuid);
+            return Optional.empty();
+        }
+        if (!pending.historyKey().equals(historyKey(previousQuestions))) {
+            log.info("질문 이력이 달라져 예측 질문 폐기: interviewUuid={}", interviewUuid);
+            pending.cancellation().tryEmitEmpty();
+            return Optional.empty();
+        }
+        if (!pending.admitted().get()) {
+            pending.cancellation().tryEmitEmpty();
+            log.info("예측 질문이 아직 대기열에 있어 취소: interviewUuid={}", interviewUuid);
+            return Optional.empty();
+        }
+        log.info("예측 질문 사용: interviewUuid={}", interviewUuid);
+        return Optional.of(pending.response().filter(response -> !GmsDirectService.isFallbackQuestionResponse(response)));
+    }
+
+    /**
+     * 커밋된 질문 이력을 기준으로 다음 주질문 생성을 백그라운드에서 시작합니다.
+     * 질문 저장 트랜잭션이 커밋된 뒤에 호출해야 이력이 일치합니다.
+     */
+    public void speculate(String interviewUuid) {
+        if (!enabled) {
+            return;
+        }
+        Mono.fromRunnable(() -> startSpeculation(interviewUuid))
+                .subscribeOn(gmsScheduler)
+                .subscribe(
+                        unused -> { },
+                        e -> log.warn("예측 질문 생성 시작 실패: interviewUuid={}", interviewUuid, e));
+    }
+
+    public void invalidate(String interviewUuid) {
+        PendingQuestion pending = pendingQuestions.remove(interviewUuid);
+        if (pending != null) {
+            pending.cancellation().tryEmitEmpty();
+        }
+    }
+
+    private void startSpeculation(String interviewUuid) {
+        pendingQuestions.values().removeIf(pending -> pending.isExpired(ttlSeconds));
+
+        // 프롬프트 재료는 면접 세션 캐시에서 읽는다 (질문 저장 커밋 시 이미 반영되어 있음)
+        InterviewSessionState session = interviewSessionCacheService.load(interviewUuid).orElse(null);
+        if (session == null) {
+            return;
+        }
+        List<Question> history = session.toQuestions();
+        AtomicBoolean admitted = new AtomicBoolean();
+        Sinks.Empty<Void> cancellation = Sinks.empty();
+        // cancellation이 오면 대기열의 요청까지 취소 (cache()는 구독자가 취소해도 원본 구독을 유지하므로 원본 쪽에서 끊음)
+        Mono<InterviewQuestionResponseDto> response = gmsDirectService
+                .generateGeneralQuestions(session.interviewSet(), history, null)
+                .contextWrite(LlmDispatcher.onAdmitted(() -> admitted.set(true)))
+                .contextWrite(LlmPriority.BACKGROUND.asContext())
+                .takeUntilOther(cancellation.asMono())
+                .cache();
+        PendingQuestion pending = new PendingQuestion(historyKey(history), response, admitted, cancellation, System.currentTimeMillis());
+
+        pendingQuestions.put(interviewUuid, pending);
+        pending.response().subscribe(
+                generated -> {
+                    if (GmsDirectService.isFallbackQuestionResponse(generated)) {
+                        // 기본 응답을 다음 질문으로 내보내지 않도록 버림
+                        log.warn("예측 질문이 기본 응답이라 폐기: interviewUuid={}", interviewUuid);
+                        pendingQuestions.remove(interviewUuid, pending);
+                        return;
+                    }
+                    log.info("예측 질문 생성 완료: interviewUuid={}", interviewUuid);
+                },
+                e -> {
+                    log.warn("예측 질문 생성 실패: interviewUuid={}", interviewUuid, e);
+                    pendingQuestions.remove(interviewUuid, pending);
+                });
+    }
+
+    private String historyKey(List<Question> questions) {
+        return questions.stream()
+                .map(Question::getQuestionUuid)
+                .collect(Collectors.joining(","));
+    }
+
+    private record PendingQuestion(String historyKey, Mono<InterviewQuestionResponseDto> response,
+                                   AtomicBoolean admitted, Sinks.Empty<Void> cancellation, long createdAtMillis) {
+        boolean isExpired(long ttlSeconds) {
+            return System.currentTimeMillis() - createdAtMillis > ttlSeconds * 1000;
+        }
+    }
+}
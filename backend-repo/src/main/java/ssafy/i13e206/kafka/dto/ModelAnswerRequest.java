@@ -0,0 +1,9 @@
+package ssafy.i13e206.kafka.dto;
+
+/**
+ * model-answer-topic 메시지. 분석 결과 저장 직후 발행되며, 모범답안은 저장된 Feedback의 전사로 생성합니다.
+ */
+public record ModelAnswerRequest(
+        String recordingId,
+        String feedbackUuid
+) {}
@@ -1,36 +1,129 @@
 package ssafy.i13e206.kafka.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 import ssafy.i13e206.feedback.dto.AnalysisResultRequest;
-import ssafy.i13e206.feedback.service.AnalysisResultService;
+import ssafy.i13e206.feedback.service.AnalysisResultBatchService;
 import ssafy.i13e206.global.service.WebSocketService;
+import ssafy.i13e206.kafka.dto.ModelAnswerRequest;
 import ssafy.i13e206.kafka.dto.TranscriptMessage;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분석 결과 소비는 analysis-result.consumer.mode로 고릅니다.
+ * - keyed(기본): 레코드를 세션(recordingId의 '~' 앞부분) 단위로 순서를 지키며 작업 풀에서 병렬 처리하고,
+ *   완료된 레코드만 ack해서 파티션별로 빈틈없이 완료된 지점까지만 오프셋을 커밋합니다.
+ *   컨테이너는 직전 poll의 레코드가 모두 ack되어야 다음 poll을 하므로, 동시에 처리하는 레코드 수는 max.poll.records(기본값 = max-in-flight)입니다.
+ *   느린 레코드는 자기 세션만 막지만 그 poll이 끝날 때까지 새 레코드도 받지 않습니다.
+ * - batch: poll한 묶음을 처리하고 묶음 전체가 끝나야 다음 poll을 합니다.
+ * 분석 결과 단계는 저장과 전송만 하고, 모범답안 생성은 model-answer-topic을 별도 그룹(model-answer-group)에서
+ * 같은 키 단위 방식으로 소비합니다. 느린 모범답안 생성은 해당 세션의 모범답안만 막습니다.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class KafkaConsumerService {
 
     private final ObjectMapper objectMapper;
-    private final AnalysisResultService analysisResultService;
+    private final AnalysisResultBatchService analysisResultBatchService;
     private final WebSocketService webSocketService;
+    private final KeyedOrderedExecutor analysisResultExecutor;
+    private final KeyedOrderedExecutor modelAnswerExecutor;
+
+    public KafkaConsumerService(ObjectMapper objectMapper,
+                                AnalysisResultBatchService analysisResultBatchService,
+                                WebSocketService webSocketService,
+                                @Value("${analysis-result.keyed.workers:8}") int workers,
+                                @Value("${analysis-result.keyed.max-in-flight:64}") int maxInFlight,
+                                @Value("${model-answer.keyed.workers:8}") int modelAnswerWorkers,
+                                @Value("${model-answer.keyed.max-in-flight:64}") int modelAnswerMaxInFlight) {
+        this.objectMapper = objectMapper;
+        this.analysisResultBatchService = analysisResultBatchService;
+        this.webSocketService = webSocketService;
+        this.analysisResultExecutor = new KeyedOrderedExecutor("analysis-result-", workers, maxInFlight);
+        this.modelAnswerExecutor = new KeyedOrderedExecutor("model-answer-", modelAnswerWorkers, modelAnswerMaxInFlight);
+    }
 
-    @KafkaListener(topics = "analysis-result-topic", groupId = "interview-group")
-    public void consumeAnalysisResult(String message) {
+    @KafkaListener(id = "analysisResultKeyed", topics = "analysis-result-topic", groupId = "interview-group",
+            containerFactory = "keyedAckContainerFactory",
+            autoStartup = "#{'${analysis-result.consumer.mode:keyed}' == 'keyed'}",
+            properties = {"max.poll.records=${analysis-result.keyed.max-poll-records:${analysis-result.keyed.max-in-flight:64}}"})
+    public void consumeAnalysisResult(String message, Acknowledgment acknowledgment) throws InterruptedException {
+        AnalysisResultRequest request;
         try {
             log.info("KAFKA >> 분석 결과 수신: {}", message);
-            AnalysisResultRequest result = objectMapper.readValue(message, AnalysisResultRequest.class);
-            String modelAnswer = analysisResultService.saveAnalysisResult(result);
-            AnalysisResultRequest enrichedResult = new AnalysisResultRequest(result.recordingId(), result.transcript(), result.analysisResult(), modelAnswer);
+            request = objectMapper.readValue(message, AnalysisResultRequest.class);
+        } catch (Exception e) {
+            log.error("Failed to process message from Kafka", e);
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        // 작업이 끝나야 ack (성공/실패 모두). 앞선 레코드가 끝나지 않았으면 컨테이너가 커밋을 미루고, poll의 레코드가 모두 ack되어야 다음 poll
+        analysisResultExecutor.submit(sessionKey(request.recordingId()), () -> {
+            try {
+                analysisResultBatchService.process(request);
+            } finally {
+                acknowledgment.acknowledge();
+            }
+        });
+    }
+
+    // 짧은 시간(fetch.max.wait.ms) 동안 최대 max.poll.records 건까지 모아서 한 번에 처리
+    @KafkaListener(id = "analysisResultBatch", topics = "analysis-result-topic", groupId = "interview-group", batch = "true",
+            autoStartup = "#{'${analysis-result.consumer.mode:keyed}' == 'batch'}",
+            properties = {
+                    "max.poll.records=${analysis-result.batch.max-size:20}",
+                    "fetch.max.wait.ms=${analysis-result.batch.window-ms:200}",
+                    "fetch.min.bytes=${analysis-result.batch.min-bytes:65536}"
+            })
+    public void consumeAnalysisResults(List<String> messages) {
+        log.info("KAFKA >> 분석 결과 {}건 수신", messages.size());
+        List<AnalysisResultRequest> results = new ArrayList<>();
+        for (String message : messages) {
+            try {
+                log.info("KAFKA >> 분석 결과 수신: {}", message);
+                results.add(objectMapper.readValue(message, AnalysisResultRequest.class));
+            } catch (Exception e) {
+                log.error("Failed to process message from Kafka", e);
+            }
+        }
+
+        try {
+            analysisResultBatchService.processBatch(results);
+        } catch (Exception e) {
+            log.error("Failed to process message batch from Kafka", e);
+        }
+    }
 
-            webSocketService.sendAnalysisResult(enrichedResult);
+    // 동시에 진행하는 모범답안 LLM 호출 수는 model-answer.keyed.workers로 제한
+    @KafkaListener(id = "modelAnswerKeyed", topics = "model-answer-topic", groupId = "model-answer-group",
+            containerFactory = "keyedAckContainerFactory",
+            properties = {"max.poll.records=${model-answer.keyed.max-poll-records:${model-answer.keyed.max-in-flight:64}}"})
+    public void consumeModelAnswerRequest(String message, Acknowledgment acknowledgment) throws InterruptedException {
+        ModelAnswerRequest request;
+        try {
+            log.info("KAFKA >> 모범답안 생성 요청 수신: {}", message);
+            request = objectMapper.readValue(message, ModelAnswerRequest.class);
         } catch (Exception e) {
             log.error("Failed to process message from Kafka", e);
+            acknowledgment.acknowledge();
+            return;
         }
+
+        modelAnswerExecutor.submit(sessionKey(request.recordingId()), () -> {
+            try {
+                analysisResultBatchService.processModelAnswer(request);
+            } finally {
+                acknowledgment.acknowledge();
+            }
+        });
     }
 
     @KafkaListener(topics = "transcript-topic", groupId = "interview-group")
@@ -45,4 +138,18 @@ public class KafkaConsumerService {
             log.error("Failed to process transcript message from Kafka", e);
         }
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        analysisResultExecutor.close();
+        modelAnswerExecutor.close();
+    }
+
+    static String sessionKey(String recordingId) {
+        if (recordingId == null) {
+            return "";
+        }
+        int separator = recordingId.indexOf('~');
+        return separator < 0 ? recordingId : recordingId.substring(0, separator);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import ssafy.i13e206.kafka.dto.AnalysisRequest;
+import ssafy.i13e206.kafka.dto.ModelAnswerRequest;
 
 @Service
 @RequiredArgsConstructor
@@ -26,4 +27,21 @@ public class KafkaProducerService {
             log.error("Failed to send message to Kafka", e);
         }
     }
-}
\ No newline at end of file
+
+    // 세션 단위로 같은 파티션에 들어가도록 세션 ID를 키로 사용 (model-answer-topic 소비자가 세션 순서를 지킴)
+    public void sendModelAnswerRequest(String recordingId, String feedbackUuid) {
+        try {
+            String jsonMessage = objectMapper.writeValueAsString(new ModelAnswerRequest(recordingId, feedbackUuid));
+
+            log.info("KAFKA << 모범답안 생성 요청 발행: {}", jsonMessage);
+            kafkaTemplate.send("model-answer-topic", KafkaConsumerService.sessionKey(recordingId), jsonMessage)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("모범답안 생성 요청 발행 실패 (ModelAnswerReconcileService가 다시 발행): recordingId={}", recordingId, e);
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("Failed to send message to Kafka", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package ssafy.i13e206.kafka.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 키의 작업은 제출 순서대로 하나씩, 다른 키의 작업은 작업 스레드 풀에서 병렬로 실행합니다.
+ * 키마다 마지막 작업(tail) 뒤에 다음 작업을 이어 붙이므로 느린 작업은 자기 키만 막습니다.
+ * 실행 대기 중인 작업이 maxInFlight개를 넘으면 submit이 블록됩니다.
+ * asyncAcks 리스너에서는 컨테이너가 poll 단위로 먼저 멈추므로(KafkaConsumerConfig 참고), maxInFlight는 max.poll.records 이상이면 닿지 않는 안전장치입니다.
+ */
+@Slf4j
+public class KeyedOrderedExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public KeyedOrderedExecutor(String threadNamePrefix, int workers, int maxInFlight) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * 작업의 예외는 로그만 남기고 같은 키의 다음 작업은 계속 실행합니다.
+     */
+    public void submit(String key, Runnable task) throws InterruptedException {
+        permits.acquire();
+        CompletableFuture<Void> next;
+        try {
+            next = tails.compute(key, (k, tail) ->
+                    (tail == null ? CompletableFuture.<Void>completedFuture(null) : tail)
+                            .handleAsync((ignored, previousError) -> {
+                                try {
+                                    task.run();
+                                } catch (Exception e) {
+                                    log.error("키 단위 작업 실패: key={}", k, e);
+                                } finally {
+                                    permits.release();
+                                }
+                                return null;
+                            }, executor));
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        // 이 키에 더 이어 붙은 작업이 없으면 정리
+        next.whenComplete((ignored, error) -> tails.remove(key, next));
+    }
+
+    // 실행 중이거나 대기 중인 작업이 있는 키 수
+    public int activeKeys() {
+        return tails.size();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -7,13 +7,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ssafy.i13e206.interview.entity.AnswerAttempt;
 import ssafy.i13e206.interview.entity.AnswerAttemptId;
+import ssafy.i13e206.interview.entity.Interview;
 import ssafy.i13e206.interview.entity.PTAnswerAttempt;
 import ssafy.i13e206.interview.entity.PTAnswerAttemptId;
 import ssafy.i13e206.interview.entity.enums.AttemptStatus;
 import ssafy.i13e206.interview.repository.AnswerAttemptRepository;
 import ssafy.i13e206.interview.repository.InterviewRepository;
 import ssafy.i13e206.interview.repository.PTAnswerAttemptRepository;
+import ssafy.i13e206.interview.service.InterviewSessionCacheService;
 import ssafy.i13e206.kafka.service.KafkaProducerService;
+import ssafy.i13e206.user.service.UserPracticeStatsService;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -27,6 +30,8 @@ public class OpenviduWebhookService {
     private final PTAnswerAttemptRepository ptAnswerAttemptRepository;
     private final InterviewRepository interviewRepository;
     private final KafkaProducerService kafkaProducerService;
+    private final InterviewSessionCacheService interviewSessionCacheService;
+    private final UserPracticeStatsService userPracticeStatsService;
     private static final String OPENVIDU_RECORDING_BASE_URL = "https://i13e206.p.ssafy.io:8442/openvidu/recordings/";
     private static final String RECORDING_FILE_BASE_PATH = "/home/ubuntu/openvidu_recordings/";
 
@@ -69,7 +74,7 @@ public class OpenviduWebhookService {
     private void updateAttemptAndSendKafka(AnswerAttempt attempt, String videoUrl, String filePath, String recordingIdForKafka) {
         attempt.setStatus(AttemptStatus.PROCESSING);
         attempt.setVideoPath(videoUrl);
-        attempt.getQuestion().getInterview().setFinishedAt(LocalDateTime.now());
+        markInterviewFinished(attempt.getQuestion().getInterview());
         log.info("일반 면접 영상 분석 요청 발행: {}", recordingIdForKafka);
         kafkaProducerService.sendAnalysisRequest(recordingIdForKafka, filePath);
     }
@@ -80,8 +85,15 @@ public class OpenviduWebhookService {
     private void updateAttemptAndSendKafka(PTAnswerAttempt ptAttempt, String videoUrl, String filePath, String recordingIdForKafka) {
         ptAttempt.setStatus(AttemptStatus.PROCESSING);
         ptAttempt.setVideoPath(videoUrl);
-        ptAttempt.getPtInterview().getInterview().setFinishedAt(LocalDateTime.now());
+        markInterviewFinished(ptAttempt.getPtInterview().getInterview());
         log.info("PT 면접 영상 분석 요청 발행: {}", recordingIdForKafka);
         kafkaProducerService.sendAnalysisRequest(recordingIdForKafka, filePath);
     }
+
+    private void markInterviewFinished(Interview interview) {
+        LocalDateTime previousFinishedAt = interview.getFinishedAt();
+        interview.setFinishedAt(LocalDateTime.now());
+        userPracticeStatsService.recordFinished(interview, previousFinishedAt);
+        interviewSessionCacheService.markFinished(interview.getInterviewUuid());
+    }
 }
@@ -1,5 +1,6 @@
 package ssafy.i13e206.security.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -63,6 +64,8 @@ public class SecurityConfig {
 
                 // 요청 경로별 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // Mono 반환 컨트롤러의 비동기 재디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/ws-stomp/**").permitAll()
                         .requestMatchers("/api/recordings/**").permitAll()
                         // CORS preflight (OPTIONS)
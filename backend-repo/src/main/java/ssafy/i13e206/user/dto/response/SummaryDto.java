@@ -1,5 +1,6 @@
 package ssafy.i13e206.user.dto.response;
 
+import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,4 +9,8 @@ import lombok.Getter;
 public class SummaryDto {
     private int completedInterviewCount;
     private int totalPracticeSeconds;
-}
\ No newline at end of file
+    private int tenacityCount;
+    private int jobCount;
+    private int ptCount;
+    private LocalDateTime lastActivityAt;
+}
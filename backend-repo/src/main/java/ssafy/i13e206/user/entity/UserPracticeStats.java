@@ -0,0 +1,47 @@
+package ssafy.i13e206.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 면접 연습 통계. 면접 종료/삭제 시 증분으로 갱신하고, 주기적으로 INTERVIEWS 기준으로 재계산합니다.
+ * 종료된(finished_at이 있는) 면접만 집계합니다.
+ */
+@Entity
+@Table(name = "user_practice_stats")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserPracticeStats {
+
+    @Id
+    @Column(name = "user_uuid", length = 36)
+    private String userUuid;
+
+    @Column(name = "completed_interview_count", nullable = false)
+    private int completedInterviewCount;
+
+    @Column(name = "total_practice_seconds", nullable = false)
+    private long totalPracticeSeconds;
+
+    @Column(name = "tenacity_count", nullable = false)
+    private int tenacityCount;
+
+    @Column(name = "job_count", nullable = false)
+    private int jobCount;
+
+    @Column(name = "pt_count", nullable = false)
+    private int ptCount;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,88 @@
+package ssafy.i13e206.user.repository;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ssafy.i13e206.user.entity.UserPracticeStats;
+
+public interface UserPracticeStatsRepository extends JpaRepository<UserPracticeStats, String> {
+
+    String REBUILD_SELECT = "SELECT i.user_uuid, COUNT(*), " +
+            "COALESCE(SUM(TIMESTAMPDIFF(SECOND, i.created_at, i.finished_at)), 0), " +
+            "SUM(i.interview_type = 'TENACITY'), SUM(i.interview_type = 'JOB'), SUM(i.interview_type = 'PT'), " +
+            "MAX(i.finished_at) " +
+            "FROM INTERVIEWS i WHERE i.finished_at IS NOT NULL ";
+
+    String REBUILD_UPSERT = "ON DUPLICATE KEY UPDATE " +
+            "completed_interview_count = VALUES(completed_interview_count), " +
+            "total_practice_seconds = VALUES(total_practice_seconds), " +
+            "tenacity_count = VALUES(tenacity_count), " +
+            "job_count = VALUES(job_count), " +
+            "pt_count = VALUES(pt_count), " +
+            "last_activity_at = VALUES(last_activity_at)";
+
+    /**
+     * 증분 반영. 행이 없으면 만들고, 있으면 원자적으로 더합니다. (동시 갱신에도 행 잠금 한 번으로 처리)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_practice_stats " +
+            "(user_uuid, completed_interview_count, total_practice_seconds, tenacity_count, job_count, pt_count, last_activity_at) " +
+            "VALUES (:userUuid, :completedDelta, :secondsDelta, :tenacityDelta, :jobDelta, :ptDelta, :activityAt) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "completed_interview_count = completed_interview_count + VALUES(completed_interview_count), " +
+            "total_practice_seconds = total_practice_seconds + VALUES(total_practice_seconds), " +
+            "tenacity_count = tenacity_count + VALUES(tenacity_count), " +
+            "job_count = job_count + VALUES(job_count), " +
+            "pt_count = pt_count + VALUES(pt_count), " +
+            "last_activity_at = CASE WHEN last_activity_at IS NULL OR VALUES(last_activity_at) > last_activity_at " +
+            "THEN VALUES(last_activity_at) ELSE last_activity_at END",
+            nativeQuery = true)
+    void addFinished(@Param("userUuid") String userUuid,
+                     @Param("completedDelta") int completedDelta,
+                     @Param("secondsDelta") long secondsDelta,
+                     @Param("tenacityDelta") int tenacityDelta,
+                     @Param("jobDelta") int jobDelta,
+                     @Param("ptDelta") int ptDelta,
+                     @Param("activityAt") LocalDateTime activityAt);
+
+    // 삭제는 행이 있을 때만 뺀다 (없으면 다음 재계산에서 생성)
+    @Modifying
+    @Query("UPDATE UserPracticeStats s SET " +
+            "s.completedInterviewCount = s.completedInterviewCount - 1, " +
+            "s.totalPracticeSeconds = s.totalPracticeSeconds - :seconds, " +
+            "s.tenacityCount = s.tenacityCount - :tenacityDelta, " +
+            "s.jobCount = s.jobCount - :jobDelta, " +
+            "s.ptCount = s.ptCount - :ptDelta " +
+            "WHERE s.userUuid = :userUuid")
+    int subtractFinished(@Param("userUuid") String userUuid,
+                         @Param("seconds") long seconds,
+                         @Param("tenacityDelta") int tenacityDelta,
+                         @Param("jobDelta") int jobDelta,
+                         @Param("ptDelta") int ptDelta);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_practice_stats " +
+            "(user_uuid, completed_interview_count, total_practice_seconds, tenacity_count, job_count, pt_count, last_activity_at) " +
+            REBUILD_SELECT + "AND i.user_uuid = :userUuid GROUP BY i.user_uuid " +
+            REBUILD_UPSERT,
+            nativeQuery = true)
+    int rebuildForUser(@Param("userUuid") String userUuid);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_practice_stats " +
+            "(user_uuid, completed_interview_count, total_practice_seconds, tenacity_count, job_count, pt_count, last_activity_at) " +
+            REBUILD_SELECT + "GROUP BY i.user_uuid " +
+            REBUILD_UPSERT,
+            nativeQuery = true)
+    int rebuildAll();
+
+    // 종료된 면접이 더 이상 없는 사용자의 통계 초기화 (재계산 INSERT ... SELECT에 나타나지 않으므로)
+    @Modifying
+    @Query(value = "UPDATE user_practice_stats s SET " +
+            "s.completed_interview_count = 0, s.total_practice_seconds = 0, s.tenacity_count = 0, s.job_count = 0, s.pt_count = 0 " +
+            "WHERE NOT EXISTS (SELECT 1 FROM INTERVIEWS i WHERE i.user_uuid = s.user_uuid AND i.finished_at IS NOT NULL)",
+            nativeQuery = true)
+    int resetWithoutFinishedInterviews();
+}
@@ -0,0 +1,133 @@
+package ssafy.i13e206.user.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+import ssafy.i13e206.user.entity.UserPracticeStats;
+import ssafy.i13e206.user.repository.UserPracticeStatsRepository;
+
+/**
+ * 마이페이지 요약 통계(종료된 면접 수, 총 연습 시간, 유형별 횟수, 마지막 활동)를 사용자당 한 행으로 유지합니다.
+ * 면접 종료(녹화 완료 웹훅)와 면접 삭제 시 호출 측 트랜잭션(OpenviduWebhookService, InterviewHistoryService.deleteInterview)에서 증분 반영하고,
+ * 동시 웹훅 등으로 어긋난 값은 주기적인 재계산 작업이 INTERVIEWS 기준으로 바로잡습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserPracticeStatsService {
+
+    private static final String REBUILD_LOCK_KEY = "userPracticeStatsRebuildLock";
+
+    private final UserPracticeStatsRepository userPracticeStatsRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${user-stats.rebuild-lock-seconds:600}")
+    private long rebuildLockSeconds;
+
+    /**
+     * 면접의 finishedAt이 갱신된 직후 호출합니다. 처음 종료될 때만 횟수를 올리고,
+     * 녹화가 여러 번 끝나 finishedAt이 뒤로 밀리면 늘어난 시간만 더합니다.
+     * 통계 행이 없으면(기능 도입 전부터 면접을 본 사용자) 이번 면접만 더하지 않고 INTERVIEWS 기준으로 해당 사용자 행을 만듭니다.
+     */
+    @Transactional
+    public void recordFinished(Interview interview, LocalDateTime previousFinishedAt) {
+        if (interview.getFinishedAt() == null) {
+            return;
+        }
+        String userUuid = interview.getUser().getUserUuid();
+        if (!userPracticeStatsRepository.existsById(userUuid)) {
+            // 갱신된 finishedAt이 재계산 쿼리에 보이도록 먼저 반영
+            userPracticeStatsRepository.flush();
+            userPracticeStatsRepository.rebuildForUser(userUuid);
+            return;
+        }
+        boolean firstFinish = previousFinishedAt == null;
+        long secondsDelta = practiceSeconds(interview.getCreatedAt(), interview.getFinishedAt())
+                - (firstFinish ? 0 : practiceSeconds(interview.getCreatedAt(), previousFinishedAt));
+        int countDelta = firstFinish ? 1 : 0;
+        InterviewType type = interview.getInterviewType();
+
+        userPracticeStatsRepository.addFinished(userUuid,
+                countDelta,
+                secondsDelta,
+                type == InterviewType.TENACITY ? countDelta : 0,
+                type == InterviewType.JOB ? countDelta : 0,
+                type == InterviewType.PT ? countDelta : 0,
+                interview.getFinishedAt());
+    }
+
+    /**
+     * 면접 삭제 시 호출합니다. 종료되지 않은 면접은 집계에 없으므로 무시합니다.
+     * 마지막 활동 시각은 되돌리지 않습니다. (다음 재계산에서 정리)
+     */
+    @Transactional
+    public void recordDeleted(Interview interview) {
+        if (interview.getFinishedAt() == null) {
+            return;
+        }
+        InterviewType type = interview.getInterviewType();
+        userPracticeStatsRepository.subtractFinished(interview.getUser().getUserUuid(),
+                practiceSeconds(interview.getCreatedAt(), interview.getFinishedAt()),
+                type == InterviewType.TENACITY ? 1 : 0,
+                type == InterviewType.JOB ? 1 : 0,
+                type == InterviewType.PT ? 1 : 0);
+    }
+
+    /**
+     * 통계 행을 읽습니다. 기능 도입 전 사용자처럼 행이 없으면 해당 사용자만 재계산해 만듭니다.
+     * 종료된 면접이 하나도 없으면 빈 통계를 반환합니다.
+     */
+    @Transactional
+    public UserPracticeStats getStats(String userUuid) {
+        return userPracticeStatsRepository.findById(userUuid)
+                .or(() -> {
+                    if (userPracticeStatsRepository.rebuildForUser(userUuid) == 0) {
+                        return Optional.empty();
+                    }
+                    return userPracticeStatsRepository.findById(userUuid);
+                })
+                .orElseGet(() -> UserPracticeStats.builder().userUuid(userUuid).build());
+    }
+
+    @Transactional
+    public void deleteStats(String userUuid) {
+        userPracticeStatsRepository.deleteById(userUuid);
+    }
+
+    /**
+     * 증분 갱신과 어긋난 통계를 INTERVIEWS 기준으로 다시 계산합니다.
+     * 여러 인스턴스가 동시에 돌지 않도록 Redis 락을 잡고, 락을 못 잡으면 건너뜁니다.
+     */
+    @Scheduled(cron = "${user-stats.rebuild-cron:0 30 4 * * *}")
+    @Transactional
+    public void rebuildAll() {
+        try {
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", rebuildLockSeconds, TimeUnit.SECONDS);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("연습 통계 재계산 락 획득 실패 (이번 주기 건너뜀)", e);
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        int upserted = userPracticeStatsRepository.rebuildAll();
+        int reset = userPracticeStatsRepository.resetWithoutFinishedInterviews();
+        log.info("연습 통계 재계산 완료: upserted={}, reset={}, 소요 시간: {}ms", upserted, reset, System.currentTimeMillis() - startTime);
+    }
+
+    private long practiceSeconds(LocalDateTime createdAt, LocalDateTime finishedAt) {
+        return Duration.between(createdAt, finishedAt).getSeconds();
+    }
+}
@@ -19,6 +19,7 @@ import ssafy.i13e206.auth.service.AuthService;
 import ssafy.i13e206.feedback.entity.Feedback;
 import ssafy.i13e206.feedback.repository.FeedbackResultRepository;
 import ssafy.i13e206.feedback.repository.FeedbackSourceRepository;
+import ssafy.i13e206.feedback.service.TranscriptSearchService;
 import ssafy.i13e206.files.entity.Portfolio;
 import ssafy.i13e206.files.entity.Resume;
 import ssafy.i13e206.files.entity.ScriptFile;
@@ -37,6 +38,7 @@ import ssafy.i13e206.user.dto.response.*;
 import ssafy.i13e206.user.entity.LocalLogin;
 import ssafy.i13e206.user.entity.SocialLogin;
 import ssafy.i13e206.user.entity.User;
+import ssafy.i13e206.user.entity.UserPracticeStats;
 import ssafy.i13e206.user.repository.LocalLoginRepository;
 import ssafy.i13e206.user.repository.SocialLoginRepository;
 import ssafy.i13e206.user.repository.UserRepository;
@@ -73,6 +75,8 @@ public class UserService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final QuestionRepository questionRepository;
     private final S3Uploader s3Uploader;
+    private final UserPracticeStatsService userPracticeStatsService;
+    private final TranscriptSearchService transcriptSearchService;
 
     private static final long CODE_EXPIRATION_SECONDS = 180;
 
@@ -241,6 +245,8 @@ public class UserService {
         resumeRepository.deleteByUser(user);
         portfolioRepository.deleteByUser(user);
         scriptRepository.deleteByUser(user);
+        userPracticeStatsService.deleteStats(user.getUserUuid());
+        transcriptSearchService.deleteByUser(user.getUserUuid());
 
         userRepository.delete(user);
     }
@@ -416,12 +422,16 @@ public class UserService {
         // 최신순으로 정렬
         allFiles.sort(Comparator.comparing(FileDto::getUploadedAt).reversed());
 
-        long interviewCnt = interviewRepository.countByUser(user);
-        long praticeCnt = interviewRepository.findTotalPracticeSecondsByUser(user);
+        // 면접 종료/삭제 시 증분 갱신되는 통계 한 행만 조회
+        UserPracticeStats stats = userPracticeStatsService.getStats(user.getUserUuid());
 
         SummaryDto summaryDto = SummaryDto.builder()
-                .completedInterviewCount((int) interviewCnt)
-                .totalPracticeSeconds((int) praticeCnt)
+                .completedInterviewCount(stats.getCompletedInterviewCount())
+                .totalPracticeSeconds((int) stats.getTotalPracticeSeconds())
+                .tenacityCount(stats.getTenacityCount())
+                .jobCount(stats.getJobCount())
+                .ptCount(stats.getPtCount())
+                .lastActivityAt(stats.getLastActivityAt())
                 .build();
 
         MyPageResponseDto myPageResponseDto = MyPageResponseDto.builder()
@@ -0,0 +1,41 @@
+package ssafy.i13e206.feedback.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import ssafy.i13e206.feedback.dto.Expression;
+import ssafy.i13e206.interview.dto.ExpressionDto;
+
+class FeedbackTimelineCodecTest {
+
+    private static final List<Expression> EXPRESSIONS = List.of(
+            new Expression(0, "happy", 0.91),
+            new Expression(1, "neutral", 0.55),
+            new Expression(3, null, 0.0),
+            new Expression(2, "happy", 0.125));
+
+    @Test
+    void 점수를_포함해_인코딩하면_점수까지_복원된다() {
+        byte[] bytes = FeedbackTimelineCodec.encodeExpressions(EXPRESSIONS,
+                Expression::second, Expression::expression, Expression::score);
+
+        List<Expression> decoded = FeedbackTimelineCodec.decodeScoredExpressions(bytes);
+
+        assertThat(FeedbackTimelineMigrationService.roundTrips(EXPRESSIONS, decoded)).isTrue();
+        assertThat(decoded.get(3).score()).isEqualTo(0.125);
+        assertThat(FeedbackTimelineCodec.decodeExpressions(bytes))
+                .containsExactly(new ExpressionDto(0, "happy"), new ExpressionDto(1, "neutral"),
+                        new ExpressionDto(3, null), new ExpressionDto(2, "happy"));
+    }
+
+    @Test
+    void 점수_열이_없는_버전_1_데이터도_읽는다() {
+        byte[] bytes = FeedbackTimelineCodec.encodeExpressions(EXPRESSIONS, Expression::second, Expression::expression);
+
+        assertThat(FeedbackTimelineCodec.decodeExpressions(bytes)).hasSize(EXPRESSIONS.size());
+        assertThat(FeedbackTimelineCodec.decodeScoredExpressions(bytes))
+                .extracting(Expression::score)
+                .allMatch(score -> Double.isNaN(score));
+    }
+}
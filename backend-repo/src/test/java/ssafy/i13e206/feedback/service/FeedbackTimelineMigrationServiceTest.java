@@ -0,0 +1,59 @@
+package ssafy.i13e206.feedback.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import ssafy.i13e206.feedback.dto.Expression;
+import ssafy.i13e206.feedback.entity.Feedback;
+import ssafy.i13e206.feedback.repository.FeedbackResultRepository;
+
+class FeedbackTimelineMigrationServiceTest {
+
+    private final FeedbackResultRepository feedbackResultRepository = mock(FeedbackResultRepository.class);
+    private final FeedbackTimelineMigrationService migrationService =
+            new FeedbackTimelineMigrationService(feedbackResultRepository, new ObjectMapper());
+
+    @Test
+    void 표정_JSON을_점수와_함께_바이너리로_옮긴_뒤_JSON을_지운다() {
+        Feedback feedback = Feedback.builder()
+                .feedbackUuid("feedback-1")
+                .expression("[{\"second\":0,\"expression\":\"happy\",\"score\":0.91},"
+                        + "{\"second\":1,\"expression\":\"sad\",\"score\":0.4}]")
+                .build();
+        given(feedbackResultRepository.findById("feedback-1")).willReturn(Optional.of(feedback));
+
+        migrationService.migrate("feedback-1");
+
+        assertThat(feedback.getExpression()).isNull();
+        assertThat(feedback.getExpressionSummaryBin()).isNotNull();
+        assertThat(FeedbackTimelineCodec.decodeScoredExpressions(feedback.getExpressionBin()))
+                .containsExactly(new Expression(0, "happy", (float) 0.91), new Expression(1, "sad", (float) 0.4));
+    }
+
+    @Test
+    void 파싱할_수_없는_표정_JSON은_그대로_둔다() {
+        Feedback feedback = Feedback.builder()
+                .feedbackUuid("feedback-2")
+                .expression("[{\"second\":")
+                .build();
+        given(feedbackResultRepository.findById("feedback-2")).willReturn(Optional.of(feedback));
+
+        migrationService.migrate("feedback-2");
+
+        assertThat(feedback.getExpression()).isEqualTo("[{\"second\":");
+        assertThat(feedback.getExpressionBin()).isNull();
+    }
+
+    @Test
+    void 점수가_다르게_복원되면_변환_실패로_본다() {
+        List<Expression> original = List.of(new Expression(0, "happy", 0.5));
+
+        assertThat(FeedbackTimelineMigrationService.roundTrips(original, List.of(new Expression(0, "happy", 0.25)))).isFalse();
+        assertThat(FeedbackTimelineMigrationService.roundTrips(original, List.of(new Expression(0, "happy", 0.5)))).isTrue();
+    }
+}
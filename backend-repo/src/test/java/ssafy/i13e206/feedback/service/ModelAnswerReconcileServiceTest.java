@@ -0,0 +1,163 @@
+package ssafy.i13e206.feedback.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.i13e206.feedback.entity.Feedback;
+import ssafy.i13e206.interview.entity.AnswerAttempt;
+import ssafy.i13e206.interview.entity.AnswerAttemptId;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.PTAnswerAttempt;
+import ssafy.i13e206.interview.entity.PTAnswerAttemptId;
+import ssafy.i13e206.interview.entity.PTInterview;
+import ssafy.i13e206.interview.entity.Question;
+import ssafy.i13e206.interview.entity.enums.AttemptStatus;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+import ssafy.i13e206.interview.service.InterviewFixtures;
+import ssafy.i13e206.interview.service.InterviewFixtures.Applicant;
+import ssafy.i13e206.kafka.service.KafkaProducerService;
+
+/**
+ * 모범답안이 비어 있는 피드백만, 면접 생성 시각이 재요청 구간(min-age~max-age) 안에 있을 때 다시 발행하는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:model-answer-reconcile;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "model-answer.reconcile.min-age-minutes=0",
+        "model-answer.reconcile.initial-delay-ms=3600000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ModelAnswerReconcileService.class)
+class ModelAnswerReconcileServiceTest {
+
+    @Autowired
+    private ModelAnswerReconcileService modelAnswerReconcileService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private KafkaProducerService kafkaProducerService;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Applicant applicant;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        applicant = transactionTemplate.execute(status -> InterviewFixtures.applicant(entityManager));
+    }
+
+    @Test
+    void 모범답안이_없는_일반_답변과_PT_답변을_다시_요청한다() {
+        Seeded seeded = transactionTemplate.execute(status -> {
+            Interview interview = InterviewFixtures.interview(entityManager, applicant, InterviewType.JOB);
+            Question question = InterviewFixtures.question(entityManager, interview, 1, null);
+            Feedback answered = feedback(question, 1, "저장된 모범답안");
+            Feedback pending = feedback(question, 2, null);
+
+            Interview ptInterview = InterviewFixtures.interview(entityManager, applicant, InterviewType.PT);
+            PTInterview pt = InterviewFixtures.ptInterview(entityManager, ptInterview);
+            Feedback ptPending = ptFeedback(pt, 1);
+            return new Seeded(question.getQuestionUuid(), pt.getPtUuid(), answered, pending, ptPending);
+        });
+
+        modelAnswerReconcileService.reconcile();
+
+        verify(kafkaProducerService).sendModelAnswerRequest(seeded.questionUuid() + "~1", seeded.pending().getFeedbackUuid());
+        verify(kafkaProducerService).sendModelAnswerRequest(seeded.ptUuid() + "~0", seeded.ptPending().getFeedbackUuid());
+        verify(kafkaProducerService, never()).sendModelAnswerRequest(anyString(), eq(seeded.answered().getFeedbackUuid()));
+    }
+
+    @Test
+    void 재요청_기간이_지난_면접은_다시_요청하지_않는다() {
+        Feedback stale = transactionTemplate.execute(status -> {
+            Interview interview = InterviewFixtures.interview(entityManager, applicant, InterviewType.JOB);
+            interview.setCreatedAt(LocalDateTime.now().minusDays(2));
+            Question question = InterviewFixtures.question(entityManager, interview, 1, null);
+            return feedback(question, 1, null);
+        });
+
+        modelAnswerReconcileService.reconcile();
+
+        verify(kafkaProducerService, never()).sendModelAnswerRequest(anyString(), eq(stale.getFeedbackUuid()));
+    }
+
+    @Test
+    void 락을_잡지_못하면_건너뛴다() {
+        Feedback pending = transactionTemplate.execute(status -> {
+            Interview interview = InterviewFixtures.interview(entityManager, applicant, InterviewType.JOB);
+            Question question = InterviewFixtures.question(entityManager, interview, 1, null);
+            return feedback(question, 1, null);
+        });
+        given(redisTemplate.opsForValue().setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).willReturn(false);
+
+        modelAnswerReconcileService.reconcile();
+
+        verify(kafkaProducerService, never()).sendModelAnswerRequest(anyString(), eq(pending.getFeedbackUuid()));
+    }
+
+    private Feedback feedback(Question question, int attemptNumber, String modelAnswer) {
+        AnswerAttempt attempt = AnswerAttempt.builder()
+                .id(new AnswerAttemptId(question.getQuestionUuid(), attemptNumber))
+                .question(question)
+                .status(AttemptStatus.COMPLETED)
+                .build();
+        entityManager.persist(attempt);
+        Feedback feedback = Feedback.builder()
+                .answerAttempt(attempt)
+                .transcript("답변 " + attemptNumber)
+                .modelAnswer(modelAnswer)
+                .build();
+        entityManager.persist(feedback);
+        return feedback;
+    }
+
+    private Feedback ptFeedback(PTInterview ptInterview, int attemptNumber) {
+        PTAnswerAttempt attempt = PTAnswerAttempt.builder()
+                .id(new PTAnswerAttemptId(ptInterview.getPtUuid(), attemptNumber))
+                .ptInterview(ptInterview)
+                .status(AttemptStatus.COMPLETED)
+                .build();
+        entityManager.persist(attempt);
+        Feedback feedback = Feedback.builder()
+                .ptAnswerAttempt(attempt)
+                .transcript("PT 답변 " + attemptNumber)
+                .build();
+        entityManager.persist(feedback);
+        return feedback;
+    }
+
+    private record Seeded(String questionUuid, String ptUuid, Feedback answered, Feedback pending, Feedback ptPending) {
+    }
+}
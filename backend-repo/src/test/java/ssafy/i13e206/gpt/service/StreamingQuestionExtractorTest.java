@@ -0,0 +1,60 @@
+package ssafy.i13e206.gpt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.Test;
+
+class StreamingQuestionExtractorTest {
+
+    @Test
+    void 주질문을_delta마다_점진적으로_추출한다() {
+        StreamingQuestionExtractor extractor = new StreamingQuestionExtractor();
+
+        assertThat(extractor.append("{\"questions\": [{\"quest")).isFalse();
+        assertThat(extractor.append("ion\": \"자기소")).isTrue();
+        assertThat(extractor.currentQuestion()).isEqualTo("자기소");
+        assertThat(extractor.append("개를 해 주세요\", \"question\": \"다른 질문\"}")).isTrue();
+
+        assertThat(extractor.currentQuestion()).isEqualTo("자기소개를 해 주세요");
+        assertThat(extractor.rawText()).endsWith("\"다른 질문\"}");
+    }
+
+    @Test
+    void delta_경계에서_잘린_이스케이프를_이어서_해석한다() {
+        StreamingQuestionExtractor extractor = new StreamingQuestionExtractor();
+
+        extractor.append("{\"question\": \"첫 줄\\");
+        assertThat(extractor.currentQuestion()).isEqualTo("첫 줄");
+        extractor.append("n둘째 줄 \\\"인용\\\" \\u00");
+        assertThat(extractor.currentQuestion()).isEqualTo("첫 줄\n둘째 줄 \"인용\" ");
+        extractor.append("41\"}");
+
+        assertThat(extractor.currentQuestion()).isEqualTo("첫 줄\n둘째 줄 \"인용\" A");
+    }
+
+    @Test
+    void 서로게이트_쌍은_뒤쪽이_도착한_뒤에만_내보낸다() {
+        StreamingQuestionExtractor extractor = new StreamingQuestionExtractor();
+
+        extractor.append("{\"question\": \"좋아요 \\uD83D");
+        assertThat(extractor.currentQuestion()).isEqualTo("좋아요 ");
+        extractor.append("\\uDE00\"");
+
+        assertThat(extractor.currentQuestion()).isEqualTo("좋아요 \uD83D\uDE00");
+    }
+
+    @Test
+    void 잘못된_유니코드_이스케이프는_예외없이_미리보기만_멈춘다() {
+        StreamingQuestionExtractor extractor = new StreamingQuestionExtractor();
+
+        assertThatCode(() -> {
+            extractor.append("{\"question\": \"앞부분 \\uZZ");
+            extractor.append("ZZ 뒷부분\"}");
+        }).doesNotThrowAnyException();
+
+        assertThat(extractor.currentQuestion()).isEqualTo("앞부분 ");
+        assertThat(extractor.append("추가")).isFalse();
+        assertThat(extractor.rawText()).isEqualTo("{\"question\": \"앞부분 \\uZZZZ 뒷부분\"}추가");
+    }
+}
@@ -0,0 +1,138 @@
+package ssafy.i13e206.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.PTInterview;
+import ssafy.i13e206.interview.entity.Question;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+import ssafy.i13e206.interview.repository.AnswerAttemptRepository;
+import ssafy.i13e206.interview.repository.PTAnswerAttemptRepository;
+import ssafy.i13e206.interview.service.InterviewFixtures.Applicant;
+
+/**
+ * 같은 질문(또는 PT 면접)에 답변 시도 생성 요청이 동시에 몰려도 시도 번호가 1..N으로 빠짐없이, 중복 키 오류 없이 할당되는지 확인합니다.
+ * 처리량(건/초)은 로그로 남깁니다. (H2 MySQL 호환 모드 기준이므로 운영 DB 수치와는 다를 수 있음)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:answer-attempt;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=8",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(AnswerAttemptService.class)
+class AnswerAttemptServiceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AnswerAttemptServiceConcurrencyTest.class);
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS = 200;
+
+    @Autowired
+    private AnswerAttemptService answerAttemptService;
+
+    @Autowired
+    private AnswerAttemptRepository answerAttemptRepository;
+
+    @Autowired
+    private PTAnswerAttemptRepository ptAnswerAttemptRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private InterviewSessionCacheService interviewSessionCacheService;
+
+    private ExecutorService executor;
+    private Applicant applicant;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        applicant = transactionTemplate.execute(status -> InterviewFixtures.applicant(entityManager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 같은_질문에_동시에_요청해도_시도_번호가_빠짐없이_할당된다() throws Exception {
+        Question question = transactionTemplate.execute(status -> {
+            Interview interview = InterviewFixtures.interview(entityManager, applicant, InterviewType.JOB);
+            return InterviewFixtures.question(entityManager, interview, 1, null);
+        });
+
+        createConcurrently("질문", question.getQuestionUuid());
+
+        List<Integer> attemptNumbers = answerAttemptRepository
+                .findByQuestion_QuestionUuidOrderById_AttemptNumber(question.getQuestionUuid()).stream()
+                .map(attempt -> attempt.getId().getAttemptNumber())
+                .toList();
+        assertThat(attemptNumbers).containsExactlyElementsOf(IntStream.rangeClosed(1, ATTEMPTS).boxed().toList());
+    }
+
+    @Test
+    void 같은_PT_면접에_동시에_요청해도_시도_번호가_빠짐없이_할당된다() throws Exception {
+        PTInterview ptInterview = transactionTemplate.execute(status -> {
+            Interview interview = InterviewFixtures.interview(entityManager, applicant, InterviewType.PT);
+            return InterviewFixtures.ptInterview(entityManager, interview);
+        });
+
+        createConcurrently("PT 면접", ptInterview.getPtUuid());
+
+        List<Integer> attemptNumbers = ptAnswerAttemptRepository.findAll().stream()
+                .filter(attempt -> attempt.getId().getPtAnswerAttemptUuid().equals(ptInterview.getPtUuid()))
+                .map(attempt -> attempt.getId().getAttemptNumber())
+                .sorted()
+                .toList();
+        assertThat(attemptNumbers).containsExactlyElementsOf(IntStream.rangeClosed(1, ATTEMPTS).boxed().toList());
+    }
+
+    // 모든 스레드를 동시에 출발시켜 ATTEMPTS건을 요청하고, 하나라도 실패하면 예외를 그대로 던진다
+    private void createConcurrently(String target, String id) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return answerAttemptService.createAttempt(id);
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        log.info("{} 하나에 답변 시도 {}건 생성 ({}개 스레드): {} ms, {} 건/초", target, ATTEMPTS, THREADS,
+                Math.round(elapsedSeconds * 1000), Math.round(ATTEMPTS / elapsedSeconds));
+    }
+}
@@ -0,0 +1,106 @@
+package ssafy.i13e206.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.willThrow;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.i13e206.feedback.service.FeedbackTimelineService;
+import ssafy.i13e206.feedback.service.TranscriptSearchService;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+import ssafy.i13e206.interview.repository.InterviewRepository;
+import ssafy.i13e206.interview.service.InterviewFixtures.Applicant;
+import ssafy.i13e206.user.entity.UserPracticeStats;
+import ssafy.i13e206.user.repository.UserPracticeStatsRepository;
+import ssafy.i13e206.user.service.UserPracticeStatsService;
+
+/**
+ * 면접 삭제 중 한 단계가 실패하면 통계 차감과 면접 삭제가 함께 롤백되는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:interview-delete;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({InterviewHistoryService.class, UserPracticeStatsService.class})
+class InterviewDeleteTransactionTest {
+
+    @Autowired
+    private InterviewHistoryService interviewHistoryService;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private UserPracticeStatsRepository userPracticeStatsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private SpeculativeQuestionService speculativeQuestionService;
+
+    @MockBean
+    private InterviewSessionCacheService interviewSessionCacheService;
+
+    @MockBean
+    private FeedbackTimelineService feedbackTimelineService;
+
+    @MockBean
+    private TranscriptSearchService transcriptSearchService;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Applicant applicant;
+
+    @BeforeEach
+    void setUp() {
+        applicant = transactionTemplate.execute(status -> InterviewFixtures.applicant(entityManager));
+    }
+
+    @Test
+    void 삭제_도중_실패하면_통계_차감도_롤백된다() {
+        Interview interview = transactionTemplate.execute(status -> {
+            Interview saved = InterviewFixtures.interview(entityManager, applicant, InterviewType.JOB);
+            saved.setFinishedAt(saved.getCreatedAt().plusMinutes(30));
+            entityManager.persist(UserPracticeStats.builder()
+                    .userUuid(applicant.user().getUserUuid())
+                    .completedInterviewCount(11)
+                    .totalPracticeSeconds(19800)
+                    .jobCount(11)
+                    .lastActivityAt(LocalDateTime.now())
+                    .build());
+            return saved;
+        });
+        willThrow(new IllegalStateException("검색 문서 삭제 실패"))
+                .given(transcriptSearchService).deleteByInterview(interview.getInterviewUuid());
+
+        assertThatThrownBy(() -> interviewHistoryService.deleteInterview(
+                interview.getInterviewUuid(), applicant.user().getUserUuid()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(interviewRepository.existsById(interview.getInterviewUuid())).isTrue();
+        UserPracticeStats stats = userPracticeStatsRepository.findById(applicant.user().getUserUuid()).orElseThrow();
+        assertThat(stats.getCompletedInterviewCount()).isEqualTo(11);
+        assertThat(stats.getJobCount()).isEqualTo(11);
+        assertThat(stats.getTotalPracticeSeconds()).isEqualTo(19800);
+    }
+}
@@ -0,0 +1,112 @@
+package ssafy.i13e206.interview.service;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import ssafy.i13e206.company.entity.Enterprise;
+import ssafy.i13e206.company.entity.Recruit;
+import ssafy.i13e206.files.entity.Resume;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.InterviewSet;
+import ssafy.i13e206.interview.entity.PTInterview;
+import ssafy.i13e206.interview.entity.Question;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+import ssafy.i13e206.user.entity.User;
+
+/**
+ * 면접 서비스 테스트에서 공통으로 쓰는 사용자/채용 공고/이력서/면접 데이터. 호출 측 트랜잭션 안에서 저장합니다.
+ */
+public final class InterviewFixtures {
+
+    public static final String ENTERPRISE_NAME = "테스트기업";
+    public static final String POSITION = "백엔드 개발자";
+
+    private InterviewFixtures() {
+    }
+
+    public record Applicant(User user, Recruit recruit, Resume resume) {
+    }
+
+    public static Applicant applicant(EntityManager em) {
+        User user = User.builder()
+                .username("tester")
+                .email(UUID.randomUUID() + "@test.com")
+                .build();
+        em.persist(user);
+
+        Enterprise enterprise = Enterprise.builder()
+                .enterpriseName(ENTERPRISE_NAME)
+                .build();
+        em.persist(enterprise);
+
+        Recruit recruit = Recruit.builder()
+                .categoryMain("IT")
+                .categorySub("백엔드")
+                .position(POSITION)
+                .task("API 서버 개발")
+                .enterprise(enterprise)
+                .build();
+        em.persist(recruit);
+
+        Resume resume = Resume.builder()
+                .enterpriseName(ENTERPRISE_NAME)
+                .position(POSITION)
+                .fileName("resume.pdf")
+                .resumeUrl("https://example.com/resume.pdf")
+                .ocrText("이력서 OCR")
+                .resumeUploadedAt(LocalDateTime.now())
+                .user(user)
+                .build();
+        em.persist(resume);
+        return new Applicant(user, recruit, resume);
+    }
+
+    public static Interview interview(EntityManager em, Applicant applicant, InterviewType interviewType) {
+        InterviewSet interviewSet = InterviewSet.builder()
+                .interviewSetsUuid(UUID.randomUUID().toString())
+                .resume(applicant.resume())
+                .recruit(applicant.recruit())
+                .interviewType(interviewType)
+                .build();
+        em.persist(interviewSet);
+
+        Interview interview = Interview.builder()
+                .interviewUuid(UUID.randomUUID().toString())
+                .interviewSet(interviewSet)
+                .user(applicant.user())
+                .enterpriseName(ENTERPRISE_NAME)
+                .position(POSITION)
+                .interviewType(interviewType)
+                .interviewCount(1)
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(interview);
+        return interview;
+    }
+
+    public static Question question(EntityManager em, Interview interview, int questionNumber, Question parent) {
+        Question question = Question.builder()
+                .questionUuid(UUID.randomUUID().toString())
+                .interview(interview)
+                .parent(parent)
+                .questionNumber(questionNumber)
+                .question("질문 " + questionNumber)
+                .purpose("의도 " + questionNumber)
+                .suggestedAnswer("모범 방향 " + questionNumber)
+                .build();
+        em.persist(question);
+        return question;
+    }
+
+    public static PTInterview ptInterview(EntityManager em, Interview interview) {
+        PTInterview ptInterview = PTInterview.builder()
+                .ptUuid(UUID.randomUUID().toString())
+                .interview(interview)
+                .title("PT 제목")
+                .situation("PT 상황")
+                .createdAt(LocalDateTime.now())
+                .build();
+        em.persist(ptInterview);
+        return ptInterview;
+    }
+}
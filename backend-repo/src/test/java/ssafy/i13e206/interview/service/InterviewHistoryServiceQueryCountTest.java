@@ -0,0 +1,170 @@
+package ssafy.i13e206.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.i13e206.feedback.entity.Feedback;
+import ssafy.i13e206.feedback.entity.FeedbackSource;
+import ssafy.i13e206.feedback.service.FeedbackTimelineService;
+import ssafy.i13e206.feedback.service.TranscriptSearchService;
+import ssafy.i13e206.interview.dto.InterviewDetailResponseDto;
+import ssafy.i13e206.interview.entity.AnswerAttempt;
+import ssafy.i13e206.interview.entity.AnswerAttemptId;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.PTAnswerAttempt;
+import ssafy.i13e206.interview.entity.PTAnswerAttemptId;
+import ssafy.i13e206.interview.entity.PTInterview;
+import ssafy.i13e206.interview.entity.Question;
+import ssafy.i13e206.interview.entity.enums.AttemptStatus;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+import ssafy.i13e206.interview.service.InterviewFixtures.Applicant;
+import ssafy.i13e206.user.service.UserPracticeStatsService;
+
+/**
+ * 면접 상세 조회가 질문/재시도/PT 문제 수와 관계없이 고정된 횟수의 쿼리로 끝나는지 Hibernate 통계로 확인합니다.
+ * 일반 면접 5회: 사용자, 면접, 질문, 답변 시도+피드백, 피드백 출처 / PT 면접 7회: PT 면접, PT 답변 시도+피드백 추가
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:interview-history;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(InterviewHistoryService.class)
+class InterviewHistoryServiceQueryCountTest {
+
+    private static final int QUESTIONS = 10;
+    private static final int ATTEMPTS_PER_QUESTION = 3;
+    private static final int PT_PROBLEMS = 3;
+
+    @Autowired
+    private InterviewHistoryService interviewHistoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private SpeculativeQuestionService speculativeQuestionService;
+
+    @MockBean
+    private InterviewSessionCacheService interviewSessionCacheService;
+
+    @MockBean
+    private UserPracticeStatsService userPracticeStatsService;
+
+    @MockBean
+    private FeedbackTimelineService feedbackTimelineService;
+
+    @MockBean
+    private TranscriptSearchService transcriptSearchService;
+
+    private Applicant applicant;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        applicant = transactionTemplate.execute(status -> InterviewFixtures.applicant(entityManager));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 재시도가_있는_10문항_면접을_5번의_쿼리로_조회한다() {
+        Interview interview = transactionTemplate.execute(status -> {
+            Interview saved = InterviewFixtures.interview(entityManager, applicant, InterviewType.JOB);
+            seedQuestionsWithRetries(saved);
+            return saved;
+        });
+
+        statistics.clear();
+        InterviewDetailResponseDto detail = interviewHistoryService.getInterviewDetail(
+                applicant.user().getUserUuid(), interview.getInterviewUuid());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(detail.getQuestions()).hasSize(QUESTIONS);
+        assertThat(detail.getQuestions().get(0).feedback()).hasSize(ATTEMPTS_PER_QUESTION);
+        assertThat(detail.getQuestions().get(0).feedback().get(0).feedbackSources()).hasSize(1);
+    }
+
+    @Test
+    void 재시도가_있는_PT_면접을_7번의_쿼리로_조회한다() {
+        Interview interview = transactionTemplate.execute(status -> {
+            Interview saved = InterviewFixtures.interview(entityManager, applicant, InterviewType.PT);
+            seedQuestionsWithRetries(saved);
+            for (int i = 0; i < PT_PROBLEMS; i++) {
+                PTInterview ptInterview = InterviewFixtures.ptInterview(entityManager, saved);
+                for (int attemptNumber = 1; attemptNumber <= ATTEMPTS_PER_QUESTION; attemptNumber++) {
+                    PTAnswerAttempt attempt = PTAnswerAttempt.builder()
+                            .id(new PTAnswerAttemptId(ptInterview.getPtUuid(), attemptNumber))
+                            .ptInterview(ptInterview)
+                            .status(AttemptStatus.COMPLETED)
+                            .build();
+                    entityManager.persist(attempt);
+                    Feedback feedback = Feedback.builder()
+                            .ptAnswerAttempt(attempt)
+                            .transcript("PT 답변 " + attemptNumber)
+                            .build();
+                    persistWithSource(feedback);
+                }
+            }
+            return saved;
+        });
+
+        statistics.clear();
+        InterviewDetailResponseDto detail = interviewHistoryService.getInterviewDetail(
+                applicant.user().getUserUuid(), interview.getInterviewUuid());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+        assertThat(detail.getPtInterviews()).hasSize(PT_PROBLEMS);
+        assertThat(detail.getPtInterviews().get(0).getRetry()).hasSize(ATTEMPTS_PER_QUESTION);
+        assertThat(detail.getPtInterviews().get(0).getRetry().get(0).feedbackSources()).hasSize(1);
+    }
+
+    // 질문마다 재시도를 포함한 답변 시도와 피드백(출처 1개)을 만든다
+    private void seedQuestionsWithRetries(Interview interview) {
+        for (int questionNumber = 1; questionNumber <= QUESTIONS; questionNumber++) {
+            Question question = InterviewFixtures.question(entityManager, interview, questionNumber, null);
+            for (int attemptNumber = 1; attemptNumber <= ATTEMPTS_PER_QUESTION; attemptNumber++) {
+                AnswerAttempt attempt = AnswerAttempt.builder()
+                        .id(new AnswerAttemptId(question.getQuestionUuid(), attemptNumber))
+                        .question(question)
+                        .status(AttemptStatus.COMPLETED)
+                        .build();
+                entityManager.persist(attempt);
+                Feedback feedback = Feedback.builder()
+                        .answerAttempt(attempt)
+                        .transcript("답변 " + attemptNumber)
+                        .build();
+                persistWithSource(feedback);
+            }
+        }
+    }
+
+    private void persistWithSource(Feedback feedback) {
+        entityManager.persist(feedback);
+        entityManager.persist(FeedbackSource.builder()
+                .feedback(feedback)
+                .sourceType("resume")
+                .citedContent("이력서 인용")
+                .build());
+    }
+}
@@ -0,0 +1,118 @@
+package ssafy.i13e206.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.i13e206.feedback.service.FeedbackTimelineService;
+import ssafy.i13e206.feedback.service.TranscriptSearchService;
+import ssafy.i13e206.gpt.service.GmsDirectService;
+import ssafy.i13e206.interview.dto.RetryPtQuestionResponseDto;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.PTInterview;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+import ssafy.i13e206.interview.repository.InterviewRepository;
+import ssafy.i13e206.interview.repository.InterviewSetRepository;
+import ssafy.i13e206.interview.service.InterviewFixtures.Applicant;
+import ssafy.i13e206.user.service.UserPracticeStatsService;
+
+/**
+ * 운영에서는 open-in-view가 꺼져 있어 요청 스레드에 영속성 컨텍스트가 없습니다. (I13e206Application.main)
+ * 테스트는 main을 거치지 않으므로, 트랜잭션 없이 서비스를 호출해 지연 로딩 연관관계를 서비스 트랜잭션 안에서 읽는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:interview-lazy-loading;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({InterviewService.class, InterviewHistoryService.class})
+class InterviewLazyLoadingTest {
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private InterviewHistoryService interviewHistoryService;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private InterviewSetRepository interviewSetRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private GmsDirectService gmsDirectService;
+
+    @MockBean
+    private PtProblemPoolService ptProblemPoolService;
+
+    @MockBean
+    private SpeculativeQuestionService speculativeQuestionService;
+
+    @MockBean
+    private InterviewSessionCacheService interviewSessionCacheService;
+
+    @MockBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    @MockBean
+    private UserPracticeStatsService userPracticeStatsService;
+
+    @MockBean
+    private FeedbackTimelineService feedbackTimelineService;
+
+    @MockBean
+    private TranscriptSearchService transcriptSearchService;
+
+    private Applicant applicant;
+
+    @BeforeEach
+    void setUp() {
+        applicant = transactionTemplate.execute(status -> InterviewFixtures.applicant(entityManager));
+    }
+
+    @Test
+    void 면접을_삭제하면_면접_세트까지_지운다() {
+        Interview interview = transactionTemplate.execute(status -> {
+            Interview saved = InterviewFixtures.interview(entityManager, applicant, InterviewType.JOB);
+            InterviewFixtures.question(entityManager, saved, 1, null);
+            return saved;
+        });
+
+        interviewHistoryService.deleteInterview(interview.getInterviewUuid(), applicant.user().getUserUuid());
+
+        assertThat(interviewRepository.existsById(interview.getInterviewUuid())).isFalse();
+        assertThat(interviewSetRepository.existsById(interview.getInterviewSet().getInterviewSetsUuid())).isFalse();
+    }
+
+    @Test
+    void PT_재시도_문제를_면접_세트와_함께_조회한다() {
+        PTInterview ptInterview = transactionTemplate.execute(status -> {
+            Interview saved = InterviewFixtures.interview(entityManager, applicant, InterviewType.PT);
+            return InterviewFixtures.ptInterview(entityManager, saved);
+        });
+
+        RetryPtQuestionResponseDto response = interviewService.getRetryPtQuestions(ptInterview.getInterview().getInterviewUuid());
+
+        assertThat(response.getInterviewSetUuid()).isEqualTo(ptInterview.getInterview().getInterviewSet().getInterviewSetsUuid());
+        assertThat(response.getPtInterview()).hasSize(1);
+        assertThat(response.getPtInterview().get(0).getAttemptNumber()).isEqualTo(1);
+    }
+}
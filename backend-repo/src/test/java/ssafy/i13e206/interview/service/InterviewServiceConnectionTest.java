@@ -0,0 +1,197 @@
+package ssafy.i13e206.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import ssafy.i13e206.gpt.service.GmsDirectService;
+import ssafy.i13e206.interview.dto.InterviewCreateRequestDto;
+import ssafy.i13e206.interview.dto.InterviewQuestionResponseDto;
+import ssafy.i13e206.interview.dto.InterviewSessionState;
+import ssafy.i13e206.interview.dto.InterviewSetContext;
+import ssafy.i13e206.interview.dto.InterviewStartResponseDto;
+import ssafy.i13e206.interview.dto.PTProblemDto;
+import ssafy.i13e206.interview.dto.RequestQuestionDto;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+import ssafy.i13e206.interview.repository.PTInterviewRepository;
+import ssafy.i13e206.interview.repository.QuestionRepository;
+import ssafy.i13e206.interview.service.InterviewFixtures.Applicant;
+
+/**
+ * LLM 응답을 기다리는 동안 면접 시작/질문 생성이 DB 커넥션을 붙잡지 않는지 확인합니다.
+ * 풀 크기(2)보다 많은 요청을 동시에 걸어 두고, 응답이 오기 전까지 활성 커넥션(hikaricp.connections.active)이 0인지 봅니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:interview-connection;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=2000",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(InterviewService.class)
+class InterviewServiceConnectionTest {
+
+    private static final int POOL_SIZE = 2;
+    private static final int CONCURRENT_CALLS = POOL_SIZE * 3;
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private PTInterviewRepository ptInterviewRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private GmsDirectService gmsDirectService;
+
+    @MockBean
+    private PtProblemPoolService ptProblemPoolService;
+
+    @MockBean
+    private SpeculativeQuestionService speculativeQuestionService;
+
+    @MockBean
+    private InterviewSessionCacheService interviewSessionCacheService;
+
+    @MockBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    private ExecutorService executor;
+    private Applicant applicant;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(CONCURRENT_CALLS);
+        applicant = transactionTemplate.execute(status -> InterviewFixtures.applicant(entityManager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void PT_문제를_생성하는_동안_커넥션을_점유하지_않는다() throws Exception {
+        Sinks.One<PTProblemDto> llmResponse = Sinks.one();
+        CountDownLatch inFlight = new CountDownLatch(CONCURRENT_CALLS);
+        given(ptProblemPoolService.take(any())).willReturn(Optional.empty());
+        given(gmsDirectService.generatePtProblem(anyString(), anyString(), anyString()))
+                .willReturn(llmResponse.asMono().doOnSubscribe(s -> inFlight.countDown()));
+
+        List<CompletableFuture<InterviewStartResponseDto>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            responses.add(CompletableFuture.supplyAsync(() -> interviewService.createInterview(
+                    applicant.user().getUserUuid(), ptRequest()), executor).thenCompose(Mono::toFuture));
+        }
+
+        assertThat(inFlight.await(10, TimeUnit.SECONDS)).isTrue();
+        assertNoConnectionHeld();
+
+        llmResponse.tryEmitValue(new PTProblemDto("PT 제목", "PT 상황"));
+        for (CompletableFuture<InterviewStartResponseDto> response : responses) {
+            assertThat(response.get(10, TimeUnit.SECONDS).getQuestionUuid()).isNotNull();
+        }
+        assertThat(ptInterviewRepository.count()).isEqualTo(CONCURRENT_CALLS);
+    }
+
+    @Test
+    void 질문을_생성하는_동안_커넥션을_점유하지_않는다() throws Exception {
+        Sinks.One<InterviewQuestionResponseDto> llmResponse = Sinks.one();
+        CountDownLatch inFlight = new CountDownLatch(CONCURRENT_CALLS);
+        given(gmsDirectService.generateGeneralQuestions(any(InterviewSetContext.class), anyList(), any()))
+                .willReturn(llmResponse.asMono().doOnSubscribe(s -> inFlight.countDown()));
+
+        List<CompletableFuture<InterviewQuestionResponseDto>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            Interview interview = transactionTemplate.execute(status ->
+                    InterviewFixtures.interview(entityManager, applicant, InterviewType.JOB));
+            given(interviewSessionCacheService.load(interview.getInterviewUuid()))
+                    .willReturn(Optional.of(emptySession(interview)));
+            RequestQuestionDto request = new RequestQuestionDto(interview.getInterviewUuid(), false);
+            responses.add(CompletableFuture.supplyAsync(() -> interviewService.generateQuestions(request), executor)
+                    .thenCompose(Mono::toFuture));
+        }
+
+        assertThat(inFlight.await(10, TimeUnit.SECONDS)).isTrue();
+        assertNoConnectionHeld();
+
+        llmResponse.tryEmitValue(generatedQuestion());
+        for (CompletableFuture<InterviewQuestionResponseDto> response : responses) {
+            assertThat(response.get(10, TimeUnit.SECONDS).getQuestions()).hasSize(1);
+        }
+        assertThat(questionRepository.count()).isEqualTo(CONCURRENT_CALLS);
+    }
+
+    private void assertNoConnectionHeld() throws SQLException {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        assertThat(pool.getActiveConnections()).isZero();
+        assertThat(pool.getThreadsAwaitingConnection()).isZero();
+    }
+
+    private InterviewCreateRequestDto ptRequest() {
+        InterviewCreateRequestDto request = new InterviewCreateRequestDto();
+        request.setRecruitUuid(applicant.recruit().getRecruitUuid());
+        request.setResumeUuid(applicant.resume().getResumeUuid());
+        request.setInterviewType("PT");
+        return request;
+    }
+
+    private InterviewSessionState emptySession(Interview interview) {
+        InterviewSetContext interviewSet = new InterviewSetContext(interview.getInterviewSet().getInterviewSetsUuid(),
+                InterviewType.JOB, InterviewFixtures.ENTERPRISE_NAME, InterviewFixtures.POSITION, "API 서버 개발", null);
+        return new InterviewSessionState(interview.getInterviewUuid(), InterviewType.JOB, interviewSet, List.of());
+    }
+
+    private InterviewQuestionResponseDto generatedQuestion() {
+        return InterviewQuestionResponseDto.builder()
+                .interviewSetUuid("interview-set")
+                .questions(List.of(InterviewQuestionResponseDto.Question.builder()
+                        .question("가장 어려웠던 장애 대응 경험을 설명해 주세요.")
+                        .intent("문제 해결 능력")
+                        .rationale("원인 분석과 재발 방지 과정을 구체적으로 설명합니다.")
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package ssafy.i13e206.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import ssafy.i13e206.gpt.service.GmsDirectService;
+import ssafy.i13e206.interview.dto.PTProblemDto;
+
+/**
+ * 보충 락을 토큰으로 잡고 해제하는지, 락 유효 시간이 백그라운드 대기까지 포함하는지, 풀이 depth를 넘지 않게 넣는지 확인합니다.
+ */
+class PtProblemPoolServiceTest {
+
+    private static final String RECRUIT_UUID = "recruit-1";
+    private static final String POOL_KEY = "ptProblemPool:" + RECRUIT_UUID;
+    private static final String LOCK_KEY = "ptProblemPoolRefill:" + RECRUIT_UUID;
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ListOperations<String, String> listOperations = mock(ListOperations.class);
+    private final GmsDirectService gmsDirectService = mock(GmsDirectService.class);
+    private final PtProblemPoolService ptProblemPoolService =
+            new PtProblemPoolService(redisTemplate, gmsDirectService, new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ptProblemPoolService, "enabled", true);
+        ReflectionTestUtils.setField(ptProblemPoolService, "depth", 3);
+        ReflectionTestUtils.setField(ptProblemPoolService, "ttlSeconds", 86400L);
+        ReflectionTestUtils.setField(ptProblemPoolService, "refillConcurrency", 2);
+        ReflectionTestUtils.setField(ptProblemPoolService, "refillLockSeconds", 180L);
+        ReflectionTestUtils.setField(ptProblemPoolService, "backgroundMaxWaitMs", 300_000L);
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+        given(gmsDirectService.generatePtProblem(anyString(), anyString(), anyString()))
+                .willReturn(Mono.just(PTProblemDto.builder().title("신규 서비스 설계").build()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 보충_락은_토큰으로_잡고_같은_토큰일_때만_해제한다() {
+        given(listOperations.size(POOL_KEY)).willReturn(0L);
+        // 3개 부족, 동시 2개 -> 2차례 x (대기 300초 + 호출 180초)
+        ArgumentCaptor<String> lockToken = ArgumentCaptor.forClass(String.class);
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), lockToken.capture(), eq(2 * (300L + 180L)), eq(TimeUnit.SECONDS)))
+                .willReturn(true);
+
+        ptProblemPoolService.refill(RECRUIT_UUID, "삼성전자", "백엔드", "API 서버 개발");
+
+        assertThat(lockToken.getValue()).isNotEqualTo("1");
+        verify(redisTemplate, times(3))
+                .execute(any(RedisScript.class), eq(List.of(POOL_KEY)), anyString(), eq("3"), eq("86400"));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq(lockToken.getValue()));
+        verify(redisTemplate, never()).delete(LOCK_KEY);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 풀이_가득_차_있으면_락을_잡지_않는다() {
+        given(listOperations.size(POOL_KEY)).willReturn(3L);
+
+        ptProblemPoolService.refill(RECRUIT_UUID, "삼성전자", "백엔드", "API 서버 개발");
+
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(List.class), any());
+    }
+}
@@ -0,0 +1,102 @@
+package ssafy.i13e206.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import ssafy.i13e206.gpt.service.GmsDirectService;
+import ssafy.i13e206.gpt.service.LlmDispatcher;
+import ssafy.i13e206.interview.dto.InterviewQuestionResponseDto;
+import ssafy.i13e206.interview.dto.InterviewSessionState;
+import ssafy.i13e206.interview.dto.InterviewSetContext;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+
+/**
+ * 실제 LlmDispatcher를 거쳐 예측 질문을 만들고, 슬롯을 받기 전이면 claim이 예측을 취소하고 대기열에서 빼는지 확인합니다.
+ */
+class SpeculativeQuestionServiceTest {
+
+    private static final String INTERVIEW_UUID = "interview-1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LlmDispatcher llmDispatcher = new LlmDispatcher(meterRegistry);
+    private final InterviewSessionCacheService interviewSessionCacheService = mock(InterviewSessionCacheService.class);
+    private final GmsDirectService gmsDirectService = mock(GmsDirectService.class);
+    private final SpeculativeQuestionService speculativeQuestionService =
+            new SpeculativeQuestionService(interviewSessionCacheService, gmsDirectService, Schedulers.immediate());
+
+    private final AtomicBoolean llmCalled = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(speculativeQuestionService, "enabled", true);
+        ReflectionTestUtils.setField(speculativeQuestionService, "ttlSeconds", 1800L);
+
+        ReflectionTestUtils.setField(llmDispatcher, "maxConcurrency", 16);
+        ReflectionTestUtils.setField(llmDispatcher, "interactiveQueueCapacity", 100);
+        ReflectionTestUtils.setField(llmDispatcher, "backgroundQueueCapacity", 500);
+        ReflectionTestUtils.setField(llmDispatcher, "interactiveMaxWaitMs", 10_000L);
+        ReflectionTestUtils.setField(llmDispatcher, "backgroundMaxWaitMs", 300_000L);
+        ReflectionTestUtils.invokeMethod(llmDispatcher, "registerMeters");
+
+        InterviewSetContext interviewSet = new InterviewSetContext("interview-set", InterviewType.JOB,
+                InterviewFixtures.ENTERPRISE_NAME, InterviewFixtures.POSITION, "API 서버 개발", null);
+        given(interviewSessionCacheService.load(INTERVIEW_UUID))
+                .willReturn(Optional.of(new InterviewSessionState(INTERVIEW_UUID, InterviewType.JOB, interviewSet, List.of())));
+        given(gmsDirectService.generateGeneralQuestions(any(InterviewSetContext.class), anyList(), any()))
+                .willReturn(llmDispatcher.submit(Mono.fromCallable(() -> {
+                    llmCalled.set(true);
+                    return generatedQuestion();
+                })));
+    }
+
+    @Test
+    void 슬롯을_기다리는_예측_질문은_취소하고_대기열에서_뺀다() {
+        // 백그라운드 슬롯이 모두 찬 상황
+        ReflectionTestUtils.setField(llmDispatcher, "backgroundMaxConcurrency", 0);
+        speculativeQuestionService.speculate(INTERVIEW_UUID);
+        assertThat(queuedBackground()).isEqualTo(1);
+
+        Optional<Mono<InterviewQuestionResponseDto>> claimed = speculativeQuestionService.claim(INTERVIEW_UUID, List.of());
+
+        assertThat(claimed).isEmpty();
+        assertThat(queuedBackground()).isZero();
+        assertThat(llmCalled).isFalse();
+    }
+
+    @Test
+    void 슬롯을_받은_예측_질문은_그대로_사용한다() {
+        ReflectionTestUtils.setField(llmDispatcher, "backgroundMaxConcurrency", 4);
+        speculativeQuestionService.speculate(INTERVIEW_UUID);
+
+        Optional<Mono<InterviewQuestionResponseDto>> claimed = speculativeQuestionService.claim(INTERVIEW_UUID, List.of());
+
+        assertThat(claimed).isPresent();
+        assertThat(claimed.get().block().getQuestions().get(0).getQuestion()).isEqualTo("예측한 다음 질문");
+    }
+
+    private double queuedBackground() {
+        return meterRegistry.get("llm.dispatcher.queued").tag("priority", "background").gauge().value();
+    }
+
+    private InterviewQuestionResponseDto generatedQuestion() {
+        return InterviewQuestionResponseDto.builder()
+                .interviewSetUuid("interview-set")
+                .questions(List.of(InterviewQuestionResponseDto.Question.builder()
+                        .id("question-1")
+                        .question("예측한 다음 질문")
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package ssafy.i13e206.user.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.RedisTemplate;
+import ssafy.i13e206.interview.entity.Interview;
+import ssafy.i13e206.interview.entity.enums.InterviewType;
+import ssafy.i13e206.user.entity.User;
+import ssafy.i13e206.user.repository.UserPracticeStatsRepository;
+
+class UserPracticeStatsServiceTest {
+
+    private static final String USER_UUID = "user-1";
+
+    private final UserPracticeStatsRepository userPracticeStatsRepository = mock(UserPracticeStatsRepository.class);
+    @SuppressWarnings("unchecked")
+    private final UserPracticeStatsService userPracticeStatsService =
+            new UserPracticeStatsService(userPracticeStatsRepository, mock(RedisTemplate.class));
+
+    @Test
+    void 통계_행이_없으면_이번_면접까지_포함해_재계산한다() {
+        given(userPracticeStatsRepository.existsById(USER_UUID)).willReturn(false);
+
+        userPracticeStatsService.recordFinished(finishedInterview(), null);
+
+        InOrder order = inOrder(userPracticeStatsRepository);
+        order.verify(userPracticeStatsRepository).flush();
+        order.verify(userPracticeStatsRepository).rebuildForUser(USER_UUID);
+        verify(userPracticeStatsRepository, never())
+                .addFinished(anyString(), anyInt(), anyLong(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void 통계_행이_있으면_이번_면접만_더한다() {
+        given(userPracticeStatsRepository.existsById(USER_UUID)).willReturn(true);
+        Interview interview = finishedInterview();
+
+        userPracticeStatsService.recordFinished(interview, null);
+
+        verify(userPracticeStatsRepository).addFinished(USER_UUID, 1, 1800, 0, 1, 0, interview.getFinishedAt());
+        verify(userPracticeStatsRepository, never()).rebuildForUser(anyString());
+    }
+
+    private Interview finishedInterview() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 1, 10, 0);
+        return Interview.builder()
+                .interviewUuid("interview-1")
+                .user(User.builder().userUuid(USER_UUID).build())
+                .interviewType(InterviewType.JOB)
+                .createdAt(createdAt)
+                .finishedAt(createdAt.plusMinutes(30))
+                .build();
+    }
+}